@@ -0,0 +1,39 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+/**
+ * Broadcasts cache invalidations between the instances of a service, so that in-process caches
+ * drop entries changed elsewhere. Implementations do not deliver an instance its own messages.
+ * @param <K> the cache key type
+ */
+public interface ICacheInvalidationChannel<K> extends AutoCloseable {
+
+    interface Listener<K> {
+
+        void onDelete(K key);
+
+        void onClear();
+    }
+
+    void publishDelete(K key);
+
+    void publishClear();
+
+    void subscribe(Listener<K> listener);
+
+    @Override
+    void close();
+}
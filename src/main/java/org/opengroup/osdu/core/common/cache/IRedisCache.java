@@ -17,6 +17,10 @@ package org.opengroup.osdu.core.common.cache;
 
 
 import io.lettuce.core.codec.RedisCodec;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface that extends ICache with Redis specific functionalities.
@@ -64,6 +68,74 @@ public interface IRedisCache<K, O> extends ICache<K, O> {
      */
     Long decrementBy(K key, long amount);
 
+    /**
+     * Gets the values of several keys in one round-trip. Keys without a value are not in the returned map
+     */
+    default Map<K, O> getAll(Collection<K> keys) {
+        Map<K, O> values = new HashMap<>();
+        for (K key : keys) {
+            O value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Puts several entries in cache with ttl measured in milliseconds
+     */
+    default void putAll(Map<K, O> entries, long ttl) {
+        entries.forEach((key, value) -> put(key, ttl, value));
+    }
+
+    /**
+     * Deletes several keys in one round-trip
+     */
+    default void deleteAll(Collection<K> keys) {
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * Deletes the string keys starting with the given prefix, e.g. the keys of one tenant, without
+     * blocking the server the way KEYS does
+     *
+     * @throws UnsupportedOperationException if the keys of the cache cannot be listed
+     */
+    default void deleteByPrefix(String prefix) {
+        throw new UnsupportedOperationException("Deleting keys by prefix is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Gets the value of a key without blocking the calling thread
+     */
+    default CompletableFuture<O> getAsync(K key) {
+        return CompletableFuture.completedFuture(get(key));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAll(Collection)}
+     */
+    default CompletableFuture<Map<K, O>> getAllAsync(Collection<K> keys) {
+        return CompletableFuture.completedFuture(getAll(keys));
+    }
+
+    /**
+     * Asynchronous variant of {@link #putAll(Map, long)}
+     */
+    default CompletableFuture<Void> putAllAsync(Map<K, O> entries, long ttl) {
+        putAll(entries, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteAll(Collection)}
+     */
+    default CompletableFuture<Void> deleteAllAsync(Collection<K> keys) {
+        deleteAll(keys);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Get codec for performing encoding and decoding of key and values present in redis cache
      */
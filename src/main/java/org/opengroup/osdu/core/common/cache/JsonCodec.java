@@ -16,10 +16,8 @@ package org.opengroup.osdu.core.common.cache;
 
 import com.google.gson.Gson;
 import io.lettuce.core.codec.RedisCodec;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 public class JsonCodec<K, V> implements RedisCodec<K, V> {
 
@@ -44,22 +42,16 @@ public class JsonCodec<K, V> implements RedisCodec<K, V> {
 
     @Override
     public ByteBuffer encodeKey(K k) {
-        return k == null ? ByteBuffer.wrap(new byte[0]) : ByteBuffer.wrap(gson.toJson(k).getBytes());
+        return k == null ? ByteBuffer.wrap(new byte[0]) : ByteBuffer.wrap(gson.toJson(k).getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
     public ByteBuffer encodeValue(V v) {
-        return v == null ? ByteBuffer.wrap(new byte[0]) : ByteBuffer.wrap(gson.toJson(v).getBytes());
+        return v == null ? ByteBuffer.wrap(new byte[0]) : ByteBuffer.wrap(gson.toJson(v).getBytes(StandardCharsets.UTF_8));
     }
 
     private <T> T decode(ByteBuffer bytes, Class<T> classOf) {
-        byte[] array = new byte[bytes.remaining()];
-        bytes.get(array);
-        try (InputStreamReader stream = new InputStreamReader(new ByteArrayInputStream(array))) {
-            return gson.fromJson(stream, classOf);
-        } catch (IOException e) {
-            System.err.println(String.format("Unexpected error decoding from redis cache: %s", e.getMessage()));
-            return null;
-        }
+        // decode straight from the buffer instead of copying it into a reader chain
+        return gson.fromJson(StandardCharsets.UTF_8.decode(bytes).toString(), classOf);
     }
 }
@@ -16,29 +16,81 @@ package org.opengroup.osdu.core.common.cache;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * Hands out one {@link TenantSafeCache} per partition. The tenants either share one wrapped cache,
+ * or each tenant gets its own cache from a factory, which bounds its size and expiration
+ * independently of the other tenants. Clearing or evicting a tenant of a shared cache only deletes
+ * the keys of the tenant, see {@link TenantSafeCache#clearAll()}.
+ */
 public class MultiTenantCache<V> {
     private final ICache<String, V> wrappedCache;
-    private final Map<String, TenantSafeCache> tenantCaches = new HashMap<>();
+    private final Function<String, ICache<String, V>> tenantCacheFactory;
+    private final Map<String, TenantSafeCache<V>> tenantCaches = new ConcurrentHashMap<>();
 
     public MultiTenantCache(ICache<String, V> cache) {
         this.wrappedCache = cache;
+        this.tenantCacheFactory = null;
+    }
+
+    /**
+     * Gives every tenant its own in-memory cache with the same quota.
+     */
+    public MultiTenantCache(int expirationSeconds, int maximumSizePerTenant) {
+        this(tenantName -> new VmCache<>(expirationSeconds, maximumSizePerTenant));
+    }
+
+    /**
+     * @param tenantCacheFactory creates the cache of a tenant on first use, e.g. with a quota
+     *                           depending on the tenant
+     */
+    public MultiTenantCache(Function<String, ICache<String, V>> tenantCacheFactory) {
+        this.wrappedCache = null;
+        this.tenantCacheFactory = tenantCacheFactory;
     }
 
     public ICache<String, V> get(String partition) {
         String tenantName = partition;
         if (StringUtils.isBlank(tenantName))
             invalidTenantGivenException(tenantName);
-        if (!tenantCaches.containsKey(tenantName)) {
-            addCache(tenantName);
+        TenantSafeCache<V> cache = tenantCaches.get(tenantName);
+        return cache != null ? cache : tenantCaches.computeIfAbsent(tenantName, this::createCache);
+    }
+
+    /**
+     * Forgets the cache of the partition and clears its entries.
+     */
+    public void evict(String partition) {
+        TenantSafeCache<V> cache = tenantCaches.remove(partition);
+        if (cache != null) {
+            cache.clearAll();
         }
-        return tenantCaches.get(tenantName);
     }
 
-    private void addCache(String tenantName) {
-        tenantCaches.put(tenantName, new TenantSafeCache<>(tenantName, wrappedCache));
+    public Set<String> getTenants() {
+        return Collections.unmodifiableSet(tenantCaches.keySet());
+    }
+
+    public long getHitCount(String partition) {
+        TenantSafeCache<V> cache = tenantCaches.get(partition);
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    public long getMissCount(String partition) {
+        TenantSafeCache<V> cache = tenantCaches.get(partition);
+        return cache == null ? 0 : cache.getMissCount();
+    }
+
+    private TenantSafeCache<V> createCache(String tenantName) {
+        if (tenantCacheFactory != null) {
+            return new TenantSafeCache<>(tenantName, tenantCacheFactory.apply(tenantName), true);
+        }
+        return new TenantSafeCache<>(tenantName, wrappedCache);
     }
 
     private void invalidTenantGivenException(String tenantName) {
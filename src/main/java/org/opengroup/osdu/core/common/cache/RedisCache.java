@@ -15,21 +15,41 @@
 package org.opengroup.osdu.core.common.cache;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
 import io.lettuce.core.SetArgs;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.CompressionCodec;
 import io.lettuce.core.codec.RedisCodec;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Slf4j
 public class RedisCache<K, V> implements IRedisCache<K, V>, AutoCloseable {
 
+    private static final int SCAN_PAGE_SIZE = 1000;
+    // prefixes encoded as is by the codecs and without glob special characters
+    private static final Pattern SCAN_SAFE_PREFIX = Pattern.compile("[A-Za-z0-9_.:-]*");
+
     private final StatefulRedisConnection<K, V> connection;
     private final RedisClient client;
     private final RedisCommands<K, V> commands;
@@ -107,6 +127,20 @@ public class RedisCache<K, V> implements IRedisCache<K, V>, AutoCloseable {
         expireLengthSeconds = expTimeSeconds;
     }
 
+    /**
+     * Creates a cache using the given codec instead of the default {@link #getCodec(Class, Class)},
+     * for example a {@link ThresholdCompressionCodec} over a {@link SmileCodec}
+     */
+    public RedisCache(RedisURI uri, int expTimeSeconds, ClientOptions clientOptions, RedisCodec<K, V> codec) {
+        client = RedisClient.create(uri);
+        if (clientOptions != null) {
+            client.setOptions(clientOptions);
+        }
+        connection = client.connect(codec);
+        commands = connection.sync();
+        expireLengthSeconds = expTimeSeconds;
+    }
+
     public RedisCache(String host, int port, int expTimeSeconds, int database,
                       Class<K> classOfK, Class<V> classOfV) {
         this(host, port, expTimeSeconds, database, null, classOfK, classOfV);
@@ -180,6 +214,120 @@ public class RedisCache<K, V> implements IRedisCache<K, V>, AutoCloseable {
         return value;
     }
 
+    /**
+     * Gets the values of several keys with a single MGET
+     */
+    @Override
+    public Map<K, V> getAll(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return toMap(commands.mget(toArray(keys)));
+        } catch (RedisException e) {
+            logErrorMessage(e);
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Puts several entries with ttl measured in milliseconds. The SET commands are all sent before
+     * waiting for the first reply, so the entries cost a single round-trip.
+     */
+    @Override
+    public void putAll(Map<K, V> entries, long ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            List<RedisFuture<String>> futures = this.sendSetCommands(entries, ttl);
+            Duration timeout = connection.getTimeout();
+            if (!LettuceFutures.awaitAll(timeout.toMillis(), TimeUnit.MILLISECONDS, futures.toArray(new RedisFuture[0]))) {
+                log.error("Redis does not work. Reason: putAll timed out after {} ms", timeout.toMillis());
+            }
+        } catch (RedisException e) {
+            logErrorMessage(e);
+        }
+    }
+
+    /**
+     * Deletes several keys with a single DEL
+     */
+    @Override
+    public void deleteAll(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            commands.del(toArray(keys));
+        } catch (RedisException e) {
+            logErrorMessage(e);
+        }
+    }
+
+    /**
+     * Deletes the string keys starting with the given prefix, one SCAN page at a time. The page is
+     * narrowed down on the server to the keys containing the prefix when it has no character the
+     * codec could escape, and the decoded keys are matched here.
+     */
+    @Override
+    public void deleteByPrefix(String prefix) {
+        ScanArgs args = ScanArgs.Builder.matches(SCAN_SAFE_PREFIX.matcher(prefix).matches() ? "*" + prefix + "*" : "*")
+                .limit(SCAN_PAGE_SIZE);
+        try {
+            KeyScanCursor<K> cursor = commands.scan(args);
+            while (true) {
+                List<K> keys = new ArrayList<>();
+                for (K key : cursor.getKeys()) {
+                    if (key instanceof String && ((String) key).startsWith(prefix)) {
+                        keys.add(key);
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    commands.del(toArray(keys));
+                }
+                if (cursor.isFinished()) {
+                    return;
+                }
+                cursor = commands.scan(cursor, args);
+            }
+        } catch (RedisException e) {
+            logErrorMessage(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<V> getAsync(K key) {
+        return withErrorLogging(() -> asyncCommands().get(key).toCompletableFuture(), null);
+    }
+
+    @Override
+    public CompletableFuture<Map<K, V>> getAllAsync(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return withErrorLogging(() -> asyncCommands().mget(toArray(keys)).toCompletableFuture().thenApply(RedisCache::toMap),
+                Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<Void> putAllAsync(Map<K, V> entries, long ttl) {
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return withErrorLogging(() -> CompletableFuture.allOf(this.sendSetCommands(entries, ttl).stream()
+                .map(RedisFuture::toCompletableFuture)
+                .toArray(CompletableFuture[]::new)), null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync(Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return withErrorLogging(() -> asyncCommands().del(toArray(keys)).toCompletableFuture().thenApply(deleted -> (Void) null), null);
+    }
+
     @Override
     public void delete(K key) {
         try {
@@ -297,6 +445,53 @@ public class RedisCache<K, V> implements IRedisCache<K, V>, AutoCloseable {
         return CompressionCodec.valueCompressor(new JsonCodec<>(classOfK, classOfV), CompressionCodec.CompressionType.GZIP);
     }
 
+    private RedisAsyncCommands<K, V> asyncCommands() {
+        return connection.async();
+    }
+
+    private List<RedisFuture<String>> sendSetCommands(Map<K, V> entries, long ttl) {
+        RedisAsyncCommands<K, V> async = asyncCommands();
+        List<RedisFuture<String>> futures = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            SetArgs args = new SetArgs();
+            args.px(ttl);
+            futures.add(async.set(entry.getKey(), entry.getValue(), args));
+        }
+        return futures;
+    }
+
+    /**
+     * Sends the commands and completes with {@code fallback} if they fail, whether the failure is
+     * thrown while sending, e.g. when the connection is closed, or completes the reply.
+     */
+    private <T> CompletableFuture<T> withErrorLogging(Supplier<CompletableFuture<T>> send, T fallback) {
+        CompletableFuture<T> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.exceptionally(e -> {
+            logErrorMessage(e instanceof Exception ? (Exception) e : new RedisException(e));
+            return fallback;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K[] toArray(Collection<K> keys) {
+        return (K[]) keys.toArray();
+    }
+
+    private static <K, V> Map<K, V> toMap(List<KeyValue<K, V>> keyValues) {
+        Map<K, V> values = new LinkedHashMap<>();
+        for (KeyValue<K, V> keyValue : keyValues) {
+            if (keyValue.hasValue()) {
+                values.put(keyValue.getKey(), keyValue.getValue());
+            }
+        }
+        return values;
+    }
+
     private void logErrorMessage(Exception e) {
         StringBuilder errorMessage = new StringBuilder("Redis does not work.");
         if (StringUtils.isNotBlank(e.getMessage())) {
@@ -0,0 +1,121 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import com.google.gson.Gson;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ICacheInvalidationChannel} on a Redis pub/sub channel. Each message carries the id of the
+ * publishing instance, so an instance ignores the invalidations it sent itself.
+ */
+@Slf4j
+public class RedisCacheInvalidationChannel<K> implements ICacheInvalidationChannel<K> {
+
+    private static final char SEPARATOR = '|';
+    private static final char DELETE = 'D';
+    private static final char CLEAR = 'C';
+
+    private final String channel;
+    private final Class<K> classOfK;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Gson gson = new Gson();
+    private final List<Listener<K>> listeners = new CopyOnWriteArrayList<>();
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, String> publishConnection;
+    private final StatefulRedisPubSubConnection<String, String> subscribeConnection;
+
+    public RedisCacheInvalidationChannel(String host, int port, String channel, Class<K> classOfK) {
+        this(new RedisURI(host, port, Duration.ofSeconds(30)), channel, classOfK);
+    }
+
+    public RedisCacheInvalidationChannel(RedisURI uri, String channel, Class<K> classOfK) {
+        this.channel = channel;
+        this.classOfK = classOfK;
+        this.client = RedisClient.create(uri);
+        this.publishConnection = client.connect(StringCodec.UTF8);
+        this.subscribeConnection = client.connectPubSub(StringCodec.UTF8);
+        this.subscribeConnection.addListener(new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void message(String messageChannel, String message) {
+                if (RedisCacheInvalidationChannel.this.channel.equals(messageChannel)) {
+                    onMessage(message);
+                }
+            }
+        });
+        this.subscribeConnection.sync().subscribe(channel);
+    }
+
+    @Override
+    public void publishDelete(K key) {
+        publish(DELETE + gson.toJson(key));
+    }
+
+    @Override
+    public void publishClear() {
+        publish(String.valueOf(CLEAR));
+    }
+
+    @Override
+    public void subscribe(Listener<K> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        subscribeConnection.close();
+        publishConnection.close();
+        client.shutdown();
+    }
+
+    String encode(String payload) {
+        return instanceId + SEPARATOR + payload;
+    }
+
+    void onMessage(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || separator + 1 >= message.length() || instanceId.equals(message.substring(0, separator))) {
+            return;
+        }
+        char type = message.charAt(separator + 1);
+        for (Listener<K> listener : listeners) {
+            if (type == CLEAR) {
+                listener.onClear();
+            } else if (type == DELETE) {
+                listener.onDelete(gson.fromJson(message.substring(separator + 2), classOfK));
+            }
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            publishConnection.async().publish(channel, encode(payload));
+        } catch (RedisException e) {
+            log.error("Redis does not work. Reason: cache invalidation was not published: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,287 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loading cache in front of an {@link ICache}. A value read more than one refresh interval after it
+ * was loaded is still returned, but reloaded in the background, so callers do not wait for the
+ * source once the entry expires. Concurrent loads of the same key are de-duplicated, and a failed
+ * refresh keeps the current value and is retried one interval later. After
+ * {@link #MAX_FAILED_REFRESHES} failed refreshes in a row the value is no longer served: the key is
+ * loaded on the calling thread, so the failure reaches the caller until a load succeeds.
+ * <p>
+ * The refresh interval should be shorter than the expiration of the wrapped cache, otherwise
+ * entries expire before they are refreshed and are loaded again on the calling thread.
+ * <p>
+ * Refreshes and warm-ups run the loader on the given executor, by default a bounded pool of daemon
+ * threads outside of any request. A loader using request scoped beans, directly or through the
+ * beans it calls, must be given {@link #CALLING_THREAD}: the refresh then runs on the thread of the
+ * request finding the value due, and warm-ups load one key after the other.
+ * <p>
+ * The refresh bookkeeping of a key is dropped when its value is found missing, and when the key is
+ * not read for {@link #MIN_BOOKKEEPING_RETENTION} or four refresh intervals, whichever is longer.
+ *
+ * @param <E> the checked exception thrown by the loader
+ */
+@Slf4j
+public class RefreshAheadCache<K, V, E extends Exception> {
+
+    @FunctionalInterface
+    public interface Loader<K, V, E extends Exception> {
+        V load(K key) throws E;
+    }
+
+    public static final int DEFAULT_WARM_UP_CONCURRENCY = 8;
+    public static final int MAX_FAILED_REFRESHES = 3;
+    public static final Duration MIN_BOOKKEEPING_RETENTION = Duration.ofMinutes(10);
+
+    /**
+     * Runs the loads on the thread asking for them.
+     */
+    public static final Executor CALLING_THREAD = Runnable::run;
+
+    private static final int DEFAULT_EXECUTOR_THREADS = 8;
+    private static final int DEFAULT_EXECUTOR_QUEUE_SIZE = 1024;
+
+    /**
+     * Bounded pool of daemon threads shared by the caches refreshing in the background.
+     */
+    public static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private final ICache<K, V> cache;
+    private final Loader<K, V, E> loader;
+    private final long refreshIntervalNanos;
+    private final Executor executor;
+
+    private final ConcurrentMap<K, Long> refreshDeadlines;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Integer> failedRefreshes;
+
+    /**
+     * Refreshes in the background, the loader must not need the request being served.
+     */
+    public RefreshAheadCache(ICache<K, V> cache, Loader<K, V, E> loader, Duration refreshInterval) {
+        this(cache, loader, refreshInterval, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * @param executor runs the refreshes and warm-up loads, {@link #CALLING_THREAD} for a loader
+     *                 which needs the request being served
+     */
+    public RefreshAheadCache(ICache<K, V> cache, Loader<K, V, E> loader, Duration refreshInterval, Executor executor) {
+        this.cache = cache;
+        this.loader = loader;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.executor = executor;
+        long retentionNanos = Math.max(MIN_BOOKKEEPING_RETENTION.toNanos(),
+                refreshIntervalNanos > Long.MAX_VALUE / 4 ? Long.MAX_VALUE : refreshIntervalNanos * 4);
+        this.refreshDeadlines = CacheBuilder.newBuilder()
+                .expireAfterAccess(retentionNanos, TimeUnit.NANOSECONDS).<K, Long>build().asMap();
+        this.failedRefreshes = CacheBuilder.newBuilder()
+                .expireAfterAccess(retentionNanos, TimeUnit.NANOSECONDS).<K, Integer>build().asMap();
+    }
+
+    public V get(K key) throws E {
+        V value = cache.get(key);
+        if (value == null) {
+            // expired or evicted from the wrapped cache
+            refreshDeadlines.remove(key);
+            failedRefreshes.remove(key);
+        } else {
+            if (failedRefreshes.getOrDefault(key, 0) >= MAX_FAILED_REFRESHES) {
+                // the value is too old to be served any longer, the caller gets the failure of the load
+                return await(load(key, Runnable::run));
+            }
+            refreshIfDue(key);
+            return value;
+        }
+        return await(load(key, Runnable::run));
+    }
+
+    /**
+     * Loads the given keys that are not cached yet, at most {@code maxConcurrency} at a time, and
+     * returns the values of all keys in the iteration order of {@code keys}. Keys failing to load
+     * are reported to {@code onFailure} and left out of the result.
+     */
+    public Map<K, V> warmUp(Collection<K> keys, int maxConcurrency, BiConsumer<K, Throwable> onFailure) {
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        Map<K, V> cached = getCached(distinctKeys);
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        Map<K, CompletableFuture<V>> loads = new LinkedHashMap<>();
+        for (K key : distinctKeys) {
+            V value = cached.get(key);
+            if (value != null) {
+                loads.put(key, CompletableFuture.completedFuture(value));
+            } else {
+                permits.acquireUninterruptibly();
+                loads.put(key, load(key, executor).whenComplete((loaded, e) -> permits.release()));
+            }
+        }
+        Map<K, V> values = new LinkedHashMap<>();
+        loads.forEach((key, load) -> {
+            try {
+                V value = load.join();
+                if (value != null) {
+                    values.put(key, value);
+                }
+            } catch (CompletionException e) {
+                onFailure.accept(key, e.getCause());
+            }
+        });
+        return values;
+    }
+
+    public Map<K, V> warmUp(Collection<K> keys, BiConsumer<K, Throwable> onFailure) {
+        return warmUp(keys, DEFAULT_WARM_UP_CONCURRENCY, onFailure);
+    }
+
+    public Map<K, V> warmUp(Collection<K> keys) {
+        return warmUp(keys, (key, e) -> log.warn("Failed to load {} into the cache: {}", key, e.getMessage()));
+    }
+
+    public void delete(K key) {
+        cache.delete(key);
+        refreshDeadlines.remove(key);
+        failedRefreshes.remove(key);
+    }
+
+    public void clearAll() {
+        cache.clearAll();
+        refreshDeadlines.clear();
+        failedRefreshes.clear();
+    }
+
+    /**
+     * Returns the number of keys whose refresh is tracked.
+     */
+    int getTrackedKeyCount() {
+        return refreshDeadlines.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> getCached(Set<K> keys) {
+        if (cache instanceof IRedisCache) {
+            // one round trip instead of one per key
+            return ((IRedisCache<K, V>) cache).getAll(keys);
+        }
+        Map<K, V> values = new HashMap<>();
+        for (K key : keys) {
+            V value = cache.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    private void refreshIfDue(K key) {
+        long now = System.nanoTime();
+        Long deadline = refreshDeadlines.get(key);
+        if (deadline == null) {
+            // loaded by another instance sharing the wrapped cache
+            refreshDeadlines.putIfAbsent(key, now + refreshIntervalNanos);
+            return;
+        }
+        if (now - deadline < 0 || inFlight.containsKey(key)) {
+            return;
+        }
+        // only the thread moving the deadline triggers the refresh
+        if (refreshDeadlines.replace(key, deadline, now + refreshIntervalNanos)) {
+            load(key, executor).whenComplete((value, e) -> {
+                if (e != null) {
+                    int failures = failedRefreshes.merge(key, 1, Integer::sum);
+                    log.warn("Failed to refresh {} ({} in a row), the cached value is kept: {}", key, failures, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private CompletableFuture<V> load(K key, Executor loadExecutor) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> pending = inFlight.putIfAbsent(key, load);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            loadExecutor.execute(() -> {
+                try {
+                    V value = loader.load(key);
+                    if (value != null) {
+                        cache.put(key, value);
+                        refreshDeadlines.put(key, System.nanoTime() + refreshIntervalNanos);
+                    }
+                    failedRefreshes.remove(key);
+                    load.complete(value);
+                } catch (Throwable e) {
+                    load.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, load);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, load);
+            load.completeExceptionally(e);
+        }
+        return load;
+    }
+
+    private static Executor createDefaultExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_THREADS, DEFAULT_EXECUTOR_THREADS,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "refresh-ahead-cache");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V await(CompletableFuture<V> load) throws E {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            // the loader only throws E or unchecked exceptions
+            throw (E) e.getCause();
+        }
+    }
+}
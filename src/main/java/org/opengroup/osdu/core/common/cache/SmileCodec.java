@@ -0,0 +1,109 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.lettuce.core.codec.RedisCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link RedisCodec} storing values in the binary Smile encoding of Jackson. {@code String} keys
+ * are written as raw UTF-8 without JSON quoting, other key types as Smile. Values are decoded
+ * directly from the buffer handed over by Lettuce.
+ * <p>
+ * Values are mapped with Jackson, so the cached types need to be Jackson (de)serializable.
+ * Entries written by {@link JsonCodec} cannot be read with this codec.
+ */
+public class SmileCodec<K, V> implements RedisCodec<K, V> {
+
+    private static final ObjectMapper MAPPER = SmileMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Class<K> classOfK;
+    private final ObjectReader keyReader;
+    private final ObjectWriter keyWriter;
+    private final ObjectReader valueReader;
+    private final ObjectWriter valueWriter;
+
+    public SmileCodec(Class<K> classOfK, Class<V> classOfV) {
+        this.classOfK = classOfK;
+        this.keyReader = MAPPER.readerFor(classOfK);
+        this.keyWriter = MAPPER.writerFor(classOfK);
+        this.valueReader = MAPPER.readerFor(classOfV);
+        this.valueWriter = MAPPER.writerFor(classOfV);
+    }
+
+    @Override
+    public K decodeKey(ByteBuffer bytes) {
+        if (classOfK == String.class) {
+            return classOfK.cast(StandardCharsets.UTF_8.decode(bytes).toString());
+        }
+        return decode(bytes, keyReader);
+    }
+
+    @Override
+    public V decodeValue(ByteBuffer bytes) {
+        return decode(bytes, valueReader);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(K k) {
+        if (k == null) {
+            return ByteBuffer.wrap(new byte[0]);
+        }
+        if (classOfK == String.class) {
+            return ByteBuffer.wrap(((String) k).getBytes(StandardCharsets.UTF_8));
+        }
+        return encode(k, keyWriter);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(V v) {
+        return v == null ? ByteBuffer.wrap(new byte[0]) : encode(v, valueWriter);
+    }
+
+    private static <T> T decode(ByteBuffer bytes, ObjectReader reader) {
+        if (!bytes.hasRemaining()) {
+            return null;
+        }
+        try {
+            if (bytes.hasArray()) {
+                T value = reader.readValue(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+                return value;
+            }
+            return reader.readValue(new ByteBufferBackedInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected error decoding from redis cache", e);
+        }
+    }
+
+    private static ByteBuffer encode(Object value, ObjectWriter writer) {
+        try {
+            return ByteBuffer.wrap(writer.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected error encoding for redis cache", e);
+        }
+    }
+}
@@ -14,17 +14,39 @@
 
 package org.opengroup.osdu.core.common.cache;
 
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Prefixes the keys of one tenant before they reach the wrapped cache. {@link #clearAll()} only
+ * deletes the keys starting with the tenant name when the wrapped cache can list its keys, i.e. a
+ * {@link VmCache} or an {@link IRedisCache} supporting {@link IRedisCache#deleteByPrefix(String)},
+ * so that the other tenants sharing the cache keep their entries. Other caches are cleared as a
+ * whole. The keys are not separated from the tenant name, so clearing a tenant also drops the
+ * entries of the tenants whose name starts with its name, which only costs them a reload.
+ */
 public class TenantSafeCache<V> implements ICache<String, V> {
     private final String tenantName;
     private final ICache<String, V> wrapped;
+    private final boolean dedicatedCache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
     public TenantSafeCache(String tenantName, ICache<String, V> wrapped) {
+        this(tenantName, wrapped, false);
+    }
+
+    /**
+     * @param dedicatedCache whether the wrapped cache only holds the entries of this tenant, in which
+     *                       case {@link #clearAll()} clears it as a whole
+     */
+    public TenantSafeCache(String tenantName, ICache<String, V> wrapped, boolean dedicatedCache) {
         if (StringUtils.isBlank(tenantName))
             throw new NullPointerException("partition name not given");
         this.tenantName = tenantName;
         this.wrapped = wrapped;
+        this.dedicatedCache = dedicatedCache;
     }
 
     @Override
@@ -34,7 +56,13 @@ public class TenantSafeCache<V> implements ICache<String, V> {
 
     @Override
     public V get(String k) {
-        return wrapped.get(generateKey(k));
+        V value = wrapped.get(generateKey(k));
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
     }
 
     @Override
@@ -44,7 +72,40 @@ public class TenantSafeCache<V> implements ICache<String, V> {
 
     @Override
     public void clearAll() {
-        this.wrapped.clearAll();
+        if (dedicatedCache || !deleteTenantKeys()) {
+            this.wrapped.clearAll();
+        }
+    }
+
+    public String getTenantName() {
+        return tenantName;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return false if the wrapped cache cannot list the keys of the tenant
+     */
+    private boolean deleteTenantKeys() {
+        if (wrapped instanceof VmCache) {
+            ((VmCache<String, V>) wrapped).deleteByPrefix(tenantName);
+            return true;
+        }
+        if (wrapped instanceof IRedisCache) {
+            try {
+                ((IRedisCache<String, V>) wrapped).deleteByPrefix(tenantName);
+                return true;
+            } catch (UnsupportedOperationException e) {
+                return false;
+            }
+        }
+        return false;
     }
 
     private String generateKey(String k) {
@@ -0,0 +1,128 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import io.lettuce.core.codec.RedisCodec;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Wraps a value codec and deflates the encoded values that are at least {@code threshold} bytes
+ * long. Small values are stored as they are, so they do not pay for compression. Each value is
+ * prefixed with one byte telling whether it is compressed. Keys are never compressed.
+ */
+public class ThresholdCompressionCodec<K, V> implements RedisCodec<K, V> {
+
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private final RedisCodec<K, V> delegate;
+    private final int threshold;
+
+    public ThresholdCompressionCodec(RedisCodec<K, V> delegate) {
+        this(delegate, DEFAULT_THRESHOLD);
+    }
+
+    public ThresholdCompressionCodec(RedisCodec<K, V> delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public K decodeKey(ByteBuffer bytes) {
+        return delegate.decodeKey(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(K key) {
+        return delegate.encodeKey(key);
+    }
+
+    @Override
+    public V decodeValue(ByteBuffer bytes) {
+        if (!bytes.hasRemaining()) {
+            return delegate.decodeValue(bytes);
+        }
+        byte marker = bytes.get();
+        if (marker == PLAIN) {
+            return delegate.decodeValue(bytes);
+        }
+        if (marker != DEFLATED) {
+            throw new IllegalStateException("Unexpected compression marker in redis cache value: " + marker);
+        }
+        return delegate.decodeValue(inflate(bytes));
+    }
+
+    @Override
+    public ByteBuffer encodeValue(V value) {
+        ByteBuffer encoded = delegate.encodeValue(value);
+        int length = encoded.remaining();
+        if (length < threshold) {
+            ByteBuffer plain = ByteBuffer.allocate(length + 1);
+            plain.put(PLAIN).put(encoded).flip();
+            return plain;
+        }
+        return deflate(encoded, length);
+    }
+
+    private static ByteBuffer deflate(ByteBuffer input, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] output = new byte[Math.max(64, length / 2)];
+            output[0] = DEFLATED;
+            int size = 1;
+            while (!deflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                size += deflater.deflate(output, size, output.length - size);
+            }
+            return ByteBuffer.wrap(output, 0, size);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ByteBuffer inflate(ByteBuffer input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[Math.max(64, input.remaining() * 4)];
+            int size = 0;
+            while (!inflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                int read = inflater.inflate(output, size, output.length - size);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed value in redis cache");
+                }
+                size += read;
+            }
+            return ByteBuffer.wrap(output, 0, size);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed value in redis cache", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
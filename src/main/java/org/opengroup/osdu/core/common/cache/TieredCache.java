@@ -0,0 +1,123 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.opengroup.osdu.core.common.cache.enums.CachingStrategy;
+
+/**
+ * Two-tier cache serving reads from a bounded in-process cache (L1) and falling back to a shared
+ * remote cache such as {@link RedisCache} (L2). Writes go to both tiers and are broadcast through
+ * the invalidation channel, so the other instances drop their L1 copy of the key.
+ * <p>
+ * An invalidation racing with an L2 read, or lost by the at-most-once channel, may leave a stale
+ * L1 entry; the L1 expiration bounds how long it is served. The L1 built from an expiration
+ * expires entries after write, so that reading a stale entry does not extend its life. Works with {@link TenantSafeCache}, which prefixes the keys before they
+ * reach this cache.
+ */
+public class TieredCache<K, V> implements ICache<K, V>, AutoCloseable {
+
+    private final ICache<K, V> l1;
+    private final ICache<K, V> l2;
+    private final ICacheInvalidationChannel<K> invalidationChannel;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+
+    public TieredCache(int l1ExpirationSeconds, int l1MaximumSize, ICache<K, V> l2,
+                       ICacheInvalidationChannel<K> invalidationChannel) {
+        this(new VmCache<>(l1ExpirationSeconds, l1MaximumSize, CachingStrategy.EXPIRE_AFTER_WRITE), l2, invalidationChannel);
+    }
+
+    public TieredCache(ICache<K, V> l1, ICache<K, V> l2, ICacheInvalidationChannel<K> invalidationChannel) {
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationChannel = invalidationChannel;
+        invalidationChannel.subscribe(new ICacheInvalidationChannel.Listener<K>() {
+            @Override
+            public void onDelete(K key) {
+                invalidationsReceived.increment();
+                TieredCache.this.l1.delete(key);
+            }
+
+            @Override
+            public void onClear() {
+                invalidationsReceived.increment();
+                TieredCache.this.l1.clearAll();
+            }
+        });
+    }
+
+    @Override
+    public void put(K k, V o) {
+        l2.put(k, o);
+        l1.put(k, o);
+        invalidationChannel.publishDelete(k);
+    }
+
+    @Override
+    public V get(K k) {
+        V value = l1.get(k);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        value = l2.get(k);
+        if (value != null) {
+            l2Hits.increment();
+            l1.put(k, value);
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void delete(K k) {
+        l2.delete(k);
+        l1.delete(k);
+        invalidationChannel.publishDelete(k);
+    }
+
+    @Override
+    public void clearAll() {
+        l2.clearAll();
+        l1.clearAll();
+        invalidationChannel.publishClear();
+    }
+
+    public long getL1HitCount() {
+        return l1Hits.sum();
+    }
+
+    public long getL2HitCount() {
+        return l2Hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationsReceived.sum();
+    }
+
+    @Override
+    public void close() {
+        invalidationChannel.close();
+    }
+}
@@ -65,4 +65,11 @@ public class VmCache<K, V> implements ICache<K, V> {
     public void clearAll() {
         this.cache.invalidateAll();
     }
+
+    /**
+     * Deletes the string keys starting with the given prefix, e.g. the keys of one tenant
+     */
+    public void deleteByPrefix(String prefix) {
+        this.cache.asMap().keySet().removeIf(k -> k instanceof String && ((String) k).startsWith(prefix));
+    }
 }
@@ -0,0 +1,161 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.crs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.crs.dates.DatesConversionImpl;
+import org.opengroup.osdu.core.common.http.ExecutorMode;
+import org.opengroup.osdu.core.common.model.crs.ConversionRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs {@link UnitConversionImpl} and {@link DatesConversionImpl} over a batch of independent records
+ * in parallel. The batch is split into chunks of {@code chunkSize} records; every record goes through
+ * the unit conversion and then the dates conversion, exactly as when calling both converters one after
+ * the other, and keeps its own conversion messages and status.
+ */
+@Slf4j
+public class ConversionPipeline implements AutoCloseable {
+
+    private final UnitConversionImpl unitConversion;
+    private final DatesConversionImpl datesConversion;
+    private final ExecutorService executor;
+    private final ExecutorMode mode;
+    private final int chunkSize;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    public ConversionPipeline() {
+        this(ConversionPipelineConfig.builder().build());
+    }
+
+    public ConversionPipeline(ConversionPipelineConfig config) {
+        this(config, new UnitConversionImpl(), new DatesConversionImpl());
+    }
+
+    public ConversionPipeline(ConversionPipelineConfig config, UnitConversionImpl unitConversion,
+                              DatesConversionImpl datesConversion) {
+        this.unitConversion = unitConversion;
+        this.datesConversion = datesConversion;
+        this.chunkSize = Math.max(1, config.getChunkSize());
+        ExecutorService virtualExecutor = config.getMode() == ExecutorMode.VIRTUAL ? createVirtualThreadExecutor() : null;
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.mode = ExecutorMode.VIRTUAL;
+        } else {
+            this.executor = new ForkJoinPool(Math.max(1, config.getParallelism()));
+            this.mode = ExecutorMode.PLATFORM;
+        }
+    }
+
+    public ExecutorMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Converts the units to SI and then the dates to ISO of every record in place.
+     */
+    public void convert(List<ConversionRecord> conversionRecords) {
+        run(conversionRecords, chunk -> {
+            unitConversion.convertUnitsToSI(chunk);
+            datesConversion.convertDatesToISO(chunk);
+        });
+    }
+
+    public void convertUnitsToSI(List<ConversionRecord> conversionRecords) {
+        run(conversionRecords, unitConversion::convertUnitsToSI);
+    }
+
+    public void convertDatesToISO(List<ConversionRecord> conversionRecords) {
+        run(conversionRecords, datesConversion::convertDatesToISO);
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getRecordCount() {
+        return records.sum();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+    }
+
+    /**
+     * @return the records converted per second of wall-clock time spent in this pipeline, 0 before the first batch
+     */
+    public double getRecordsPerSecond() {
+        long nanos = elapsedNanos.sum();
+        return nanos == 0 ? 0.0 : records.sum() * 1e9 / nanos;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    private void run(List<ConversionRecord> conversionRecords, Consumer<List<ConversionRecord>> conversion) {
+        if (conversionRecords == null || conversionRecords.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            int size = conversionRecords.size();
+            if (size <= chunkSize) {
+                conversion.accept(conversionRecords);
+                return;
+            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+            for (int from = 0; from < size; from += chunkSize) {
+                List<ConversionRecord> chunk = conversionRecords.subList(from, Math.min(size, from + chunkSize));
+                futures.add(CompletableFuture.runAsync(() -> conversion.accept(chunk), executor));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        } finally {
+            elapsedNanos.add(System.nanoTime() - start);
+            records.add(conversionRecords.size());
+            batches.increment();
+        }
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads are not available on this runtime, falling back to a ForkJoin pool");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.crs;
+
+import lombok.Builder;
+import lombok.Data;
+import org.opengroup.osdu.core.common.http.ExecutorMode;
+
+@Builder
+@Data
+public class ConversionPipelineConfig {
+
+    /**
+     * {@link ExecutorMode#PLATFORM} runs the chunks on a ForkJoin pool of {@code parallelism} workers,
+     * {@link ExecutorMode#VIRTUAL} on one virtual thread per chunk.
+     */
+    @Builder.Default
+    private ExecutorMode mode = ExecutorMode.PLATFORM;
+
+    @Builder.Default
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of records converted by one task. Batches not larger than this run on the caller thread.
+     */
+    @Builder.Default
+    private int chunkSize = 256;
+}
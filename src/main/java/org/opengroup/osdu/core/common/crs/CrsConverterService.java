@@ -14,15 +14,18 @@
 
 package org.opengroup.osdu.core.common.crs;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.gson.Gson;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.ResponseContentTypes;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
-import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
 import org.opengroup.osdu.core.common.model.crs.ConvertGeoJsonRequest;
 import org.opengroup.osdu.core.common.model.crs.ConvertGeoJsonResponse;
 import org.opengroup.osdu.core.common.model.crs.ConvertPointsRequest;
@@ -35,11 +38,11 @@ import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.http.RequestStatus;
 import org.opengroup.osdu.core.common.util.UrlNormalizationUtil;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
 
 public class CrsConverterService implements ICrsConverterService {
     private static final String CONVERT_POINTS_PATH = "/convert";
@@ -68,23 +71,26 @@ public class CrsConverterService implements ICrsConverterService {
 
     @Override
     public ConvertPointsResponse convertPoints(ConvertPointsRequest request) throws CrsConverterException {
-        HttpResponse response = send(request, CONVERT_POINTS_PATH);
-        return this.getResult(response, ConvertPointsResponse.class);
+        HttpResponse response = send(request, CONVERT_POINTS_PATH, ConvertPointsResponse.class);
+        return this.getResult(response);
     }
 
     @Override
     public ConvertTrajectoryResponse convertTrajectory(ConvertTrajectoryRequest request) throws CrsConverterException {
-        HttpResponse response = send(request, CONVERT_TRAJECTORY_PATH);
-        return this.getResult(response, ConvertTrajectoryResponse.class);
+        HttpResponse response = send(request, CONVERT_TRAJECTORY_PATH, ConvertTrajectoryResponse.class);
+        return this.getResult(response);
     }
 
     @Override
     public ConvertGeoJsonResponse convertGeoJson(ConvertGeoJsonRequest request) throws CrsConverterException {
-        HttpResponse response = send(request, CONVERT_GEO_JSON_PATH);
-        return this.getResult(response, ConvertGeoJsonResponse.class);
+        HttpResponse response = send(request, CONVERT_GEO_JSON_PATH, ConvertGeoJsonResponse.class);
+        return this.getResult(response);
     }
 
-     private <T> HttpResponse send(T request, String path) throws CrsConverterException {
+    /**
+     * Parses a successful response straight from the entity stream, other responses keep their body.
+     */
+    private <T, R> HttpResponse send(T request, String path, Class<R> responseType) throws CrsConverterException {
         String url = this.createUrl(path);
         HttpPost httpRequest = new HttpPost(url);
         StringEntity entity;
@@ -100,14 +106,20 @@ public class CrsConverterService implements ICrsConverterService {
             try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
                 HttpResponse output = new HttpResponse();
                 output.setResponseCode(response.getStatusLine().getStatusCode());
-                StringBuilder responseBody = new StringBuilder();
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()))) {
-                    String responsePayloadLine;
-                    while ((responsePayloadLine = br.readLine()) != null) {
-                        responseBody.append(responsePayloadLine);
+                HttpEntity responseEntity = response.getEntity();
+                if (responseEntity != null) {
+                    Charset charset = ResponseContentTypes.getOrDefault(responseEntity).getCharset();
+                    if (output.isSuccessCode()) {
+                        try (InputStream content = responseEntity.getContent()) {
+                            output.setParsedBody(responseBodyMapper.read(content, charset, responseType));
+                        } catch (JsonProcessingException e) {
+                            throw new CrsConverterException("Error parsing response. Check the inner HttpResponse for more info.",
+                                    output);
+                        }
+                    } else {
+                        output.setRawBody(EntityUtils.toByteArray(responseEntity), charset);
                     }
                 }
-                output.setBody(responseBody.toString());
                 output.setLatency(System.currentTimeMillis() - start);
                 return output;
             }
@@ -127,14 +139,9 @@ public class CrsConverterService implements ICrsConverterService {
         return UrlNormalizationUtil.normalizeStringUrl(this.rootUrl, pathAndQuery);
     }
 
-    private <T> T getResult(HttpResponse result, Class<T> type) throws CrsConverterException {
+    private <T> T getResult(HttpResponse result) throws CrsConverterException {
         if (result.isSuccessCode()) {
-            try {
-                return responseBodyMapper.parseBody(result, type);
-            } catch (HttpResponseBodyParsingException e) {
-                throw new CrsConverterException("Error parsing response. Check the inner HttpResponse for more info.",
-                        result);
-            }
+            return result.getParsedBody();
         } else {
             throw this.generateException(result);
         }
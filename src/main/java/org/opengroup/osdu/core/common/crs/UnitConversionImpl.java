@@ -18,12 +18,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
-import org.opengroup.osdu.core.common.model.units.IUnit;
-import org.opengroup.osdu.core.common.model.units.ReferenceConverter;
+import org.opengroup.osdu.core.common.model.units.CompiledUnit;
+import org.opengroup.osdu.core.common.model.units.UnitConverterCache;
 import org.opengroup.osdu.core.common.model.crs.ConversionRecord;
 import org.opengroup.osdu.core.common.model.crs.ConvertStatus;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +50,38 @@ public class UnitConversionImpl {
     public static final String PROPERTY_VALUE_CAST_ERROR = "Unit conversion: cannot cast the value of property %s to double";
     public static final String ILLEGAL_PROPERTY_VALUE = "Unit conversion: illegal value for property %s";
 
+    private static final UnitConverterCache DEFAULT_UNIT_CACHE = new UnitConverterCache();
+
+    private final UnitConverterCache unitCache;
+
+    public UnitConversionImpl() {
+        this(DEFAULT_UNIT_CACHE);
+    }
+
+    public UnitConversionImpl(UnitConverterCache unitCache) {
+        this.unitCache = unitCache;
+    }
+
+    /**
+     * @return the cache of compiled units, e.g. to report its hit rate
+     */
+    public UnitConverterCache getUnitConverterCache() {
+        return unitCache;
+    }
+
+    /**
+     * Converts a whole array of values to the SI base unit of the given persistable reference.
+     *
+     * @param persistableReference the unit of the values
+     * @param values               the values to convert, left unchanged
+     * @return the converted values; all Double.NaN if the reference is not valid
+     */
+    public double[] convertToSI(String persistableReference, double[] values) {
+        double[] converted = Arrays.copyOf(values, values.length);
+        unitCache.get(persistableReference).convertToSI(converted);
+        return converted;
+    }
+
     public void convertUnitsToSI(List<ConversionRecord> conversionRecords) {
         for (int i = 0; i < conversionRecords.size(); i++) {
             this.convertRecordToSIUnits(conversionRecords.get(i));
@@ -110,7 +141,7 @@ public class UnitConversionImpl {
                     continue;
                 }
                 String persistableReference = jsonElementToString(referenceElement);
-                IUnit unit = ReferenceConverter.parseUnitReference(persistableReference);
+                CompiledUnit unit = unitCache.get(persistableReference);
                 if((null == unit) || (!unit.isValid())){
                     hasFailure = true;
                     conversionMessages.add(INVALID_REFERENCE);
@@ -121,19 +152,18 @@ public class UnitConversionImpl {
                 for(int i = 0; i < propertyArray.size(); i++) {
                     String name = propertyArray.get(i).getAsString();
                     List<JsonElement> valueElements = getJsonPropertyValueFromJsonObject(name, data);
-                    List<Number> convertedValues = new ArrayList<>();
+                    double[] values = new double[valueElements.size()];
+                    boolean[] missing = new boolean[values.length];
                     for (int j = 0; j < valueElements.size(); j++) {
                         JsonElement valueElement = valueElements.get(j);
                         if((null == valueElement) || (valueElement instanceof JsonNull)) {
                             String message = String.format(MISSING_PROPERTY, constructPropertyName(name, j));
                             conversionMessages.add(message);
-                            convertedValues.add(null);
+                            missing[j] = true;
                             continue;
                         }
                         try {
-                            double value = valueElement.getAsDouble();
-                            value = unit.convertToSI(value);
-                            convertedValues.add(value);
+                            values[j] = valueElement.getAsDouble();
                         }
                         catch(ClassCastException ccEx){
                             hasFailure = true;
@@ -163,13 +193,12 @@ public class UnitConversionImpl {
                     if (hasFailure) {
                         break;
                     }
-                    overrideNumberPropertyOfJsonObject(name, convertedValues, data);
+                    unit.convertToSI(values);
+                    overrideNumberPropertyOfJsonObject(name, values, missing, data);
                     String[] nameArray = splitJsonPropertiesByDots(name);
                     if (nameArray.length > 0 && PROPERTY_NAME_VALUE.equals(nameArray[nameArray.length - 1])) {
                         String unitKeyProperty = createUnitKeyPropertyName(nameArray);
-                        if (isJsonPropertyPresentedInJsonObject(unitKeyProperty, data)) {
-                            overrideStringPropertyOfJsonObject(unitKeyProperty, unit.getBaseSymbol(), data);
-                        }
+                        overrideExistingStringPropertyOfJsonObject(unitKeyProperty, unit.getBaseSymbol(), data);
                     }
                     unitConverted = true;
                 }
@@ -25,7 +25,6 @@ import org.opengroup.osdu.core.common.util.JsonUtils;
 
 import java.time.DateTimeException;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -134,21 +133,29 @@ public class DatesConversionImpl {
                     String message = null;
                     try {
                         List<JsonElement> valueElements = getJsonPropertyValueFromJsonObject(name, dataBlock);
-                        for (JsonElement valueElement: valueElements) {
+                        String[] values = new String[valueElements.size()];
+                        for (int j = 0; j < values.length; j++) {
+                            JsonElement valueElement = valueElements.get(j);
                             if ((valueElement == null) || (valueElement instanceof JsonNull)) {
                                 hasFailure = true;
                                 conversionMessages.add(String.format(DatesConversionServiceErrorMessages.MISSING_PROPERTY, name));
                                 continue;
                             }
-                            String value = dateTime.convertToIsoDateTime(valueElement.getAsString());
-                            if (value == null) {
+                            values[j] = valueElement.getAsString();
+                        }
+                        String[] convertedValues = dateTime.convertToIsoDateTime(values);
+                        for (int j = 0; j < values.length; j++) {
+                            if (values[j] == null) {
+                                continue;
+                            }
+                            if (convertedValues[j] == null) {
                                 hasFailure = true;
                                 conversionMessages.add(String.format(DatesConversionServiceErrorMessages.INVALID_REFERENCE));
                                 continue;
                             }
-                            overrideNestedStringPropertyOfJsonObject(name, Arrays.asList(value), dataBlock);
                             datesConverted = true;
                         }
+                        overrideNestedStringPropertyOfJsonObject(name, convertedValues, dataBlock);
 
                     } catch(IllegalArgumentException ccEx) {
                         message = String.format(DatesConversionServiceErrorMessages.INVALID_FORMATTER, ccEx.getMessage());
@@ -24,32 +24,32 @@ import org.opengroup.osdu.core.common.provider.interfaces.IAuthorizationService;
 import org.opengroup.osdu.core.common.http.HeadersUtil;
 import org.opengroup.osdu.core.common.http.HttpResponse;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import jakarta.inject.Inject;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @Lazy
 public class AuthorizationServiceImpl implements IAuthorizationService {
 
-    private static final String TENANT_GROUP_FORMAT = "@%s";
-
     @Inject
     private IEntitlementsFactory factory;
     @Inject
     @Lazy
     private JaxRsDpsLog jaxRsDpsLog;
+    @Autowired(required = false)
+    private IGroupsCache groupsCache;
 
     @Override
     public AuthorizationResponse authorizeAny(DpsHeaders headers, String... roles) {
         AuthorizationResponse authorizationResponse = null;
         IEntitlementsService service = factory.create(headers);
         try {
-            authorizationResponse = authorizeAny(headers, service.getGroups(), roles);
+            Groups groups = getGroups(service, headers);
+            authorizationResponse = authorizeAny(headers, groups, groups, roles);
         } catch (EntitlementsException e) {
             handleEntitlementsException(e, headers);
         }
@@ -61,40 +61,39 @@ public class AuthorizationServiceImpl implements IAuthorizationService {
         IEntitlementsService service = factory.create(headers);
         AuthorizationResponse authorizationResponse = null;
         try {
-            Groups groups = service.getGroups();
-            List<GroupInfo> allGroups = new ArrayList<>(groups.getGroups());
-            groups.setGroups(groups.getGroups().stream().filter(groupInfo -> groupInfo.getEmail()
-                    .contains(String.format(TENANT_GROUP_FORMAT, tenantName))).collect(Collectors.toList()));
-
-            authorizationResponse = authorizeAny(headers, groups, roles);
-            groups.setGroups(allGroups);
+            // the roles are checked against the groups of the tenant, the response carries all groups of the user
+            Groups groups = getGroups(service, headers);
+            authorizationResponse = authorizeAny(headers, groups.forTenant(tenantName), groups, roles);
         } catch (EntitlementsException e) {
             handleEntitlementsException(e, headers);
         }
         return authorizationResponse;
     }
 
+    private Groups getGroups(IEntitlementsService service, DpsHeaders headers) throws EntitlementsException {
+        return groupsCache == null ? service.getGroups() : groupsCache.getGroups(headers, service);
+    }
+
     private void handleEntitlementsException(EntitlementsException e, DpsHeaders headers) {
         HttpResponse response = e.getHttpResponse();
         throw new AppException(response.getResponseCode(), "Access denied", "The user is not authorized to perform this action", HeadersUtil.toLogMsg(headers, null), e);
     }
 
-    private AuthorizationResponse authorizeAny(DpsHeaders headers, Groups groups, String... roles) {
+    private AuthorizationResponse authorizeAny(DpsHeaders headers, Groups groups, Groups responseGroups, String... roles) {
         String userEmail = null;
-        List<String> logMessages = new ArrayList<>();
         Long curTimeStamp = System.currentTimeMillis();
         Long latency = System.currentTimeMillis() - curTimeStamp;
 
-        logMessages.add(String.format("entitlements-api latency: %s", latency));
-        logMessages.add(String.format("groups: %s", getEmailFromGroups(groups)));
         if (groups != null) {
             userEmail = groups.getMemberEmail();
             if (groups.any(roles)) {
-                return AuthorizationResponse.builder().user(userEmail).groups(groups).build();
+                return AuthorizationResponse.builder().user(userEmail).groups(responseGroups).build();
             }
         }
-        jaxRsDpsLog.info(String.join(" | ", logMessages));
-        jaxRsDpsLog.info(HeadersUtil.toLogMsg(headers, userEmail));
+        jaxRsDpsLog.infoLazy(() -> String.join(" | ", String.format("entitlements-api latency: %s", latency),
+                String.format("groups: %s", getEmailFromGroups(groups))));
+        String memberEmail = userEmail;
+        jaxRsDpsLog.infoLazy(() -> HeadersUtil.toLogMsg(headers, memberEmail));
         throw AppException.createUnauthorized("required search service roles are missing for user");
     }
 
@@ -16,6 +16,7 @@ package org.opengroup.osdu.core.common.entitlements;
 
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.http.AsyncHttpClient;
 import org.opengroup.osdu.core.common.http.HttpClient;
 
 public class EntitlementsFactory implements IEntitlementsFactory {
@@ -38,6 +39,7 @@ public class EntitlementsFactory implements IEntitlementsFactory {
         }
         return new EntitlementsService(this.config,
                 new HttpClient(),
+                new AsyncHttpClient(),
                 headers, mapper);
     }
 }
\ No newline at end of file
@@ -25,14 +25,18 @@ import org.opengroup.osdu.core.common.model.entitlements.GroupInfo;
 import org.opengroup.osdu.core.common.model.entitlements.Groups;
 import org.opengroup.osdu.core.common.model.entitlements.MemberInfo;
 import org.opengroup.osdu.core.common.model.entitlements.Members;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.util.UrlNormalizationUtil;
 
 public class EntitlementsService implements IEntitlementsService {
     private final String rootUrl;
     private final IHttpClient httpClient;
+    private final IAsyncHttpClient asyncHttpClient;
     private final DpsHeaders headers;
     private final HttpResponseBodyMapper responseBodyMapper;
 
@@ -40,8 +44,17 @@ public class EntitlementsService implements IEntitlementsService {
                         IHttpClient httpClient,
                         DpsHeaders headers,
                         HttpResponseBodyMapper mapper) {
+        this(config, httpClient, null, headers, mapper);
+    }
+
+    public EntitlementsService(EntitlementsAPIConfig config,
+                        IHttpClient httpClient,
+                        IAsyncHttpClient asyncHttpClient,
+                        DpsHeaders headers,
+                        HttpResponseBodyMapper mapper) {
         this.rootUrl = config.getRootUrl();
         this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
         this.headers = headers;
         this.responseBodyMapper = mapper;
         if (config.apiKey != null) {
@@ -79,6 +92,16 @@ public class EntitlementsService implements IEntitlementsService {
         return output;
     }
 
+    @Override
+    public CompletableFuture<Groups> getGroupsAsync() {
+        if (this.asyncHttpClient == null) {
+            return IEntitlementsService.super.getGroupsAsync();
+        }
+        String url = this.createUrl("/groups");
+        HttpRequest rq = HttpRequest.get().url(url).headers(this.headers.getHeaders()).build();
+        return AsyncResults.map(this.asyncHttpClient.sendAsync(rq), result -> this.getResult(result, Groups.class));
+    }
+
     @Override
     public GroupInfo createGroup(CreateGroup group) throws EntitlementsException {
         String url = this.createUrl("/groups");
@@ -0,0 +1,168 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.entitlements;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opengroup.osdu.core.common.cache.ICache;
+import org.opengroup.osdu.core.common.cache.VmCache;
+import org.opengroup.osdu.core.common.cache.enums.CachingStrategy;
+import org.opengroup.osdu.core.common.model.entitlements.EntitlementsException;
+import org.opengroup.osdu.core.common.model.entitlements.Groups;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link IGroupsCache} keeping the groups of a caller for a short time, keyed by data partition and
+ * a hash of the caller credentials. Concurrent misses for the same key are coalesced: one thread
+ * calls Entitlements and the others wait for its result.
+ */
+@Component
+@ConditionalOnProperty(prefix = "entitlements.groups-cache", name = "enabled", havingValue = "true")
+public class GroupsCache implements IGroupsCache {
+
+    static final int DEFAULT_EXPIRATION_SECONDS = 30;
+    static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final ICache<String, Groups> cache;
+    private final ConcurrentMap<String, CompletableFuture<Groups>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    public GroupsCache() {
+        this(new VmCache<>(DEFAULT_EXPIRATION_SECONDS, DEFAULT_MAXIMUM_SIZE, CachingStrategy.EXPIRE_AFTER_WRITE));
+    }
+
+    public GroupsCache(ICache<String, Groups> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Groups getGroups(DpsHeaders headers, IEntitlementsService service) throws EntitlementsException {
+        String key = getKey(headers);
+        Groups groups = this.cache.get(key);
+        if (groups != null) {
+            this.hits.increment();
+            return groups;
+        }
+        this.misses.increment();
+
+        CompletableFuture<Groups> load = new CompletableFuture<>();
+        CompletableFuture<Groups> pending = this.inFlight.putIfAbsent(key, load);
+        if (pending != null) {
+            this.coalesced.increment();
+            return await(pending);
+        }
+
+        try {
+            // another thread may have completed a load between the lookup and the registration
+            groups = this.cache.get(key);
+            if (groups == null) {
+                groups = this.load(service);
+                // no groups is not cached, the caller is rejected and the next request asks again
+                if (groups != null) {
+                    this.cache.put(key, groups);
+                }
+            }
+            load.complete(groups);
+            return groups;
+        } catch (EntitlementsException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, load);
+        }
+    }
+
+    public void invalidate(DpsHeaders headers) {
+        this.cache.delete(getKey(headers));
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of misses served by a load already in progress for the same key.
+     */
+    public long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    public long getLoadCount() {
+        return this.loads.sum();
+    }
+
+    public double getAverageLoadMillis() {
+        long count = this.loads.sum();
+        return count == 0 ? 0 : this.loadTimeNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1) / count;
+    }
+
+    private Groups load(IEntitlementsService service) throws EntitlementsException {
+        long start = System.nanoTime();
+        try {
+            return service.getGroups();
+        } finally {
+            this.loads.increment();
+            this.loadTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    static String getKey(DpsHeaders headers) {
+        String credentials = String.join("|", String.valueOf(headers.getAuthorization()),
+                String.valueOf(headers.getUserId()), String.valueOf(headers.getOnBehalfOf()));
+        return headers.getPartitionId() + ":" + sha256(credentials);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Groups await(CompletableFuture<Groups> pending) throws EntitlementsException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof EntitlementsException) {
+                throw (EntitlementsException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
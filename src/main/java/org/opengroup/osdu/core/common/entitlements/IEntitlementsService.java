@@ -14,6 +14,8 @@
 
 package org.opengroup.osdu.core.common.entitlements;
 
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.model.entitlements.EntitlementsException;
 import org.opengroup.osdu.core.common.model.entitlements.CreateGroup;
 import org.opengroup.osdu.core.common.model.entitlements.GetMembers;
@@ -31,6 +33,10 @@ public interface IEntitlementsService {
 
     Groups getGroups() throws EntitlementsException;
 
+    default CompletableFuture<Groups> getGroupsAsync() {
+        return AsyncResults.completed(this::getGroups);
+    }
+
     GroupInfo createGroup(CreateGroup group) throws EntitlementsException;
 
     void deleteMember(String groupEmail, String memberEmail) throws EntitlementsException;
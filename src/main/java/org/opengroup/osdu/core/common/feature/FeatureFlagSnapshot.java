@@ -0,0 +1,48 @@
+package org.opengroup.osdu.core.common.feature;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.opengroup.osdu.core.common.partition.PartitionInfo;
+import org.opengroup.osdu.core.common.partition.Property;
+
+/**
+ * Immutable set of the feature flags enabled in one partition, compiled from its partition properties. A flag is
+ * enabled when its property value is {@code true} or the string {@code "true"}, ignoring case.
+ */
+public final class FeatureFlagSnapshot {
+
+    private final Set<String> enabledFlags;
+
+    private FeatureFlagSnapshot(Set<String> enabledFlags) {
+        this.enabledFlags = enabledFlags;
+    }
+
+    public static FeatureFlagSnapshot of(PartitionInfo partitionInfo) {
+        Set<String> enabledFlags = new HashSet<>();
+        Map<String, Property> properties = partitionInfo == null ? null : partitionInfo.getProperties();
+        if (properties != null) {
+            properties.forEach((name, property) -> {
+                if (property != null && isTrue(property.getValue())) {
+                    enabledFlags.add(name);
+                }
+            });
+        }
+        return new FeatureFlagSnapshot(Set.copyOf(enabledFlags));
+    }
+
+    public boolean isEnabled(String featureName) {
+        return featureName != null && enabledFlags.contains(featureName);
+    }
+
+    public Set<String> getEnabledFlags() {
+        return enabledFlags;
+    }
+
+    private static boolean isTrue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value instanceof String && Boolean.parseBoolean((String) value);
+    }
+}
@@ -1,14 +1,14 @@
 package org.opengroup.osdu.core.common.feature;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.cache.RefreshAheadCache;
+import org.opengroup.osdu.core.common.cache.VmCache;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.partition.IPartitionFactory;
-import org.opengroup.osdu.core.common.partition.IPartitionProvider;
 import org.opengroup.osdu.core.common.partition.PartitionAPIConfig;
 import org.opengroup.osdu.core.common.partition.PartitionException;
 import org.opengroup.osdu.core.common.partition.PartitionFactory;
@@ -19,11 +19,25 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * Reads feature flags from the partition properties. The flags of each partition are compiled into a
+ * {@link FeatureFlagSnapshot}, which is refreshed in the background every {@code featureFlag.refreshSeconds}.
+ * <p>
+ * A snapshot loaded while serving {@link #isFeatureEnabled(String)} carries the correlation id of the request to
+ * the Partition service. Background refreshes do not belong to any request, so they are sent with a new
+ * correlation id. A null partition id is not cached and goes to the Partition service on every call. The snapshots
+ * are loaded with the headers built here and a service account token, so the token service must not be request
+ * scoped.
+ */
 @Component
 @ConditionalOnProperty(prefix = "featureFlag", name = "strategy", havingValue = "dataPartition")
 public class PartitionFeatureFlagImpl implements IFeatureFlag {
 
     public static final String FF_SOURCE_DATA_PARTITION = "dataPartition";
+    static final long DEFAULT_REFRESH_SECONDS = 30;
+    private static final int MAX_PARTITIONS = 1000;
+    private static final ThreadLocal<String> REQUEST_CORRELATION_ID = new ThreadLocal<>();
+
     @Autowired
     private JaxRsDpsLog logger;
     @Autowired
@@ -34,18 +48,34 @@ public class PartitionFeatureFlagImpl implements IFeatureFlag {
     @Value("${PARTITION_API:not_used}")
     private String partitionAPIEndpoint;
 
+    @Value("${featureFlag.refreshSeconds:" + DEFAULT_REFRESH_SECONDS + "}")
+    private long refreshSeconds = DEFAULT_REFRESH_SECONDS;
+
+    private volatile IPartitionFactory partitionFactory;
+    private volatile RefreshAheadCache<String, FeatureFlagSnapshot, PartitionException> snapshots;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder enabledEvaluations = new LongAdder();
+    private final LongAdder snapshotLoads = new LongAdder();
+
     @Override
     public boolean isFeatureEnabled(String featureName) {
-        IPartitionProvider partitionProvider = getPartitionProvider(headers);
-        return fetchFeatureFlag(featureName, headers.getPartitionId(), partitionProvider);
+        REQUEST_CORRELATION_ID.set(headers.getCorrelationId());
+        try {
+            return isFeatureEnabled(featureName, headers.getPartitionId());
+        } finally {
+            REQUEST_CORRELATION_ID.remove();
+        }
     }
 
     @Override
     public boolean isFeatureEnabled(String featureName, String dataPartitionId) {
-        DpsHeaders dpsHeaders = new DpsHeaders();
-        dpsHeaders.put(DpsHeaders.DATA_PARTITION_ID, dataPartitionId);
-        IPartitionProvider partitionProvider = getPartitionProvider(dpsHeaders);
-        return fetchFeatureFlag(featureName, dataPartitionId, partitionProvider);
+        boolean enabled = getSnapshot(featureName, dataPartitionId).isEnabled(featureName);
+        evaluations.increment();
+        if (enabled) {
+            enabledEvaluations.increment();
+        }
+        return enabled;
     }
 
     @Override
@@ -53,14 +83,27 @@ public class PartitionFeatureFlagImpl implements IFeatureFlag {
         return FF_SOURCE_DATA_PARTITION;
     }
 
-    private boolean fetchFeatureFlag(String featureName, String dataPartitionId, IPartitionProvider partitionProvider) {
-        if (partitionProvider == null)
-            return false;
+    public long getEvaluationCount() {
+        return evaluations.sum();
+    }
+
+    public long getEnabledEvaluationCount() {
+        return enabledEvaluations.sum();
+    }
+
+    /**
+     * Returns the number of partition infos fetched from the Partition service to compile snapshots.
+     */
+    public long getSnapshotLoadCount() {
+        return snapshotLoads.sum();
+    }
+
+    private FeatureFlagSnapshot getSnapshot(String featureName, String dataPartitionId) {
         try {
-            PartitionInfo partitionInfo = partitionProvider.get(dataPartitionId);
-            return getFeatureFlagStatus(partitionInfo, featureName);
+            // the snapshots are keyed by partition id, which the wrapped cache does not accept null for
+            return dataPartitionId == null ? loadSnapshot(null) : getSnapshots().get(dataPartitionId);
         } catch (PartitionException e) {
-            this.logger.error(String.format("Error getting feature flag status for dataPartitionId: %s, exception http response: %s", headers.getPartitionId(), e.getResponse().toString()));
+            this.logger.error(String.format("Error getting feature flag status for dataPartitionId: %s, exception http response: %s", dataPartitionId, e.getResponse().toString()));
             //Partition returns 200, when data-partition id is null, so not a valid scenario to return the return code from partition service as is.
             //So, only handling 404 separately.
             int errorCode = e.getHttpResponse().getResponseCode() == HttpStatus.SC_NOT_FOUND ? HttpStatus.SC_NOT_FOUND: HttpStatus.SC_INTERNAL_SERVER_ERROR;
@@ -69,28 +112,54 @@ public class PartitionFeatureFlagImpl implements IFeatureFlag {
             errorMessage.append(String.format("Response body: %s", e.getResponse().getBody()));
 
             throw new AppException(errorCode, String.format("Error getting feature flag value for property: %s, partition: %s",
-                featureName, headers.getPartitionId()), errorMessage.toString(), e);
+                featureName, dataPartitionId), errorMessage.toString(), e);
         }
     }
 
-    private IPartitionProvider getPartitionProvider(DpsHeaders headers) {
-        PartitionAPIConfig apiConfig = PartitionAPIConfig.builder()
-            .rootUrl(partitionAPIEndpoint)
-            .build();
-        IPartitionFactory partitionFactory = new PartitionFactory(apiConfig);
-        DpsHeaders partitionHeaders = DpsHeaders.createFromMap(headers.getHeaders());
-        partitionHeaders.put(DpsHeaders.AUTHORIZATION, tokenService.getIdToken(headers.getPartitionId()));
-        return partitionFactory.create(partitionHeaders);
+    private FeatureFlagSnapshot loadSnapshot(String dataPartitionId) throws PartitionException {
+        DpsHeaders partitionHeaders = new DpsHeaders();
+        partitionHeaders.put(DpsHeaders.DATA_PARTITION_ID, dataPartitionId);
+        partitionHeaders.put(DpsHeaders.AUTHORIZATION, tokenService.getIdToken(dataPartitionId));
+        // only set when loading on the thread of the request, not when refreshing in the background
+        String correlationId = REQUEST_CORRELATION_ID.get();
+        if (correlationId != null) {
+            partitionHeaders.put(DpsHeaders.CORRELATION_ID, correlationId);
+        } else {
+            partitionHeaders.addCorrelationIdIfMissing();
+        }
+        PartitionInfo partitionInfo = getPartitionFactory().create(partitionHeaders).get(dataPartitionId);
+        snapshotLoads.increment();
+        return FeatureFlagSnapshot.of(partitionInfo);
     }
 
-    private boolean getFeatureFlagStatus(PartitionInfo partitionInfo, String featureName) {
-        final Gson gson = new Gson();
-        JsonElement element = gson.toJsonTree(partitionInfo.getProperties());
-        JsonObject rootObject = element.getAsJsonObject();
-        if (!rootObject.has(featureName)) {
-            return false;
+    private RefreshAheadCache<String, FeatureFlagSnapshot, PartitionException> getSnapshots() {
+        RefreshAheadCache<String, FeatureFlagSnapshot, PartitionException> current = snapshots;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshots == null) {
+                    // snapshots are served while refreshed, they expire only when the refreshes keep failing
+                    int expirationSeconds = (int) Math.min(Integer.MAX_VALUE, refreshSeconds * 10);
+                    snapshots = new RefreshAheadCache<>(new VmCache<>(expirationSeconds, MAX_PARTITIONS),
+                        this::loadSnapshot, Duration.ofSeconds(refreshSeconds));
+                }
+                current = snapshots;
+            }
         }
+        return current;
+    }
 
-        return rootObject.getAsJsonObject(featureName).get("value").getAsBoolean();
+    private IPartitionFactory getPartitionFactory() {
+        IPartitionFactory current = partitionFactory;
+        if (current == null) {
+            synchronized (this) {
+                if (partitionFactory == null) {
+                    partitionFactory = new PartitionFactory(PartitionAPIConfig.builder()
+                        .rootUrl(partitionAPIEndpoint)
+                        .build());
+                }
+                current = partitionFactory;
+            }
+        }
+        return current;
     }
 }
@@ -14,16 +14,15 @@
 
 package org.opengroup.osdu.core.common.http;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.Header;
@@ -43,8 +42,7 @@ import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
 import org.springframework.http.MediaType;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -54,7 +52,18 @@ abstract class AbstractHttpClient implements IHttpClient {
 
     @Override
     public HttpResponse send(HttpRequest request) {
+        return execute(request, null);
+    }
+
+    /**
+     * Reads a successful response straight from the entity stream, without buffering the entity.
+     */
+    @Override
+    public <T> HttpResponse send(HttpRequest request, HttpResponseBodyReader<T> bodyReader) {
+        return execute(request, bodyReader);
+    }
 
+    private HttpResponse execute(HttpRequest request, HttpResponseBodyReader<?> bodyReader) {
         HttpResponse output = new HttpResponse();
         output.setRequest(request);
         try {
@@ -68,32 +77,29 @@ abstract class AbstractHttpClient implements IHttpClient {
             HttpRequestBase requestBase = isRequestMethodWithBody(request)
                 ? getBodyHttpBase(request, uri)
                 : getNoBodyHttpBase(request, uri);
+            applyRequestSettings(request, requestBase);
 
-            try (CloseableHttpClient httpclient = getHttpClient(request)) {
-
-                long start = System.currentTimeMillis();
-                CloseableHttpResponse response = httpclient.execute(requestBase);
+            CloseableHttpClient httpclient = getHttpClient(request);
+            long start = System.currentTimeMillis();
+            try (CloseableHttpResponse response = httpclient.execute(requestBase)) {
+                output.setResponseCode(response.getStatusLine().getStatusCode());
                 HttpEntity entity = response.getEntity();
                 if (Objects.nonNull(entity)) {
-                    StringBuilder responseBuilder = new StringBuilder();
-                    try (BufferedReader br = new BufferedReader(
-                        new InputStreamReader(entity.getContent()))) {
-                        String responsePayloadLine;
-                        while ((responsePayloadLine = br.readLine()) != null) {
-                            responseBuilder.append(responsePayloadLine);
+                    ContentType contentType = ResponseContentTypes.getOrDefault(entity);
+                    output.setContentType(contentType.getMimeType());
+                    if (bodyReader != null && output.isSuccessCode()) {
+                        try (InputStream content = entity.getContent()) {
+                            output.setParsedBody(bodyReader.read(content, contentType.getCharset()));
                         }
+                    } else {
+                        output.setRawBody(EntityUtils.toByteArray(entity), contentType.getCharset());
                     }
-                    String responseBody = responseBuilder.toString();
-                    output.setContentType(
-                        ContentType.getOrDefault(response.getEntity()).getMimeType());
-                    output.setBody(responseBody);
                 }
                 Header[] allHeaders = response.getAllHeaders();
                 HashMap<String, List<String>> headersMap = new HashMap<>();
                 for (Header header : allHeaders) {
                     headersMap.put(header.getName(), Collections.singletonList(header.getValue()));
                 }
-                output.setResponseCode(response.getStatusLine().getStatusCode());
                 output.setLatency(System.currentTimeMillis() - start);
                 output.setHeaders(headersMap);
             }
@@ -106,27 +112,29 @@ abstract class AbstractHttpClient implements IHttpClient {
         return output;
     }
 
+    /**
+     * Returns the process-wide pooled client. The client is shared, so it must not be closed here;
+     * request specific headers and timeouts are applied on the request itself.
+     */
     CloseableHttpClient getHttpClient(HttpRequest request) {
+        return PooledHttpClients.getSharedClient();
+    }
+
+    private static void applyRequestSettings(HttpRequest request, HttpRequestBase requestBase) {
         RequestConfig requestConfig = RequestConfig.custom()
             .setConnectTimeout(request.connectionTimeout)
             .setRedirectsEnabled(request.followRedirects)
             .setConnectionRequestTimeout(request.connectionRequestTimeout)
             .setSocketTimeout(request.socketTimeout)
             .build();
+        requestBase.setConfig(requestConfig);
 
-        List<Header> httpHeaders = new ArrayList<>();
-        for (String key : request.getHeaders().keySet()) {
-            httpHeaders.add(new BasicHeader(key, request.getHeaders().get(key)));
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            requestBase.setHeader(header.getKey(), header.getValue());
         }
         if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT)) {
-            httpHeaders.add(
-                new BasicHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON.toString()));
+            requestBase.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON.toString());
         }
-
-        return HttpClients.custom()
-            .setDefaultHeaders(httpHeaders)
-            .setDefaultRequestConfig(requestConfig)
-            .build();
     }
 
     private String encodeUrl(String url) {
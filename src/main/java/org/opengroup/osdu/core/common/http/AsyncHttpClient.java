@@ -0,0 +1,143 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.net.URI;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link IAsyncHttpClient} on top of the JDK {@link java.net.http.HttpClient}. Requests are
+ * multiplexed over shared HTTP/1.1 clients, so waiting for a response does not hold a thread.
+ * <p>
+ * The JDK client has no socket timeout: {@link HttpRequest#socketTimeout} is used as the timeout of
+ * the whole exchange, from sending the request until the response headers are received.
+ * {@link HttpRequest#connectionTimeout} is set on the client, which is shared by the requests with
+ * the same connection timeout and redirect policy. A timeout of 0 or less means no timeout, as with
+ * the Apache client.
+ */
+@Slf4j
+public class AsyncHttpClient implements IAsyncHttpClient {
+
+    // headers the JDK client manages itself and refuses to have set
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade");
+
+    // clients by connection timeout, 0 for none
+    private static final ConcurrentMap<Integer, java.net.http.HttpClient> REDIRECTING_CLIENTS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, java.net.http.HttpClient> NON_REDIRECTING_CLIENTS = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(HttpRequest request) {
+        HttpResponse output = new HttpResponse();
+        output.setRequest(request);
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<java.net.http.HttpResponse<String>> exchange;
+        try {
+            exchange = getClient(request).sendAsync(buildRequest(request), BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.error("Unexpected error sending to URL {} METHOD {} error {}", request.url, request.httpMethod, e);
+            output.setException(e);
+            return CompletableFuture.completedFuture(output);
+        }
+        return exchange.handle((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                log.error("Unexpected error sending to URL {} METHOD {} error {}", request.url, request.httpMethod, cause);
+                output.setException(cause instanceof Exception ? (Exception) cause : new CompletionException(cause));
+                return output;
+            }
+            output.setResponseCode(response.statusCode());
+            output.setLatency(System.currentTimeMillis() - start);
+            output.setHeaders(response.headers().map());
+            if (Objects.nonNull(response.body())) {
+                output.setBody(response.body());
+            }
+            response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                    .ifPresent(contentType -> output.setContentType(getMimeType(contentType)));
+            return output;
+        });
+    }
+
+    private static java.net.http.HttpRequest buildRequest(HttpRequest request) {
+        URI uri = URI.create(UriComponentsBuilder.fromUriString(request.getUrl()).build().toUriString());
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uri);
+        if (request.socketTimeout > 0) {
+            builder.timeout(Duration.ofMillis(request.socketTimeout));
+        }
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (header.getValue() != null && !RESTRICTED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                builder.setHeader(header.getKey(), header.getValue());
+            }
+        }
+        if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT)) {
+            builder.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON.toString());
+        }
+
+        switch (request.httpMethod) {
+            case HttpRequest.POST:
+            case HttpRequest.PUT:
+            case HttpRequest.PATCH:
+                String body = Objects.isNull(request.getBody()) ? "" : request.getBody();
+                return builder.method(request.httpMethod, BodyPublishers.ofString(body, StandardCharsets.UTF_8)).build();
+            case HttpRequest.GET:
+            case HttpRequest.DELETE:
+            case HttpRequest.HEAD:
+                return builder.method(request.httpMethod, BodyPublishers.noBody()).build();
+            default:
+                throw new IllegalArgumentException("Invalid HTTP method: " + request.httpMethod);
+        }
+    }
+
+    private static String getMimeType(String contentType) {
+        int parametersStart = contentType.indexOf(';');
+        return (parametersStart < 0 ? contentType : contentType.substring(0, parametersStart)).trim();
+    }
+
+    private static java.net.http.HttpClient getClient(HttpRequest request) {
+        int connectTimeout = Math.max(0, request.connectionTimeout);
+        return request.followRedirects
+                ? REDIRECTING_CLIENTS.computeIfAbsent(connectTimeout, timeout -> createClient(Redirect.NORMAL, timeout))
+                : NON_REDIRECTING_CLIENTS.computeIfAbsent(connectTimeout, timeout -> createClient(Redirect.NEVER, timeout));
+    }
+
+    private static java.net.http.HttpClient createClient(Redirect redirect, int connectTimeout) {
+        java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_1_1)
+                .followRedirects(redirect);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        return builder.build();
+    }
+}
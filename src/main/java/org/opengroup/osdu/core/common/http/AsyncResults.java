@@ -0,0 +1,56 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Helpers for exposing the checked exceptions of the service clients through {@link CompletableFuture}s.
+ * A failure completes the future exceptionally with the original exception (for example
+ * {@code EntitlementsException}) as the cause.
+ */
+public final class AsyncResults {
+
+    private AsyncResults() {
+    }
+
+    @FunctionalInterface
+    public interface ResultSupplier<R> {
+        R get() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface ResultMapper<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    /**
+     * Runs the supplier on the calling thread and returns its outcome as an already completed future.
+     */
+    public static <R> CompletableFuture<R> completed(ResultSupplier<R> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Maps the result of the future, completing exceptionally when the mapper throws.
+     */
+    public static <T, R> CompletableFuture<R> map(CompletableFuture<T> future, ResultMapper<T, R> mapper) {
+        return future.thenCompose(value -> completed(() -> mapper.apply(value)));
+    }
+}
@@ -0,0 +1,151 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link IRequestExecutor} running blocking service client calls on platform or virtual threads.
+ * At most {@code maxConcurrency} tasks run at the same time; further tasks wait for a permit
+ * without holding a platform thread when running in {@link ExecutorMode#VIRTUAL} mode.
+ */
+@Slf4j
+public class BoundedRequestExecutor implements IRequestExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final ExecutorMode mode;
+
+    public BoundedRequestExecutor() {
+        this(RequestExecutorConfig.builder().build());
+    }
+
+    public BoundedRequestExecutor(RequestExecutorConfig config) {
+        this.permits = new Semaphore(config.getMaxConcurrency());
+        ExecutorService virtualExecutor = config.getMode() == ExecutorMode.VIRTUAL ? createVirtualThreadExecutor() : null;
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.mode = ExecutorMode.VIRTUAL;
+        } else {
+            this.executor = Executors.newFixedThreadPool(config.getMaxConcurrency(), new PlatformThreadFactory());
+            this.mode = ExecutorMode.PLATFORM;
+        }
+    }
+
+    public ExecutorMode getMode() {
+        return this.mode;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(DpsHeaders headers, RequestTask<T> task) {
+        return submitWithHeaders(copyHeaders(headers), task);
+    }
+
+    @Override
+    public <T> List<T> invokeAll(DpsHeaders headers, List<RequestTask<T>> tasks) {
+        DpsHeaders taskHeaders = copyHeaders(headers);
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (RequestTask<T> task : tasks) {
+            futures.add(submitWithHeaders(taskHeaders, task));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            throw toAppException(e.getCause() == null ? e : e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submitWithHeaders(DpsHeaders headers, RequestTask<T> task) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                this.permits.acquire();
+                try {
+                    return task.call(DpsHeaders.createFromMap(headers.getHeaders()));
+                } finally {
+                    this.permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, this.executor);
+    }
+
+    private static DpsHeaders copyHeaders(DpsHeaders headers) {
+        DpsHeaders copy = DpsHeaders.createFromMap(headers.getHeaders());
+        copy.addCorrelationIdIfMissing();
+        return copy;
+    }
+
+    private static AppException toAppException(Throwable cause) {
+        if (cause instanceof AppException) {
+            return (AppException) cause;
+        }
+        Exception exception = cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+        return new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Internal communication failure",
+                String.valueOf(cause.getMessage()), exception);
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads are not available on this runtime, falling back to platform threads");
+            return null;
+        }
+    }
+
+    private static class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "osdu-request-executor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
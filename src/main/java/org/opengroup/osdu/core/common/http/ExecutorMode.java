@@ -0,0 +1,26 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+public enum ExecutorMode {
+    /**
+     * Fixed pool of platform threads, one thread per in-flight downstream call.
+     */
+    PLATFORM,
+    /**
+     * One virtual thread per task. Requires a Java 21+ runtime, falls back to {@link #PLATFORM} otherwise.
+     */
+    VIRTUAL
+}
@@ -35,16 +35,15 @@ import org.opengroup.osdu.core.common.model.http.HttpResponse;
 import org.opengroup.osdu.core.common.model.http.RequestStatus;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.ConnectException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
@@ -56,6 +55,7 @@ import java.util.List;
 
 @Component
 @RequestScope
+@ConditionalOnProperty(prefix = "httpClientHandler", name = "strategy", havingValue = "requestScope", matchIfMissing = true)
 public class HttpClientHandler implements IHttpClientHandler {
 
     protected static int RETRY_COUNT = 3;
@@ -76,7 +76,7 @@ public class HttpClientHandler implements IHttpClientHandler {
 
     @Override
     public HttpResponse sendRequest(HttpRequestBase request, DpsHeaders requestHeaders, boolean isIdempotent) {
-        log.info(String.format("Using isIdempotent flag: %s", isIdempotent));
+        log.infoLazy(() -> String.format("Using isIdempotent flag: %s", isIdempotent));
         Long curTimeStamp = System.currentTimeMillis();
 
         List<Header> httpHeaders = new ArrayList<>();
@@ -88,13 +88,7 @@ public class HttpClientHandler implements IHttpClientHandler {
         }
 
         try {
-            CloseableHttpClient httpclient = HttpClients.custom()
-                    .setDefaultHeaders(httpHeaders)
-                    .setDefaultRequestConfig(REQUEST_CONFIG)
-                    .setServiceUnavailableRetryStrategy(getRetryStrategy())
-                    .setRetryHandler(getRetryHandler(isIdempotent, request.getMethod()))   
-                    .build();
-            try (CloseableHttpResponse response = httpclient.execute(request)) {
+            try (CloseableHttpResponse response = execute(request, httpHeaders, isIdempotent)) {
 
                 String responseBody = readResponseBody(response.getEntity().getContent());
 
@@ -115,23 +109,31 @@ public class HttpClientHandler implements IHttpClientHandler {
             throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Internal communication failure", "Internal communication failure", e);
         } finally {
             Long latency = System.currentTimeMillis() - curTimeStamp;
-            log.debug(String.format("method: %s | latency: %s | url: %s | correlation id: %s", request.getMethod(), latency, request.getURI().toString(), requestHeaders.getHeaders().get(DpsHeaders.CORRELATION_ID)));
+            log.debugLazy(() -> String.format("method: %s | latency: %s | url: %s | correlation id: %s", request.getMethod(), latency, request.getURI().toString(), requestHeaders.getHeaders().get(DpsHeaders.CORRELATION_ID)));
         }
     }
 
+    /**
+     * Executes the request on a client configured with the given default headers and the retry
+     * handling of this handler.
+     */
+    protected CloseableHttpResponse execute(HttpRequestBase request, List<Header> httpHeaders, boolean isIdempotent) throws IOException {
+        CloseableHttpClient httpclient = HttpClients.custom()
+                .setDefaultHeaders(httpHeaders)
+                .setDefaultRequestConfig(REQUEST_CONFIG)
+                .setServiceUnavailableRetryStrategy(getRetryStrategy())
+                .setRetryHandler(getRetryHandler(isIdempotent, request.getMethod()))
+                .build();
+        return httpclient.execute(request);
+    }
+
     public String readResponseBody(InputStream stream) throws IOException {
-        StringBuilder responseBuilder = new StringBuilder();
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-            String responsePayloadLine;
-            while ((responsePayloadLine = br.readLine()) != null) {
-                responseBuilder.append(responsePayloadLine);
-            }
+        try (InputStream input = stream) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
         }
-
-        return responseBuilder.toString();
     }
 
-    private ServiceUnavailableRetryStrategy getRetryStrategy() {
+    ServiceUnavailableRetryStrategy getRetryStrategy() {
         return new ServiceUnavailableRetryStrategy() {
             @Override
             public boolean retryRequest(
@@ -0,0 +1,57 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import com.google.common.base.Strings;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Sizing of the connection pool shared by the outbound HTTP clients. Defaults can be overridden
+ * with system properties or environment variables of the same name.
+ */
+@Builder
+@Data
+public class HttpClientPoolConfig {
+
+    public static final String MAX_CONNECTIONS_TOTAL = "HTTP_CLIENT_MAX_CONNECTIONS_TOTAL";
+    public static final String MAX_CONNECTIONS_PER_ROUTE = "HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE";
+    public static final String IDLE_CONNECTION_TIMEOUT = "HTTP_CLIENT_IDLE_CONNECTION_TIMEOUT_MS";
+    public static final String VALIDATE_AFTER_INACTIVITY = "HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY_MS";
+
+    @Builder.Default
+    private int maxConnectionsTotal = getIntProperty(MAX_CONNECTIONS_TOTAL, 200);
+
+    @Builder.Default
+    private int maxConnectionsPerRoute = getIntProperty(MAX_CONNECTIONS_PER_ROUTE, 50);
+
+    @Builder.Default
+    private int idleConnectionTimeout = getIntProperty(IDLE_CONNECTION_TIMEOUT, 30000);
+
+    @Builder.Default
+    private int validateAfterInactivity = getIntProperty(VALIDATE_AFTER_INACTIVITY, 2000);
+
+    static int getIntProperty(String propertyKey, int defaultValue) {
+        String value = System.getProperty(propertyKey, System.getenv(propertyKey));
+        if (Strings.isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -14,16 +14,23 @@
 
 package org.opengroup.osdu.core.common.http;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class HttpResponse {
     Map<String, List<String>> headers;
@@ -34,6 +41,99 @@ public class HttpResponse {
     private HttpRequest request;
     private long latency = 0;
 
+    // undecoded response entity, the String body is only materialized when asked for
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] rawBody;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Charset charset = StandardCharsets.UTF_8;
+
+    // value read from the entity stream of a successful response, in place of the body
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Object parsedBody;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private boolean bodyParsed;
+
+    public HttpResponse(Map<String, List<String>> headers, String body, String contentType, int responseCode,
+                        Exception exception, HttpRequest request, long latency) {
+        this.headers = headers;
+        this.body = body;
+        this.contentType = contentType;
+        this.responseCode = responseCode;
+        this.exception = exception;
+        this.request = request;
+        this.latency = latency;
+    }
+
+    public String getBody() {
+        if (this.body == null && this.rawBody != null) {
+            this.body = new String(this.rawBody, this.charset);
+        }
+        return this.body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+        this.rawBody = null;
+    }
+
+    /**
+     * Sets the response entity as read from the wire. The String returned by {@link #getBody()} is
+     * decoded lazily from these bytes with the given charset.
+     */
+    public void setRawBody(byte[] rawBody, Charset charset) {
+        this.rawBody = rawBody;
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
+        this.body = null;
+    }
+
+    /**
+     * Sets the value read from the response entity by a {@link HttpResponseBodyReader}. The entity is not kept,
+     * so {@link #getBody()} is empty.
+     */
+    public void setParsedBody(Object parsedBody) {
+        this.parsedBody = parsedBody;
+        this.bodyParsed = true;
+        this.rawBody = null;
+        this.body = "";
+    }
+
+    /**
+     * Returns the value read from the response entity, see {@link #isBodyParsed()}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getParsedBody() {
+        return (T) this.parsedBody;
+    }
+
+    /**
+     * Returns the response entity as a stream, without materializing the String body.
+     */
+    public InputStream getBodyAsStream() {
+        if (this.rawBody != null) {
+            return new ByteArrayInputStream(this.rawBody);
+        }
+        return new ByteArrayInputStream(this.body == null ? new byte[0] : this.body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isBodyBlank() {
+        if (this.rawBody == null) {
+            return this.body == null || this.body.isBlank();
+        }
+        for (byte b : this.rawBody) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public boolean isSuccessCode() {
         return responseCode >= 200 && responseCode <= 299;
     }
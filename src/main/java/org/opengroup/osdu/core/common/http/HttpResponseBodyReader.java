@@ -0,0 +1,34 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Reads the value of a successful response straight from the entity stream, see
+ * {@link IHttpClient#send(HttpRequest, HttpResponseBodyReader)}.
+ */
+@FunctionalInterface
+public interface HttpResponseBodyReader<T> {
+
+    /**
+     * @param body    - the response entity, closed by the caller
+     * @param charset - the charset of the Content-Type header, UTF-8 if not given
+     * @return the value of the body, null for a blank body
+     */
+    T read(InputStream body, Charset charset) throws IOException;
+}
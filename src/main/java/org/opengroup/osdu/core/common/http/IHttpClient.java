@@ -14,10 +14,30 @@
 
 package org.opengroup.osdu.core.common.http;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface IHttpClient {
     HttpResponse send(HttpRequest request);
     default HttpResponse send(HttpRequest request, boolean isIdempotent) {
         // default behavior: ignore isIdempotent, delegate to existing send
         return send(request);
     }
+
+    /**
+     * Sends the request and reads a successful response with the given reader, whose value is then returned by
+     * {@link HttpResponse#getParsedBody()}. Other responses keep their body. The default implementation reads the
+     * buffered body; clients able to do so read the entity stream without buffering it.
+     */
+    default <T> HttpResponse send(HttpRequest request, HttpResponseBodyReader<T> bodyReader) {
+        HttpResponse response = send(request);
+        if (response.isSuccessCode() && !response.hasException()) {
+            try (InputStream body = response.getBodyAsStream()) {
+                response.setParsedBody(bodyReader.read(body, response.getCharset()));
+            } catch (IOException e) {
+                response.setException(e);
+            }
+        }
+        return response;
+    }
 }
@@ -0,0 +1,38 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+
+public interface IRequestExecutor extends AutoCloseable {
+
+    /**
+     * Runs the task asynchronously with a copy of the given headers. The correlation id of the
+     * headers and the current request attributes are propagated to the executing thread.
+     */
+    <T> CompletableFuture<T> submit(DpsHeaders headers, RequestTask<T> task);
+
+    /**
+     * Runs all tasks concurrently and waits for them to finish. Results are returned in task order.
+     *
+     * @throws org.opengroup.osdu.core.common.model.http.AppException if any of the tasks failed
+     */
+    <T> List<T> invokeAll(DpsHeaders headers, List<RequestTask<T>> tasks);
+
+    @Override
+    void close();
+}
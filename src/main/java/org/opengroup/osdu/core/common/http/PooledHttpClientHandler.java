@@ -0,0 +1,107 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.Header;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Singleton {@link IHttpClientHandler} that keeps one pooled client for the lifetime of the
+ * application instead of building a new client per request. Retry decisions are the same as
+ * {@link HttpClientHandler}: the per-request {@link #getRetryHandler(boolean, String)} is passed
+ * through the execution context and consulted by the shared client.
+ */
+@Component
+@ConditionalOnProperty(prefix = "httpClientHandler", name = "strategy", havingValue = "pooled")
+public class PooledHttpClientHandler extends HttpClientHandler implements AutoCloseable {
+
+    static final String RETRY_HANDLER_ATTRIBUTE = "osdu.retry-handler";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    public PooledHttpClientHandler() {
+        this(HttpClientPoolConfig.builder().build());
+    }
+
+    public PooledHttpClientHandler(HttpClientPoolConfig config) {
+        this.connectionManager = PooledHttpClients.createConnectionManager(config);
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(this.connectionManager)
+                .setDefaultRequestConfig(REQUEST_CONFIG)
+                .setServiceUnavailableRetryStrategy(getRetryStrategy())
+                .setRetryHandler(PooledHttpClientHandler::retryFromContext)
+                .evictExpiredConnections()
+                .evictIdleConnections(config.getIdleConnectionTimeout(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    protected CloseableHttpResponse execute(HttpRequestBase request, List<Header> httpHeaders, boolean isIdempotent) throws IOException {
+        for (Header header : httpHeaders) {
+            if (!request.containsHeader(header.getName())) {
+                request.addHeader(header);
+            }
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setAttribute(RETRY_HANDLER_ATTRIBUTE, getRetryHandler(isIdempotent, request.getMethod()));
+        return this.httpClient.execute(request, context);
+    }
+
+    /**
+     * Returns the pool totals: leased, pending and available connections and the configured maximum.
+     */
+    public PoolStats getTotalStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * Returns the pool statistics per route, keyed by the target host of the route.
+     */
+    public Map<String, PoolStats> getRouteStats() {
+        Map<String, PoolStats> stats = new HashMap<>();
+        for (HttpRoute route : this.connectionManager.getRoutes()) {
+            stats.put(route.getTargetHost().toURI(), this.connectionManager.getStats(route));
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    static boolean retryFromContext(IOException exception, int executionCount, HttpContext context) {
+        Object handler = context.getAttribute(RETRY_HANDLER_ATTRIBUTE);
+        return handler instanceof HttpRequestRetryHandler
+                && ((HttpRequestRetryHandler) handler).retryRequest(exception, executionCount, context);
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * Process-wide pooled {@link CloseableHttpClient} used by {@link AbstractHttpClient}. Connections
+ * are kept alive and reused across requests, so callers must never close the returned client.
+ * Headers and timeouts are request specific and are set on each request instead of on the client.
+ */
+@Slf4j
+public final class PooledHttpClients {
+
+    private static volatile CloseableHttpClient sharedClient;
+
+    private PooledHttpClients() {
+    }
+
+    /**
+     * Returns the shared client, creating it with the default {@link HttpClientPoolConfig} on first use.
+     */
+    public static CloseableHttpClient getSharedClient() {
+        CloseableHttpClient client = sharedClient;
+        if (client == null) {
+            synchronized (PooledHttpClients.class) {
+                client = sharedClient;
+                if (client == null) {
+                    client = createSharedClient(HttpClientPoolConfig.builder().build());
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Replaces the shared client with one sized by the given config. Intended to be called once at
+     * application startup, before any outbound call is made.
+     */
+    public static synchronized void configure(HttpClientPoolConfig config) {
+        CloseableHttpClient previous = sharedClient;
+        createSharedClient(config);
+        closeQuietly(previous);
+    }
+
+    static PoolingHttpClientConnectionManager createConnectionManager(HttpClientPoolConfig config) {
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+        manager.setMaxTotal(config.getMaxConnectionsTotal());
+        manager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        manager.setValidateAfterInactivity(config.getValidateAfterInactivity());
+        return manager;
+    }
+
+    private static CloseableHttpClient createSharedClient(HttpClientPoolConfig config) {
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(createConnectionManager(config))
+                .evictExpiredConnections()
+                .evictIdleConnections(config.getIdleConnectionTimeout(), TimeUnit.MILLISECONDS)
+                .build();
+        sharedClient = client;
+        return client;
+    }
+
+    private static void closeQuietly(CloseableHttpClient client) {
+        if (client == null) {
+            return;
+        }
+        try {
+            client.close();
+        } catch (IOException e) {
+            log.warn("Error closing previous shared http client", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class RequestExecutorConfig {
+
+    public static final String EXECUTOR_MODE = "HTTP_CLIENT_EXECUTOR_MODE";
+    public static final String MAX_CONCURRENCY = "HTTP_CLIENT_EXECUTOR_MAX_CONCURRENCY";
+
+    @Builder.Default
+    private ExecutorMode mode = getModeProperty();
+
+    @Builder.Default
+    private int maxConcurrency = HttpClientPoolConfig.getIntProperty(MAX_CONCURRENCY, 200);
+
+    private static ExecutorMode getModeProperty() {
+        String value = System.getProperty(EXECUTOR_MODE, System.getenv(EXECUTOR_MODE));
+        return ExecutorMode.VIRTUAL.name().equalsIgnoreCase(value) ? ExecutorMode.VIRTUAL : ExecutorMode.PLATFORM;
+    }
+}
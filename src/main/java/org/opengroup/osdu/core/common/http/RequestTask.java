@@ -0,0 +1,27 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+
+/**
+ * A downstream call run by an {@link IRequestExecutor}, for example
+ * {@code headers -> entitlementsFactory.create(headers).getGroups()}. The headers passed in are a
+ * copy of the caller's headers, so tasks can safely hand them to the service factories.
+ */
+@FunctionalInterface
+public interface RequestTask<T> {
+    T call(DpsHeaders headers) throws Exception;
+}
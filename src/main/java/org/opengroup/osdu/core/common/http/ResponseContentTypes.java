@@ -0,0 +1,46 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import org.apache.http.HttpEntity;
+import org.apache.http.ParseException;
+import org.apache.http.entity.ContentType;
+
+public final class ResponseContentTypes {
+
+    private static final ContentType DEFAULT = ContentType.create(ContentType.TEXT_PLAIN.getMimeType(), StandardCharsets.UTF_8);
+
+    private ResponseContentTypes() {
+    }
+
+    /**
+     * Returns the content type of a response entity, always with a charset. A missing or malformed Content-Type
+     * header gives text/plain, and a missing or unsupported charset gives UTF-8.
+     */
+    public static ContentType getOrDefault(HttpEntity entity) {
+        ContentType contentType;
+        try {
+            contentType = entity == null ? null : ContentType.getLenient(entity);
+        } catch (ParseException | UnsupportedCharsetException e) {
+            contentType = null;
+        }
+        if (contentType == null) {
+            return DEFAULT;
+        }
+        return contentType.getCharset() == null ? contentType.withCharset(StandardCharsets.UTF_8) : contentType;
+    }
+}
@@ -14,12 +14,18 @@
 
 package org.opengroup.osdu.core.common.http.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.HttpResponseBodyReader;
 import org.springframework.stereotype.Component;
 
 
@@ -30,6 +36,18 @@ public class HttpResponseBodyMapper {
     private final ObjectMapper mapper;
 
     public <T> T parseBody(HttpResponse response, Class<T> type) throws HttpResponseBodyParsingException {
+        if (response.isBodyParsed()) {
+            Object parsed = response.getParsedBody();
+            return parsed == null || type.isInstance(parsed) ? type.cast(parsed) : mapper.convertValue(parsed, type);
+        }
+        if (response.getRawBody() != null) {
+            try (InputStream stream = response.getBodyAsStream()) {
+                return read(stream, response.getCharset(), type);
+            } catch (IOException e) {
+                throw new HttpResponseBodyParsingException(e);
+            }
+        }
+
         String body = response.getBody();
         if (StringUtils.isBlank(body)) {
             return null;
@@ -43,15 +61,35 @@ public class HttpResponseBodyMapper {
     }
 
     public JsonNode parseBody(HttpResponse response) throws HttpResponseBodyParsingException {
-        String body = response.getBody();
-        if (StringUtils.isBlank(body)) {
-            return null;
+        return parseBody(response, JsonNode.class);
+    }
+
+    /**
+     * Returns a reader parsing a successful response into the given type straight from the entity stream, for
+     * {@link org.opengroup.osdu.core.common.http.IHttpClient#send(org.opengroup.osdu.core.common.http.HttpRequest,
+     * HttpResponseBodyReader)}. The value is then returned by {@link #parseBody(HttpResponse, Class)}.
+     */
+    public <T> HttpResponseBodyReader<T> bodyReader(Class<T> type) {
+        return (body, charset) -> read(body, charset, type);
+    }
+
+    /**
+     * Parses a JSON entity decoded with the given charset, null if the entity is blank.
+     */
+    public <T> T read(InputStream body, Charset charset, Class<T> type) throws IOException {
+        try (JsonParser parser = createParser(body, charset)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return mapper.readValue(parser, type);
         }
+    }
 
-        try {
-            return mapper.readTree(body);
-        } catch (JsonProcessingException e) {
-            throw new HttpResponseBodyParsingException(e);
+    private JsonParser createParser(InputStream body, Charset charset) throws IOException {
+        if (charset == null || charset.name().startsWith("UTF-")) {
+            // Jackson detects the UTF-8, UTF-16 and UTF-32 encodings from the bytes
+            return mapper.createParser(body);
         }
+        return mapper.createParser(new InputStreamReader(body, charset));
     }
 }
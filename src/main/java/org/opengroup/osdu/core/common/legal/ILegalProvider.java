@@ -14,6 +14,8 @@
 
 package org.opengroup.osdu.core.common.legal;
 
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.model.legal.InvalidTagsWithReason;
 import org.opengroup.osdu.core.common.model.legal.LegalException;
 import org.opengroup.osdu.core.common.model.legal.LegalTag;
@@ -27,7 +29,15 @@ public interface ILegalProvider {
 
     LegalTag get(String name) throws LegalException;
 
+    default CompletableFuture<LegalTag> getAsync(String name) {
+        return AsyncResults.completed(() -> get(name));
+    }
+
     LegalTagProperties getLegalTagProperties() throws LegalException;
 
     InvalidTagsWithReason validate(String... names) throws LegalException;
+
+    default CompletableFuture<InvalidTagsWithReason> validateAsync(String... names) {
+        return AsyncResults.completed(() -> validate(names));
+    }
 }
\ No newline at end of file
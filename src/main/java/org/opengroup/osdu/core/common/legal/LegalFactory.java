@@ -16,6 +16,7 @@ package org.opengroup.osdu.core.common.legal;
 
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.http.AsyncHttpClient;
 import org.opengroup.osdu.core.common.http.HttpClient;
 
 public class LegalFactory implements ILegalFactory {
@@ -33,6 +34,6 @@ public class LegalFactory implements ILegalFactory {
         if (headers == null) {
             throw new NullPointerException("headers cannot be null");
         }
-        return new LegalService(this.config, new HttpClient(), headers, mapper);
+        return new LegalService(this.config, new HttpClient(), new AsyncHttpClient(), headers, mapper);
     }
 }
\ No newline at end of file
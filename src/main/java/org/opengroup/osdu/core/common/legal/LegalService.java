@@ -17,8 +17,11 @@ package org.opengroup.osdu.core.common.legal;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
@@ -33,6 +36,7 @@ import org.opengroup.osdu.core.common.util.UrlNormalizationUtil;
 public class LegalService implements ILegalProvider {
     private final String rootUrl;
     private final IHttpClient httpClient;
+    private final IAsyncHttpClient asyncHttpClient;
     private final DpsHeaders headers;
     private final ObjectMapper objectMapper;
     private final HttpResponseBodyMapper responseBodyMapper;
@@ -41,8 +45,17 @@ public class LegalService implements ILegalProvider {
                  IHttpClient httpClient,
                  DpsHeaders headers,
                  HttpResponseBodyMapper mapper) {
+        this(config, httpClient, null, headers, mapper);
+    }
+
+    public LegalService(LegalAPIConfig config,
+                 IHttpClient httpClient,
+                 IAsyncHttpClient asyncHttpClient,
+                 DpsHeaders headers,
+                 HttpResponseBodyMapper mapper) {
         this.rootUrl = config.getRootUrl();
         this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
         this.headers = headers;
         this.objectMapper = new ObjectMapper();
         this.responseBodyMapper = mapper;
@@ -74,6 +87,17 @@ public class LegalService implements ILegalProvider {
         return result.IsNotFoundCode() ? null : this.getResult(result, LegalTag.class);
     }
 
+    @Override
+    public CompletableFuture<LegalTag> getAsync(String name) {
+        if (this.asyncHttpClient == null) {
+            return ILegalProvider.super.getAsync(name);
+        }
+        String url = this.createUrl(String.format("/legaltags/%s", name));
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(HttpRequest.get().url(url).headers(this.headers.getHeaders()).build()),
+                result -> result.IsNotFoundCode() ? null : this.getResult(result, LegalTag.class));
+    }
+
     @Override
     public void delete(String name) throws LegalException {
         String url = this.createUrl(String.format("/legaltags/%s", name));
@@ -92,6 +116,19 @@ public class LegalService implements ILegalProvider {
         return this.getResult(result, InvalidTagsWithReason.class);
     }
 
+    @Override
+    public CompletableFuture<InvalidTagsWithReason> validateAsync(String... names) {
+        if (this.asyncHttpClient == null) {
+            return ILegalProvider.super.validateAsync(names);
+        }
+        String url = this.createUrl("/legaltags:validate");
+        RequestLegalTags rlt = new RequestLegalTags();
+        rlt.setNames(names);
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(HttpRequest.post(rlt).url(url).headers(this.headers.getHeaders()).build()),
+                result -> this.getResult(result, InvalidTagsWithReason.class));
+    }
+
     @Override
     public LegalTagProperties getLegalTagProperties() throws LegalException {
         String url = this.createUrl("/legaltags:properties");
@@ -0,0 +1,248 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.logging;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import lombok.extern.java.Log;
+import org.opengroup.osdu.core.common.model.http.Request;
+
+/**
+ * {@link ILogWriter} handing the entries to a background thread, which writes them in batches through the wrapped
+ * writer. The calling thread only pays for putting the entry into a bounded lock-free buffer. When the buffer is full
+ * the entry is handled according to the {@link LogOverflowPolicy}.
+ * <p>
+ * {@link #close()} writes the pending entries and closes the wrapped writer. If the writer thread is still writing
+ * after the close timeout, it is interrupted, and the wrapped writer is left open if it does not stop either.
+ */
+@Log
+public class AsyncLogWriter implements ILogWriter {
+
+    private final ILogWriter delegate;
+    private final LogRingBuffer<Entry> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int sampleRate;
+    private final long closeTimeoutMillis;
+    private final Thread writerThread;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    // callers between the closed check and the offer, waited for by the final drain
+    private final AtomicInteger enqueuing = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    public AsyncLogWriter(ILogWriter delegate) {
+        this(delegate, AsyncLogWriterConfig.builder().build());
+    }
+
+    public AsyncLogWriter(ILogWriter delegate, AsyncLogWriterConfig config) {
+        if (delegate == null)
+            throw new IllegalArgumentException("Null Logger provided");
+        this.delegate = delegate;
+        this.buffer = new LogRingBuffer<>(config.getCapacity());
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getFlushIntervalMillis()));
+        this.sampleRate = Math.max(1, config.getSampleRate());
+        this.closeTimeoutMillis = Math.max(1, config.getCloseTimeoutMillis());
+        this.writerThread = new Thread(this::run, "async-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void writeJsonEntry(String logname, Map<String, Object> json, Map<String, String> labels) {
+        enqueue(new Entry(EntryType.JSON, logname, Level.INFO, null, json, null, labels));
+    }
+
+    @Override
+    public void writeRequestEntry(String logname, String text, Request request, Map<String, String> labels) {
+        enqueue(new Entry(EntryType.REQUEST, logname, Level.INFO, text, null, request, labels));
+    }
+
+    @Override
+    public void writeEntry(String logname, Level severity, String text, Map<String, String> labels) {
+        enqueue(new Entry(EntryType.TEXT, logname, severity, text, null, null, labels));
+    }
+
+    @Override
+    public boolean isLoggable(Level severity) {
+        return delegate.isLoggable(severity);
+    }
+
+    /**
+     * Returns the number of entries dropped because the buffer was full or they were sampled out.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the number of entries the wrapped writer failed to write.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        writerThread.join(closeTimeoutMillis);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            writerThread.join(closeTimeoutMillis);
+        }
+        if (writerThread.isAlive()) {
+            log.warning("Log writer thread still writing after close, the wrapped writer is left open");
+            return;
+        }
+        try {
+            delegate.close();
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Failed to close the wrapped log writer", e);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        enqueuing.incrementAndGet();
+        try {
+            offer(entry);
+        } finally {
+            enqueuing.decrementAndGet();
+        }
+    }
+
+    private void offer(Entry entry) {
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        if (overflowPolicy == LogOverflowPolicy.SAMPLE && isSampledOut(entry)) {
+            dropped.increment();
+            return;
+        }
+        if (buffer.offer(entry)) {
+            return;
+        }
+        if (overflowPolicy == LogOverflowPolicy.BLOCK) {
+            while (!closed && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(flushIntervalNanos / 10);
+                if (buffer.offer(entry)) {
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+    }
+
+    private boolean isSampledOut(Entry entry) {
+        boolean important = entry.severity != null && entry.severity.intValue() >= Level.WARNING.intValue();
+        if (important || buffer.size() < buffer.capacity() / 2) {
+            return false;
+        }
+        return sampleCounter.incrementAndGet() % sampleRate != 0;
+    }
+
+    private void run() {
+        while (!closed) {
+            if (writeBatch() == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        // drain what was logged before close, including the entries of callers which passed the closed check
+        while (true) {
+            boolean enqueuingBeforeDrain = enqueuing.get() > 0;
+            if (writeBatch() == 0) {
+                if (!enqueuingBeforeDrain) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private int writeBatch() {
+        int count = 0;
+        Entry entry;
+        while (count < batchSize && (entry = buffer.poll()) != null) {
+            count++;
+            try {
+                entry.writeTo(delegate);
+                written.increment();
+            } catch (Throwable e) {
+                // an Error must not stop the writer thread, the entries would pile up unwritten
+                failed.increment();
+                log.log(Level.WARNING, "Failed to write log entry", e);
+            }
+        }
+        return count;
+    }
+
+    private enum EntryType {
+        TEXT, JSON, REQUEST
+    }
+
+    private static final class Entry {
+        final EntryType type;
+        final String logname;
+        final Level severity;
+        final String text;
+        final Map<String, Object> json;
+        final Request request;
+        final Map<String, String> labels;
+
+        Entry(EntryType type, String logname, Level severity, String text, Map<String, Object> json, Request request,
+              Map<String, String> labels) {
+            this.type = type;
+            this.logname = logname;
+            this.severity = severity;
+            this.text = text;
+            this.json = json;
+            this.request = request;
+            this.labels = labels;
+        }
+
+        void writeTo(ILogWriter writer) {
+            if (type == EntryType.JSON) {
+                writer.writeJsonEntry(logname, json, labels);
+            } else if (type == EntryType.REQUEST) {
+                writer.writeRequestEntry(logname, text, request, labels);
+            } else {
+                writer.writeEntry(logname, severity, text, labels);
+            }
+        }
+    }
+}
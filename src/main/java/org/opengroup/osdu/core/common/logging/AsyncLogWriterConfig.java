@@ -0,0 +1,56 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.opengroup.osdu.core.common.logging;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class AsyncLogWriterConfig {
+
+    /**
+     * Number of entries the buffer holds, rounded up to a power of two.
+     */
+    @Builder.Default
+    private int capacity = 8192;
+
+    /**
+     * Maximum number of entries handed to the wrapped writer in one pass.
+     */
+    @Builder.Default
+    private int batchSize = 256;
+
+    /**
+     * How long the writer thread sleeps when the buffer is empty.
+     */
+    @Builder.Default
+    private long flushIntervalMillis = 10;
+
+    @Builder.Default
+    private LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP;
+
+    /**
+     * With {@link LogOverflowPolicy#SAMPLE}, one entry out of {@code sampleRate} is kept under pressure.
+     */
+    @Builder.Default
+    private int sampleRate = 10;
+
+    /**
+     * How long {@link AsyncLogWriter#close()} waits for the pending entries to be written, once before and once after
+     * interrupting the writer thread.
+     */
+    @Builder.Default
+    private long closeTimeoutMillis = 5000;
+}
@@ -36,6 +36,11 @@ public class DefaultLogWriter implements ILogWriter {
         log.log(severity, String.format("%s: %s %s", logname, text, labels));
     }
 
+    @Override
+    public boolean isLoggable(Level severity) {
+        return log.isLoggable(severity);
+    }
+
     @Override
     public void close()  {
         //do nothing
@@ -53,11 +53,17 @@ public class DefaultLogger implements ILogger {
     }
     @Override
     public void info(String logPrefix, String message, Map<String, String> labels){
+        if (!isInfoEnabled()) {
+            return;
+        }
         logWriter.writeEntry(logPrefix, Level.INFO, message, headersToLog.createStandardLabelsFromMap(labels));
     }
 
     @Override
     public void debug(String logPrefix, String message, Map<String, String> labels) {
+        if (!isDebugEnabled()) {
+            return;
+        }
         logWriter.writeEntry(logPrefix, Level.FINE, message, headersToLog.createStandardLabelsFromMap(labels));
     }
 
@@ -79,6 +85,16 @@ public class DefaultLogger implements ILogger {
         String exString = Throwables.getStackTraceAsString(ex);
         logWriter.writeEntry(logPrefix, Level.SEVERE, String.format("%s\n%s", message, exString), headersToLog.createStandardLabelsFromMap(labels));
     }
+    @Override
+    public boolean isDebugEnabled() {
+        return logWriter.isLoggable(Level.FINE);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logWriter.isLoggable(Level.INFO);
+    }
+
     @Override
     public void close() throws Exception {
         if(logWriter != null) {
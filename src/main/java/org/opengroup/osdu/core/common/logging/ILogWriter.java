@@ -24,4 +24,8 @@ public interface ILogWriter extends AutoCloseable{
     void writeJsonEntry(String logname, Map<String, Object> json, Map<String, String> labels);
     void writeRequestEntry(String logname, String text, Request request, Map<String, String> labels);
     void writeEntry(String logname, Level severity, String text, Map<String, String> labels);
+
+    default boolean isLoggable(Level severity) {
+        return true;
+    }
 }
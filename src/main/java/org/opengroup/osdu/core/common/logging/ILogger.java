@@ -18,6 +18,7 @@ import org.opengroup.osdu.core.common.model.http.Request;
 import org.opengroup.osdu.core.common.logging.audit.AuditPayload;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 public interface ILogger extends AutoCloseable {
     void audit(String logPrefix, AuditPayload payload, Map<String, String> headers);
@@ -36,6 +37,15 @@ public interface ILogger extends AutoCloseable {
 
     void info(String logPrefix, String message, Map<String, String> headers);
 
+    /**
+     * Builds the message only when info entries are written.
+     */
+    default void infoLazy(final String logPrefix, final Supplier<String> message, final Map<String, String> headers) {
+        if (this.isInfoEnabled()) {
+            this.info(logPrefix, message.get(), headers);
+        }
+    }
+
     default void info(final String loggerName, final String logPrefix, final String message,
                       final Map<String, String> headers) {
         this.info(logPrefix, message, headers);
@@ -43,6 +53,15 @@ public interface ILogger extends AutoCloseable {
 
     void debug(String logPrefix, String message, Map<String, String> headers);
 
+    /**
+     * Builds the message only when debug entries are written.
+     */
+    default void debugLazy(final String logPrefix, final Supplier<String> message, final Map<String, String> headers) {
+        if (this.isDebugEnabled()) {
+            this.debug(logPrefix, message.get(), headers);
+        }
+    }
+
     default void debug(final String loggerName, final String logPrefix, final String message,
                       final Map<String, String> headers) {
         this.debug(logPrefix, message, headers);
@@ -75,4 +94,12 @@ public interface ILogger extends AutoCloseable {
                        final Map<String, String> headers) {
         this.error(logPrefix, message, ex, headers);
     }
+
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    default boolean isInfoEnabled() {
+        return true;
+    }
 }
@@ -27,6 +27,7 @@ import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Component
 @RequestScope
@@ -38,6 +39,9 @@ public class JaxRsDpsLog implements AutoCloseable {
 	private ILogger log;
 	private DpsHeaders headers;
 
+	private Map<String, String> labels;
+	private int labelsVersion;
+
 	@Inject
 	public JaxRsDpsLog(ILogger log, DpsHeaders headers){
 		this.log = log;
@@ -68,6 +72,15 @@ public class JaxRsDpsLog implements AutoCloseable {
 		log.info(loggerName, LOG_PREFIX + ".app", message, this.getLabels());
 	}
 
+	/**
+	 * Builds the message and the labels only when info entries are written.
+	 */
+	public void infoLazy(Supplier<String> message) {
+		if (log.isInfoEnabled()) {
+			log.info(LOG_PREFIX + ".app", message.get(), this.getLabels());
+		}
+	}
+
 	public void debug(String message) {
 		log.debug(LOG_PREFIX + ".app", message, this.getLabels());
 	}
@@ -76,6 +89,23 @@ public class JaxRsDpsLog implements AutoCloseable {
 		log.debug(loggerName, LOG_PREFIX + ".app", message, this.getLabels());
 	}
 
+	/**
+	 * Builds the message and the labels only when debug entries are written.
+	 */
+	public void debugLazy(Supplier<String> message) {
+		if (log.isDebugEnabled()) {
+			log.debug(LOG_PREFIX + ".app", message.get(), this.getLabels());
+		}
+	}
+
+	public boolean isDebugEnabled() {
+		return log.isDebugEnabled();
+	}
+
+	public boolean isInfoEnabled() {
+		return log.isInfoEnabled();
+	}
+
 	public void debug(List<String> messages) {
 		if (messages == null || messages.isEmpty()) {
 			return;
@@ -146,15 +176,22 @@ public class JaxRsDpsLog implements AutoCloseable {
 	public void close() throws Exception {
 	}
 
+	/**
+	 * Returns the labels of the request headers, computed again only when the headers changed since the last call.
+	 */
 	private Map<String, String> getLabels() {
-		Map<String, String> out;
-		if (headers != null) {
-			out = LogUtils.createStandardLabelsFromMap(headers.getHeaders());
+		if (headers == null) {
+			return Collections.emptyMap();
+		}
+		int version = headers.modificationCount();
+		if (labels == null || labelsVersion != version) {
+			Map<String, String> out = LogUtils.createStandardLabelsFromMap(headers.getHeaders());
 			if (out.containsKey(AppEngineHeaders.TASK_RETRY_COUNT)) {
 				out.put(AppEngineHeaders.TASK_RETRY_COUNT, StringUtils.join(out.get(AppEngineHeaders.TASK_RETRY_COUNT), ','));
 			}
-			return out;
+			labels = Collections.unmodifiableMap(out);
+			labelsVersion = version;
+		}
+		return labels;
 	}
-		return Collections.emptyMap();
-}
 }
@@ -0,0 +1,33 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.opengroup.osdu.core.common.logging;
+
+/**
+ * What {@link AsyncLogWriter} does with an entry when its buffer is full.
+ */
+public enum LogOverflowPolicy {
+    /**
+     * Drops the entry and counts it.
+     */
+    DROP,
+    /**
+     * Waits on the logging thread until the writer frees a slot.
+     */
+    BLOCK,
+    /**
+     * Keeps one entry out of {@code sampleRate} below {@link java.util.logging.Level#WARNING} once the buffer is half
+     * full, and drops the entries that do not fit. Warnings and errors are only dropped when the buffer is full.
+     */
+    SAMPLE
+}
@@ -14,18 +14,59 @@
 
 package org.opengroup.osdu.core.common.model.entitlements;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
+/**
+ * Groups of a member. Lookups by name and email go through an index over the groups, which is rebuilt when the
+ * groups are replaced or changed through {@link #getGroups()}. The list given to {@link #setGroups(List)}, or set
+ * by a deserializer writing the field directly, is wrapped, so later changes must be made through
+ * {@link #getGroups()} rather than the original list.
+ */
 @Data
 public class Groups {
-    private List<GroupInfo> groups = new ArrayList<>();
+    private List<GroupInfo> groups = new GroupList(new ArrayList<>());
     private String memberEmail;
     private String desId;
 
+    // lookup index over the groups, dropped on every change of the group list and rebuilt on next use
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile GroupIndex index;
+
+    public List<GroupInfo> getGroups() {
+        List<GroupInfo> current = this.groups;
+        if (current != null && !(current instanceof GroupList)) {
+            // set reflectively, e.g. by Gson
+            current = new GroupList(current);
+            this.groups = current;
+            this.index = null;
+        }
+        return current;
+    }
+
+    public void setGroups(List<GroupInfo> groups) {
+        this.groups = groups == null ? null : new GroupList(groups);
+        this.index = null;
+    }
+
     public List<String> getGroupNames() {
         if (this.groups == null) {
             return new ArrayList<>();
@@ -35,27 +76,131 @@ public class Groups {
     }
 
     public Boolean any(String... groupNames) {
-        Boolean output = false;
-        if (this.groups != null) {
-            for (String groupName : groupNames) {
-                if (this.groups.stream()
-                        .map(GroupInfo::getName)
-                        .anyMatch(p -> p.equals(groupName))) {
-                    output = true;
-                    break;
-                }
+        if (this.groups == null) {
+            return false;
+        }
+        Map<String, GroupInfo> byName = this.getIndex().byName;
+        for (String groupName : groupNames) {
+            if (byName.containsKey(groupName)) {
+                return true;
             }
         }
-
-        return output;
+        return false;
     }
 
     public GroupInfo getGroup(String groupName) {
-        for (GroupInfo group : this.groups) {
-            if (group.getName().equals(groupName)) {
-                return group;
+        return this.getIndex().byName.get(groupName);
+    }
+
+    public GroupInfo getGroupByEmail(String email) {
+        if (this.groups == null) {
+            return null;
+        }
+        return this.getIndex().byEmail.get(email);
+    }
+
+    /**
+     * Returns the groups whose email belongs to the given tenant. The view is computed once per
+     * tenant and shared, so it must not be modified.
+     */
+    public Groups forTenant(String tenantName) {
+        GroupIndex current = this.groups == null ? null : this.getIndex();
+        if (current == null) {
+            return this.createTenantView(Collections.emptyList());
+        }
+        return current.tenantViews.computeIfAbsent(tenantName, tenant -> {
+            String tenantSuffix = "@" + tenant;
+            return this.createTenantView(this.groups.stream()
+                    .filter(group -> group.getEmail() != null && group.getEmail().contains(tenantSuffix))
+                    .collect(Collectors.toList()));
+        });
+    }
+
+    private Groups createTenantView(List<GroupInfo> tenantGroups) {
+        Groups view = new Groups();
+        view.setMemberEmail(this.memberEmail);
+        view.setDesId(this.desId);
+        view.setGroups(Collections.unmodifiableList(tenantGroups));
+        return view;
+    }
+
+    private GroupIndex getIndex() {
+        GroupIndex current = this.index;
+        if (current == null) {
+            current = new GroupIndex(this.groups);
+            this.index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Group list handed out by {@link #getGroups()}, dropping the index on every change. The bulk operations,
+     * iterators and sub lists of {@link AbstractList} all change the list through {@link #set}, {@link #add}
+     * and {@link #remove}.
+     */
+    private final class GroupList extends AbstractList<GroupInfo> implements RandomAccess {
+        private final List<GroupInfo> delegate;
+
+        private GroupList(List<GroupInfo> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public GroupInfo get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public GroupInfo set(int index, GroupInfo group) {
+            GroupInfo previous = delegate.set(index, group);
+            Groups.this.index = null;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, GroupInfo group) {
+            delegate.add(index, group);
+            modCount++;
+            Groups.this.index = null;
+        }
+
+        @Override
+        public GroupInfo remove(int index) {
+            GroupInfo removed = delegate.remove(index);
+            modCount++;
+            Groups.this.index = null;
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+            modCount++;
+            Groups.this.index = null;
+        }
+    }
+
+    private static final class GroupIndex {
+        private final Map<String, GroupInfo> byName;
+        private final Map<String, GroupInfo> byEmail;
+        private final ConcurrentMap<String, Groups> tenantViews = new ConcurrentHashMap<>();
+
+        private GroupIndex(List<GroupInfo> groups) {
+            Map<String, GroupInfo> names = new HashMap<>(groups.size() * 2);
+            Map<String, GroupInfo> emails = new HashMap<>(groups.size() * 2);
+            for (GroupInfo group : groups) {
+                names.putIfAbsent(group.getName(), group);
+                if (group.getEmail() != null) {
+                    emails.putIfAbsent(group.getEmail(), group);
+                }
             }
+            this.byName = Collections.unmodifiableMap(names);
+            this.byEmail = Collections.unmodifiableMap(emails);
         }
-        return null;
     }
 }
\ No newline at end of file
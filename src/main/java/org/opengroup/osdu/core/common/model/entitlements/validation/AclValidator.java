@@ -19,6 +19,7 @@ import jakarta.validation.ConstraintValidatorContext;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.opengroup.osdu.core.common.model.validation.ValidatorUtils;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 import org.opengroup.osdu.core.common.model.entitlements.Acl;
 import org.opengroup.osdu.core.common.model.storage.validation.ValidationDoc;
 
@@ -47,7 +48,7 @@ public class AclValidator implements ConstraintValidator<ValidAcl, Acl> {
 		}
 
 		for (int i = 0; i < acl.getViewers().length; i++) {
-			if (acl.getViewers()[i] == null || !acl.getViewers()[i].matches(ValidationDoc.EMAIL_REGEX)) {
+			if (acl.getViewers()[i] == null || !ValidationPatterns.isGroupEmail(acl.getViewers()[i])) {
 				context.buildConstraintViolationWithTemplate(
 						String.format(ValidationDoc.INVALID_GROUP_NAME, ValidatorUtils.escapeString(acl.getViewers()[i]))).addConstraintViolation();
 				return false;
@@ -55,7 +56,7 @@ public class AclValidator implements ConstraintValidator<ValidAcl, Acl> {
 		}
 
 		for (int i = 0; i < acl.getOwners().length; i++) {
-			if (acl.getOwners()[i] == null || !acl.getOwners()[i].matches(ValidationDoc.EMAIL_REGEX)) {
+			if (acl.getOwners()[i] == null || !ValidationPatterns.isGroupEmail(acl.getOwners()[i])) {
 				context.buildConstraintViolationWithTemplate(
 						String.format(ValidationDoc.INVALID_GROUP_NAME, ValidatorUtils.escapeString(acl.getOwners()[i]))).addConstraintViolation();
 				return false;
@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class DpsHeaders {
     public static final String ACCOUNT_ID = "account-id";
@@ -62,7 +64,7 @@ public class DpsHeaders {
         headerKeys.add(COLLABORATION);
     }
 
-    private final Map<String, String> headers = new HashMap<>();
+    private final VersionedMap headers = new VersionedMap();
 
     public DpsHeaders() {
         this.headers.put(CONTENT_TYPE, "application/json");
@@ -180,7 +182,97 @@ public class DpsHeaders {
         }
     }
 
+    /**
+     * Returns a counter increased on every change of the headers, e.g. to know whether values derived from them are
+     * still current. Changes made through the views of {@link #getHeaders()}, such as its entry set, are not counted.
+     */
+    public int modificationCount() {
+        return this.headers.version;
+    }
+
     private String getHeader(String key) {
         return this.headers.get(key.toLowerCase());
     }
+
+    private static class VersionedMap extends HashMap<String, String> {
+        private int version;
+
+        @Override
+        public String put(String key, String value) {
+            version++;
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends String> m) {
+            version++;
+            super.putAll(m);
+        }
+
+        @Override
+        public String putIfAbsent(String key, String value) {
+            version++;
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public String remove(Object key) {
+            version++;
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            version++;
+            return super.remove(key, value);
+        }
+
+        @Override
+        public String replace(String key, String value) {
+            version++;
+            return super.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(String key, String oldValue, String newValue) {
+            version++;
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super String, ? extends String> function) {
+            version++;
+            super.replaceAll(function);
+        }
+
+        @Override
+        public String compute(String key, BiFunction<? super String, ? super String, ? extends String> function) {
+            version++;
+            return super.compute(key, function);
+        }
+
+        @Override
+        public String computeIfAbsent(String key, Function<? super String, ? extends String> function) {
+            version++;
+            return super.computeIfAbsent(key, function);
+        }
+
+        @Override
+        public String computeIfPresent(String key, BiFunction<? super String, ? super String, ? extends String> function) {
+            version++;
+            return super.computeIfPresent(key, function);
+        }
+
+        @Override
+        public String merge(String key, String value, BiFunction<? super String, ? super String, ? extends String> function) {
+            version++;
+            return super.merge(key, value, function);
+        }
+
+        @Override
+        public void clear() {
+            version++;
+            super.clear();
+        }
+    }
 }
@@ -31,12 +31,12 @@ import org.opengroup.osdu.core.common.model.legal.validation.ValidLegalTagProper
 import org.opengroup.osdu.core.common.model.legal.validation.ValidOriginator;
 import org.opengroup.osdu.core.common.model.legal.validation.ValidPersonalData;
 import org.opengroup.osdu.core.common.model.legal.validation.ValidSecurityClassification;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opengroup.osdu.core.common.util.SerializationUtils.DEFAULT_EXPIRATION_DATE;
@@ -133,8 +133,7 @@ public class Properties {
         else if (isUnknownOrNonExistantContractId())
             return false;
         else { //validate it has a properties id
-            Pattern p = Pattern.compile("^[-.A-Za-z0-9]{3,40}+$");
-            return p.matcher(contractId).matches();
+            return ValidationPatterns.CONTRACT_ID.matcher(contractId).matches();
         }
     }
 
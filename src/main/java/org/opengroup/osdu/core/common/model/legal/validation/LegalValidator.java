@@ -20,6 +20,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import org.apache.commons.lang3.math.NumberUtils;
 
 import org.opengroup.osdu.core.common.model.validation.ValidatorUtils;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 import org.opengroup.osdu.core.common.model.storage.Record;
 
 import io.jsonwebtoken.lang.Collections;
@@ -40,14 +41,14 @@ public class LegalValidator implements ConstraintValidator<ValidLegal, Record> {
 		if (record.getAncestry() != null && !Collections.isEmpty(record.getAncestry().getParents())) {
 			for (String parent : record.getAncestry().getParents()) {
 
-				if (!parent.matches(ValidationDoc.RECORD_ID_REGEX)) {
+				if (!ValidationPatterns.isRecordId(parent)) {
 					String msg = String.format(ValidationDoc.INVALID_PARENT_RECORD_ID_FORMAT, ValidatorUtils.escapeString(parent));
 					
 					context.buildConstraintViolationWithTemplate(msg).addConstraintViolation();
 					return false;
 				}
 
-				if (!parent.matches(ValidationDoc.RECORD_ID_WITH_VERSION_REGEX)) {
+				if (!ValidationPatterns.isRecordIdWithVersion(parent)) {
 					String msg = String.format(ValidationDoc.INVALID_PARENT_RECORD_VERSION_FORMAT, ValidatorUtils.escapeString(parent));
 					
 					context.buildConstraintViolationWithTemplate(msg).addConstraintViolation();
@@ -15,14 +15,13 @@
 package org.opengroup.osdu.core.common.model.legal.validation;
 
 import com.google.common.base.Strings;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 public class NameValidator implements ConstraintValidator<ValidName, String> {
 
-	private static final String NAME_PATTERN = "^[-A-Za-z0-9]{3,100}+$";
-
 	@Override
 	public void initialize(ValidName constraintAnnotation) {
 		//needed by interface - we don't use
@@ -30,6 +29,6 @@ public class NameValidator implements ConstraintValidator<ValidName, String> {
 
 	@Override
 	public boolean isValid(String name, ConstraintValidatorContext context) {
-		return !Strings.isNullOrEmpty(name) && name.matches(NAME_PATTERN);
+		return !Strings.isNullOrEmpty(name) && ValidationPatterns.LEGAL_TAG_NAME.matcher(name).matches();
 	}
 }
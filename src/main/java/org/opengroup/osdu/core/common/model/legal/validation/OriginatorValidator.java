@@ -15,14 +15,13 @@
 package org.opengroup.osdu.core.common.model.legal.validation;
 
 import com.google.common.base.Strings;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 public class OriginatorValidator implements ConstraintValidator<ValidOriginator, String> {
 
-	private static final String PATTERN = "^[-. A-Za-z0-9]{3,60}+$";
-
 	@Override
 	public void initialize(ValidOriginator constraintAnnotation) {
 		//needed by interface - we don't use
@@ -30,7 +29,7 @@ public class OriginatorValidator implements ConstraintValidator<ValidOriginator,
 
 	@Override
 	public boolean isValid(String originator, ConstraintValidatorContext context) {
-		return !isNullOrWhitespace(originator) && originator.matches(PATTERN);
+		return !isNullOrWhitespace(originator) && ValidationPatterns.ORIGINATOR.matcher(originator).matches();
 	}
 
 	private boolean isNullOrWhitespace(String string){
@@ -16,6 +16,7 @@ package org.opengroup.osdu.core.common.model.search.validation;
 
 import org.opengroup.osdu.core.common.SwaggerDoc;
 import org.opengroup.osdu.core.common.model.validation.ValidatorUtils;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 import org.opengroup.osdu.core.common.search.ElasticIndexNameResolver;
 import org.opengroup.osdu.core.common.util.KindParser;
 
@@ -25,7 +26,6 @@ import java.util.List;
 
 public class MultiKindValidator implements ConstraintValidator<ValidMultiKind, Object> {
 
-    private static final String MULTI_KIND_PATTERN = "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:[(\\d+.)+(\\d+.)+(\\d+)\\*]+$";
     private final ElasticIndexNameResolver elasticIndexNameResolver = new ElasticIndexNameResolver();
 
     // ElasticSearch sets the index names (that are transformed kind names) in the URI. Max. length of a URI is 4096.
@@ -47,7 +47,7 @@ public class MultiKindValidator implements ConstraintValidator<ValidMultiKind, O
 
             int totalLen = 0;
             for (String singleKind : kinds) {
-                if (!singleKind.matches(MULTI_KIND_PATTERN)) {
+                if (!ValidationPatterns.MULTI_KIND.matcher(singleKind).matches()) {
                     addConstraintViolation(SwaggerDoc.KIND_VALIDATION_NOT_SUPPORTED_FORMAT, kind, context);
                     return false;
                 }
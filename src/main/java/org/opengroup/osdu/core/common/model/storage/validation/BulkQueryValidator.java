@@ -22,6 +22,7 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.opengroup.osdu.core.common.model.validation.ValidatorUtils;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 import org.opengroup.osdu.core.common.model.storage.RecordQuery;
 
 public class BulkQueryValidator implements ConstraintValidator<ValidBulkQuery, RecordQuery> {
@@ -49,7 +50,7 @@ public class BulkQueryValidator implements ConstraintValidator<ValidBulkQuery, R
                         .addConstraintViolation();
                 return false;
             }
-            if (!recordId.matches(ValidationDoc.RECORD_ID_REGEX) && !recordId.matches(ValidationDoc.RECORD_ID_WITH_VERSION_REGEX)) {
+            if (!ValidationPatterns.isRecordId(recordId) && !ValidationPatterns.isRecordIdWithVersion(recordId)) {
                 context.buildConstraintViolationWithTemplate(String.format(ValidationDoc.INVALID_RECORD_ID_FORMAT, ValidatorUtils.escapeString(recordId)))
                         .addConstraintViolation();
                 return false;
@@ -17,6 +17,8 @@ package org.opengroup.osdu.core.common.model.storage.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
+
 public class KindValidator implements ConstraintValidator<ValidKind, String> {
 
 
@@ -28,13 +30,13 @@ public class KindValidator implements ConstraintValidator<ValidKind, String> {
 	@Override
 	public boolean isValid(String kind, ConstraintValidatorContext context) {
 
-		return kind.matches(ValidationDoc.KIND_REGEX);
+		return ValidationPatterns.isKind(kind);
 	}
 
 	public static boolean isKindFromTenantValid(String kind, String tenant) {
 
 		String kindAccount = kind.split(":")[0];
 
-		return kind.matches(ValidationDoc.KIND_REGEX) && kindAccount.equalsIgnoreCase(tenant);
+		return ValidationPatterns.isKind(kind) && kindAccount.equalsIgnoreCase(tenant);
 	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package org.opengroup.osdu.core.common.model.storage.validation;
 
 import org.opengroup.osdu.core.common.model.storage.RecordAncestry;
 import org.opengroup.osdu.core.common.model.validation.ValidatorUtils;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -41,13 +42,13 @@ public class RecordAncestryValidator implements ConstraintValidator<ValidRecordA
             }
             Set<String> recordIds = recordAncestry.getParents();
             for (String recordId : recordIds) {
-                if (!recordId.matches(ValidationDoc.RECORD_ID_REGEX)) {
+                if (!ValidationPatterns.isRecordId(recordId)) {
                     context.buildConstraintViolationWithTemplate(String.format(ValidationDoc.INVALID_PARENT_RECORD_ID_FORMAT, ValidatorUtils.escapeString(recordId)))
                             .addConstraintViolation();
                     return false;
                 }
 
-                if (!recordId.matches(ValidationDoc.RECORD_ID_WITH_VERSION_REGEX)) {
+                if (!ValidationPatterns.isRecordIdWithVersion(recordId)) {
                     context.buildConstraintViolationWithTemplate(String.format(ValidationDoc.INVALID_PARENT_RECORD_VERSION_FORMAT, ValidatorUtils.escapeString(recordId)))
                             .addConstraintViolation();
                     return false;
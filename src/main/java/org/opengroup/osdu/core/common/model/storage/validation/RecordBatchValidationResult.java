@@ -0,0 +1,78 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.storage.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Violations of a batch of records validated by {@link RecordBatchValidator}, indexed like the batch. Valid
+ * records have no entry of their own.
+ */
+public final class RecordBatchValidationResult {
+
+    private final String[][] violations;
+    private final int invalidRecordCount;
+
+    RecordBatchValidationResult(String[][] violations) {
+        this.violations = violations;
+        int count = 0;
+        for (String[] recordViolations : violations) {
+            if (recordViolations != null) {
+                count++;
+            }
+        }
+        this.invalidRecordCount = count;
+    }
+
+    public int size() {
+        return violations.length;
+    }
+
+    public boolean isValid() {
+        return invalidRecordCount == 0;
+    }
+
+    public boolean isValid(int index) {
+        return violations[index] == null;
+    }
+
+    /**
+     * @return the messages of the constraints the record at this index violates, empty if it is valid
+     */
+    public List<String> getViolations(int index) {
+        String[] recordViolations = violations[index];
+        return recordViolations == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(recordViolations));
+    }
+
+    public int getInvalidRecordCount() {
+        return invalidRecordCount;
+    }
+
+    /**
+     * @return the indexes of the invalid records in ascending order
+     */
+    public int[] getInvalidRecordIndexes() {
+        int[] indexes = new int[invalidRecordCount];
+        int next = 0;
+        for (int i = 0; i < violations.length; i++) {
+            if (violations[i] != null) {
+                indexes[next++] = i;
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,263 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.storage.validation;
+
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.entitlements.Acl;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.legal.Legal;
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.opengroup.osdu.core.common.model.storage.RecordAncestry;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Validates a batch of records to be upserted with the same rules as the constraints of {@link Record}: the id
+ * pattern, {@link ValidKind}, {@code ValidAcl}, {@code ValidLegal}, {@link ValidRecordAncestry}, the legal
+ * collections and the non empty data. Records are validated in parallel, and every distinct kind, ACL group and
+ * parent id of the batch is checked once whatever the number of records using it. The distinct legal tags of the
+ * batch are checked together in one call before the records are validated. Messages are those of the constraints;
+ * parents violating {@code ValidLegal} and {@link ValidRecordAncestry} are reported once.
+ */
+public class RecordBatchValidator implements AutoCloseable {
+
+    public static final int MAX_RECORDS = 500;
+
+    private static final String VALIDATED_VALUE = "${validatedValue}";
+    private static final int MIN_CHUNK_SIZE = 16;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final Function<Set<String>, Set<String>> legalTagValidator;
+
+    public RecordBatchValidator() {
+        this(Runtime.getRuntime().availableProcessors(), legalTags -> Collections.emptySet());
+    }
+
+    /**
+     * @param parallelism       - number of records validated at the same time
+     * @param legalTagValidator - check of legal tags returning the invalid ones, e.g. against the legal service,
+     *                            called once per batch with the distinct tags of its records
+     */
+    public RecordBatchValidator(int parallelism, Function<Set<String>, Set<String>> legalTagValidator) {
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.legalTagValidator = legalTagValidator;
+    }
+
+    /**
+     * @param records - records of an upsert request, up to {@link #MAX_RECORDS}
+     * @return the violations of each record
+     */
+    public RecordBatchValidationResult validate(List<Record> records) {
+        if (records.size() > MAX_RECORDS) {
+            throw new AppException(HttpStatus.SC_BAD_REQUEST, "Invalid payload", ValidationDoc.RECORDS_MAX);
+        }
+        Batch batch = new Batch(records, invalidLegalTags(records));
+        int size = records.size();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + parallelism - 1) / parallelism);
+        if (size <= chunkSize) {
+            batch.validate(0, size);
+            return batch.result();
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> batch.validate(start, end), pool));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return batch.result();
+    }
+
+    private Set<String> invalidLegalTags(List<Record> records) {
+        Set<String> legalTags = new HashSet<>();
+        for (Record record : records) {
+            Legal legal = record.getLegal();
+            if (legal != null && legal.getLegaltags() != null && !containsNull(legal.getLegaltags())) {
+                legalTags.addAll(legal.getLegaltags());
+            }
+        }
+        return legalTags.isEmpty() ? Collections.emptySet() : legalTagValidator.apply(legalTags);
+    }
+
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Records and verdicts of one call to {@link #validate(List)}.
+     */
+    private final class Batch {
+        private final List<Record> records;
+        private final String[][] violations;
+        private final Map<String, Boolean> kinds = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> groups = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> parents = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> versionedParents = new ConcurrentHashMap<>();
+
+        private final Set<String> invalidLegalTags;
+
+        private Batch(List<Record> records, Set<String> invalidLegalTags) {
+            this.records = records;
+            this.invalidLegalTags = invalidLegalTags;
+            this.violations = new String[records.size()][];
+        }
+
+        private void validate(int from, int to) {
+            for (int i = from; i < to; i++) {
+                violations[i] = validate(records.get(i));
+            }
+        }
+
+        private RecordBatchValidationResult result() {
+            return new RecordBatchValidationResult(violations);
+        }
+
+        /**
+         * @return the violated constraints of the record, or null if it is valid
+         */
+        private String[] validate(Record record) {
+            List<String> messages = null;
+            String id = record.getId();
+            if (id != null && !ValidationPatterns.isRecordId(id)) {
+                messages = add(messages, ValidationDoc.INVALID_RECORD_ID.replace(VALIDATED_VALUE, id));
+            }
+            String kind = record.getKind();
+            if (kind == null || !kinds.computeIfAbsent(kind, ValidationPatterns::isKind)) {
+                messages = add(messages, ValidationDoc.INVALID_KIND.replace(VALIDATED_VALUE, String.valueOf(kind)));
+            }
+            messages = add(messages, validateAcl(record.getAcl()));
+            messages = validateLegal(record.getLegal(), messages);
+            if (record.getData() == null || record.getData().isEmpty()) {
+                messages = add(messages, ValidationDoc.RECORD_PAYLOAD_NOT_EMPTY);
+            }
+            RecordAncestry ancestry = record.getAncestry();
+            if (ancestry != null) {
+                messages = add(messages, validateParents(ancestry));
+            }
+            if ((ancestry == null || ancestry.getParents() == null || ancestry.getParents().isEmpty())
+                    && (record.getLegal() == null || !record.getLegal().hasLegaltags())) {
+                messages = add(messages, ValidationDoc.RECORD_LEGAL_TAGS_NOT_EMPTY);
+            }
+            return messages == null ? null : messages.toArray(new String[0]);
+        }
+
+        private String validateAcl(Acl acl) {
+            if (acl == null) {
+                return ValidationDoc.RECORD_ACL_NOT_EMPTY;
+            }
+            if (acl.getViewers() == null || acl.getViewers().length == 0) {
+                return ValidationDoc.RECORD_ACL_VIEWERS_NOT_EMPTY;
+            }
+            if (acl.getOwners() == null || acl.getOwners().length == 0) {
+                return ValidationDoc.RECORD_ACL_OWNERS_NOT_EMPTY;
+            }
+            String invalid = firstInvalidGroup(acl.getViewers());
+            if (invalid == null) {
+                invalid = firstInvalidGroup(acl.getOwners());
+            }
+            return invalid == null ? null : String.format(ValidationDoc.INVALID_GROUP_NAME, invalid);
+        }
+
+        private String firstInvalidGroup(String[] groupNames) {
+            for (String group : groupNames) {
+                if (group == null || !groups.computeIfAbsent(group, ValidationPatterns::isGroupEmail)) {
+                    return String.valueOf(group);
+                }
+            }
+            return null;
+        }
+
+        private List<String> validateLegal(Legal legal, List<String> messages) {
+            if (legal == null) {
+                return messages;
+            }
+            if (containsNull(legal.getLegaltags())) {
+                messages = add(messages, ValidationDoc.INVALID_NULL_IN_ARRAY);
+            } else if (legal.getLegaltags() != null) {
+                for (String legalTag : legal.getLegaltags()) {
+                    if (invalidLegalTags.contains(legalTag)) {
+                        messages = add(messages, String.format(ValidationDoc.INVALID_LEGAL_TAG, legalTag));
+                        break;
+                    }
+                }
+            }
+            if (containsNull(legal.getOtherRelevantDataCountries())) {
+                messages = add(messages, ValidationDoc.INVALID_NULL_IN_ARRAY);
+            }
+            if (legal.getOtherRelevantDataCountries() == null || legal.getOtherRelevantDataCountries().isEmpty()) {
+                messages = add(messages, ValidationDoc.RECORD_ORDC_NOT_EMPTY);
+            }
+            return messages;
+        }
+
+        private String validateParents(RecordAncestry ancestry) {
+            if (ancestry.getParents() == null) {
+                return ValidationDoc.INVALID_PAYLOAD;
+            }
+            for (String parent : ancestry.getParents()) {
+                if (parent == null || !parents.computeIfAbsent(parent, ValidationPatterns::isRecordId)) {
+                    return String.format(ValidationDoc.INVALID_PARENT_RECORD_ID_FORMAT, parent);
+                }
+                if (!versionedParents.computeIfAbsent(parent, ValidationPatterns::isRecordIdWithVersion)) {
+                    return String.format(ValidationDoc.INVALID_PARENT_RECORD_VERSION_FORMAT, parent);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static boolean containsNull(Collection<String> values) {
+        if (values == null) {
+            return false;
+        }
+        for (String value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> add(List<String> messages, String message) {
+        if (message == null) {
+            return messages;
+        }
+        List<String> result = messages == null ? new ArrayList<>(2) : messages;
+        result.add(message);
+        return result;
+    }
+}
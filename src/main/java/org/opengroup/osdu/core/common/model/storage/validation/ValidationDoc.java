@@ -29,6 +29,7 @@ public class ValidationDoc {
 	public static final String INVALID_NULL_IN_ARRAY = "Invalid 'null' value found in array";
 	public static final String INVALID_PAYLOAD = "Invalid payload.";
 	public static final String INVALID_GROUP_NAME = "Invalid group name '%s'";
+	public static final String INVALID_LEGAL_TAG = "Invalid legal tag '%s'";
 	public static final String INVALID_RECORD_ID = "Not a valid record id. Found: ${validatedValue}";
 	public static final String INVALID_RECORD_ID_FORMAT = "Invalid record format: '%s'. The following format is expected: {tenant-name}:{object-type}:{unique-identifier} or {tenant-name}:{object-type}:{unique-identifier}:{version}";
 	public static final String INVALID_KIND = "Not a valid record kind. Found: ${validatedValue}";
@@ -0,0 +1,197 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.units;
+
+/**
+ * Immutable {@link IUnit} holding the scale and offset of a parsed unit as primitive fields. The base
+ * unit persistable reference and symbol are derived once at compile time instead of on every call,
+ * so a single instance can be shared between threads and conversions.
+ */
+public final class CompiledUnit implements IUnit {
+    private static final double EPS = 1.0e-15;
+
+    private final boolean valid;
+    private final String symbol;
+    private final String ancestry;
+    private final double scale;
+    private final double offset;
+    private final String persistableReference;
+    private final String baseUnit;
+    private final String baseSymbol;
+
+    private CompiledUnit(IUnit unit) {
+        this.valid = unit.isValid();
+        this.symbol = unit.getSymbol();
+        this.ancestry = unit.getAncestry();
+        this.scale = unit.getScale();
+        this.offset = unit.getOffset();
+        this.persistableReference = this.valid ? unit.createPersistableReference() : null;
+        this.baseUnit = this.valid ? unit.getBaseUnit() : null;
+        this.baseSymbol = this.baseUnit != null ? unit.getBaseSymbol() : null;
+    }
+
+    /**
+     * Compiles the given unit; instances which are already compiled are returned as they are.
+     *
+     * @param unit the {@link IUnit} to compile
+     * @return the immutable {@link CompiledUnit}
+     */
+    public static CompiledUnit compile(IUnit unit) {
+        if (unit instanceof CompiledUnit) {
+            return (CompiledUnit) unit;
+        }
+        return new CompiledUnit(unit);
+    }
+
+    /**
+     * Parses and compiles a persistable reference.
+     *
+     * @param reference the persistable reference {@link String}
+     * @return the compiled unit, which is always non-null. To test whether the instance is valid, check isValid().
+     */
+    public static CompiledUnit compile(String reference) {
+        return new CompiledUnit(ReferenceConverter.parseUnitReference(reference));
+    }
+
+    @Override
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public String getSymbol() {
+        return symbol;
+    }
+
+    @Override
+    public String getAncestry() {
+        return ancestry;
+    }
+
+    @Override
+    public double getScale() {
+        return scale;
+    }
+
+    @Override
+    public double getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String createPersistableReference() {
+        return persistableReference;
+    }
+
+    @Override
+    public String getBaseUnit() {
+        return baseUnit;
+    }
+
+    @Override
+    public String getBaseSymbol() {
+        return baseSymbol;
+    }
+
+    @Override
+    public boolean isConvertible(IUnit other) {
+        return valid && other.isValid() && measurementMatches(ancestry, other.getAncestry());
+    }
+
+    @Override
+    public boolean isEqualInBehavior(IUnit other) {
+        return isConvertible(other) && almostEqual(scale, other.getScale()) && almostEqual(offset, other.getOffset());
+    }
+
+    @Override
+    public double convertToUnit(IUnit toUnit, double fromValue) {
+        if (toUnit != null && isConvertible(toUnit)) {
+            double s = scale / toUnit.getScale();
+            double o = offset - toUnit.getOffset() / s;
+            return s * (fromValue - o);
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public double[] convertToUnit(IUnit toUnit, double[] fromValue) {
+        if (toUnit != null && isConvertible(toUnit)) {
+            double s = scale / toUnit.getScale();
+            double o = offset - toUnit.getOffset() / s;
+            for (int i = 0; i < fromValue.length; i++) fromValue[i] = s * (fromValue[i] - o);
+        } else {
+            for (int i = 0; i < fromValue.length; i++) fromValue[i] = Double.NaN;
+        }
+        return fromValue;
+    }
+
+    @Override
+    public double convertToSI(double fromValue) {
+        return valid ? scale * (fromValue - offset) : Double.NaN;
+    }
+
+    @Override
+    public void convertToSI(double[] values) {
+        convertToSI(values, values.length);
+    }
+
+    /**
+     * Converts the first {@code length} values in place to the SI base unit.
+     *
+     * @param values the values to be unit converted in-place; Double.NaN if this instance is invalid
+     * @param length the number of leading values to convert
+     */
+    public void convertToSI(double[] values, int length) {
+        if (valid) {
+            for (int i = 0; i < length; i++) values[i] = scale * (values[i] - offset);
+        } else {
+            for (int i = 0; i < length; i++) values[i] = Double.NaN;
+        }
+    }
+
+    @Override
+    public double convertFromSI(double fromValue) {
+        if (valid) {
+            double s = 1.0 / scale;
+            double o = -offset / s;
+            return s * (fromValue - o);
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public void convertFromSI(double[] values) {
+        if (valid) {
+            double s = 1.0 / scale;
+            double o = -offset / s;
+            for (int i = 0; i < values.length; i++) values[i] = s * (values[i] - o);
+        } else {
+            for (int i = 0; i < values.length; i++) values[i] = Double.NaN;
+        }
+    }
+
+    private static boolean measurementMatches(String measurement1, String measurement2) {
+        if (measurement1.equals(measurement2)) {
+            return true;
+        }
+        String other = MeasurementMap.map(measurement1);
+        return other != null && other.equals(measurement2);
+    }
+
+    private static boolean almostEqual(double x, double y) {
+        double relDiff = Math.abs(x - y) / (1.0 + 0.5 * (Math.abs(x) + Math.abs(y)));
+        return relDiff < EPS;
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright 2021 Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.units;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Process-wide bounded caches of compiled {@link DateTimeFormatter}s by pattern and of resolved
+ * {@link ZoneId}s by time zone name. Both are immutable and thread-safe, and a batch of records
+ * only uses a few dozen formats. Patterns and zones which fail to compile are not cached, so the
+ * exception is thrown to every caller as before.
+ */
+final class DateTimeFormatterCache {
+    private static final int MAXIMUM_SIZE = 1000;
+
+    private static final Cache<String, DateTimeFormatter> FORMATTERS = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE).build();
+    private static final Cache<String, ZoneId> ZONES = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE).build();
+
+    private DateTimeFormatterCache() {
+    }
+
+    static DateTimeFormatter getFormatter(String pattern) {
+        return get(FORMATTERS, pattern, DateTimeFormatter::ofPattern);
+    }
+
+    static ZoneId getZone(String timeZone, Function<String, ZoneId> resolver) {
+        return get(ZONES, timeZone, resolver);
+    }
+
+    private static <T> T get(Cache<String, T> cache, String key, Function<String, T> factory) {
+        T value = cache.getIfPresent(key);
+        if (value == null) {
+            value = factory.apply(key);
+            cache.put(key, value);
+        }
+        return value;
+    }
+}
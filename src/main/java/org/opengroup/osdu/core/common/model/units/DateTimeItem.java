@@ -14,7 +14,12 @@
 
 package org.opengroup.osdu.core.common.model.units;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.opengroup.osdu.core.common.model.units.IDateTime;
 import org.opengroup.osdu.core.common.model.units.impl.Date;
 import org.opengroup.osdu.core.common.model.units.impl.DateTime;
@@ -22,6 +27,7 @@ import org.opengroup.osdu.core.common.model.units.impl.DateTime;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
 import java.util.Set;
 
 @Data
@@ -30,6 +36,14 @@ public class DateTimeItem implements IDateTime {
     private String timeZone;
     private Date implementationDate;
     private DateTime implementationTime;
+
+    // formatter and zone resolved for the current format and time zone, replaced when they change
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile ResolvedFormat resolvedFormat;
+
     public DateTimeItem() {
         initialize();
     }
@@ -127,8 +141,8 @@ public class DateTimeItem implements IDateTime {
     @Override
     public String convertToDateTime(IDateTime toDateTime, String fromValue) {
         if (toDateTime.isValid()) {
-            DateTimeFormatter fromDf = DateTimeFormatter.ofPattern(this.convertToJava(this.getFormat()));
-            DateTimeFormatter toDf = DateTimeFormatter.ofPattern(this.convertToJava(toDateTime.getFormat()));
+            DateTimeFormatter fromDf = DateTimeFormatterCache.getFormatter(convertToJava(this.getFormat()));
+            DateTimeFormatter toDf = DateTimeFormatterCache.getFormatter(convertToJava(toDateTime.getFormat()));
             try {
                 if(this.isDate()) {
                     LocalDate parsedLocalDate = LocalDate.parse(fromValue, fromDf);
@@ -144,12 +158,12 @@ public class DateTimeItem implements IDateTime {
         return null;
     }
 
-    private static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
-    private static final String ISO_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    private static final DateTimeFormatter ISO_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter ISO_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
     private static final Set<String> AVAILABLE_ZONE_IDS = ZoneId.getAvailableZoneIds();
 
     // will have risk here, further discussion on hack around needs to add
-    private String convertToJava(String fmt){
+    private static String convertToJava(String fmt){
         String java = fmt;
         java = java.replace("T", "'T'");
         java = java.replace("Z", "'Z'");
@@ -165,26 +179,55 @@ public class DateTimeItem implements IDateTime {
     @Override
     public String convertToIsoDateTime(String fromValue) throws IllegalArgumentException, DateTimeException {
         if (this.isValid()) {
-            String pattern = this.convertToJava(this.getFormat());
-            DateTimeFormatter df = DateTimeFormatter.ofPattern(pattern);
-            String isoF = this.isDate() ? ISO_DATE_FORMAT : ISO_TIME_FORMAT;
-
-            if (this.isDate()) {
-                LocalDate parsedLocalDate = LocalDate.parse(fromValue, df);
-                DateTimeFormatter iso = DateTimeFormatter.ofPattern(isoF);
-                return parsedLocalDate.format(iso);
-            } else {
-                LocalDateTime parsedLocalDateTime = LocalDateTime.parse(fromValue, df);
-                ZoneId zoneId = this.getZoneId();
-                ZonedDateTime zonedDateTime = ZonedDateTime.of(parsedLocalDateTime, zoneId);
-                ZonedDateTime convertedDateTime = zonedDateTime.withZoneSameInstant(ZoneOffset.UTC);
-                DateTimeFormatter iso = DateTimeFormatter.ofPattern(isoF);
-                return convertedDateTime.format(iso);
-            }
+            return this.convertToIsoDateTime(this.resolveFormat(), fromValue);
         }
         return null;
     }
 
+    /**
+     * Convert values from current date/date-time format to the ISO8601 date/date-time representation,
+     * resolving the formatter and time zone once for all of them.
+     *
+     * @param fromValues - the values in the current date/date-time context; null entries are skipped
+     * @return the ISO8601 date/date-time representations, null for the null entries or if this instance is invalid
+     */
+    @Override
+    public String[] convertToIsoDateTime(String[] fromValues) throws IllegalArgumentException, DateTimeException {
+        String[] result = new String[fromValues.length];
+        if (this.isValid()) {
+            ResolvedFormat resolved = this.resolveFormat();
+            for (int i = 0; i < fromValues.length; i++) {
+                if (fromValues[i] != null) {
+                    result[i] = this.convertToIsoDateTime(resolved, fromValues[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    private String convertToIsoDateTime(ResolvedFormat resolved, String fromValue) {
+        if (this.isDate()) {
+            LocalDate parsedLocalDate = LocalDate.parse(fromValue, resolved.formatter);
+            return parsedLocalDate.format(ISO_DATE_FORMAT);
+        } else {
+            LocalDateTime parsedLocalDateTime = LocalDateTime.parse(fromValue, resolved.formatter);
+            ZonedDateTime zonedDateTime = ZonedDateTime.of(parsedLocalDateTime, resolved.getZoneId());
+            ZonedDateTime convertedDateTime = zonedDateTime.withZoneSameInstant(ZoneOffset.UTC);
+            return convertedDateTime.format(ISO_TIME_FORMAT);
+        }
+    }
+
+    private ResolvedFormat resolveFormat() {
+        String format = this.getFormat();
+        String timeZone = this.getTimeZone();
+        ResolvedFormat resolved = this.resolvedFormat;
+        if (resolved == null || !resolved.matches(format, timeZone)) {
+            resolved = new ResolvedFormat(format, timeZone);
+            this.resolvedFormat = resolved;
+        }
+        return resolved;
+    }
+
     /**
      * Return the normalized ISO8601 date or date-time persistable representation.
      *
@@ -208,7 +251,7 @@ public class DateTimeItem implements IDateTime {
         return pr;
     }
 
-    private String getDoubleDigitHour(String o) {
+    private static String getDoubleDigitHour(String o) {
         return o.substring(0,1) + "0" + o.substring(1);
     }
 
@@ -219,12 +262,11 @@ public class DateTimeItem implements IDateTime {
      * available ZoneIds provided by class
      * @return the ZoneId based on the timezone
      */
-    private ZoneId getZoneId() throws DateTimeException {
+    private static ZoneId toZoneId(String timeZone) throws DateTimeException {
         ZoneId zoneId;
-        String timeZone = this.getTimeZone();
             if ((timeZone.startsWith("UTC") || timeZone.startsWith("GMT")) && timeZone.length() > 3) { // UTC and GMT with offset
                 String stringOffset = timeZone.substring(3);
-                String offset = stringOffset.split(":")[0].length() == 2 ? this.getDoubleDigitHour(stringOffset) : stringOffset;
+                String offset = stringOffset.split(":")[0].length() == 2 ? getDoubleDigitHour(stringOffset) : stringOffset;
                 ZoneOffset zoneOffset = ZoneOffset.of(offset);
                 zoneId = ZoneId.ofOffset(timeZone.substring(0, 3), zoneOffset);
             } else if (timeZone.contains(" ")) { // finding region specific based timezones with spaces, the set only contains - and _
@@ -236,4 +278,31 @@ public class DateTimeItem implements IDateTime {
             }
         return zoneId;
     }
+
+    private static final class ResolvedFormat {
+        private final String format;
+        private final String timeZone;
+        private final DateTimeFormatter formatter;
+        private volatile ZoneId zoneId;
+
+        private ResolvedFormat(String format, String timeZone) {
+            this.format = format;
+            this.timeZone = timeZone;
+            this.formatter = DateTimeFormatterCache.getFormatter(convertToJava(format));
+        }
+
+        private boolean matches(String format, String timeZone) {
+            return this.format.equals(format) && Objects.equals(this.timeZone, timeZone);
+        }
+
+        // resolved on first use, so a value which cannot be parsed is reported before an invalid time zone
+        private ZoneId getZoneId() {
+            ZoneId zone = this.zoneId;
+            if (zone == null) {
+                zone = DateTimeFormatterCache.getZone(this.timeZone, DateTimeItem::toZoneId);
+                this.zoneId = zone;
+            }
+            return zone;
+        }
+    }
 }
@@ -50,6 +50,21 @@ public interface IDateTime extends IItem {
      * @return the ISO8601 date/date-time representation
      */
     String convertToIsoDateTime(String fromValue) throws IllegalArgumentException, DateTimeException;
+
+    /**
+     * Convert values from current date/date-time format to the ISO8601 date/date-time representation
+     * @param fromValues - the values in the current date/date-time context; null entries are skipped
+     * @return the ISO8601 date/date-time representations, null for the null entries
+     */
+    default String[] convertToIsoDateTime(String[] fromValues) throws IllegalArgumentException, DateTimeException {
+        String[] result = new String[fromValues.length];
+        for (int i = 0; i < fromValues.length; i++) {
+            if (fromValues[i] != null) {
+                result[i] = convertToIsoDateTime(fromValues[i]);
+            }
+        }
+        return result;
+    }
     /**
      * Return the normalized ISO8601 date or date-time persistable representation.
      * @return the ISO8601 persistableReference string; null on invalid date/date-time instances
@@ -14,8 +14,12 @@
 
 package org.opengroup.osdu.core.common.model.units;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.opengroup.osdu.core.common.model.units.impl.PersistableReference;
 
+import java.util.function.Function;
+
 import static org.opengroup.osdu.core.common.model.units.ItemFactory.createModel;
 
 /**
@@ -28,6 +32,14 @@ public final class ReferenceConverter {
     private static final String V2_STOP = "}";
     private static final String V1_STOP = "%7D";
 
+    private static final int MAXIMUM_PARSED_REFERENCES = 1000;
+
+    // parsed references are shared between the items created from them and must not be modified
+    private static final Cache<String, PersistableReference> PARSED_REFERENCES = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_PARSED_REFERENCES).recordStats().build();
+    private static final Cache<String, org.opengroup.osdu.core.common.model.units.impl.Unit> PARSED_V1_UNITS = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_PARSED_REFERENCES).recordStats().build();
+
     /**
      * Factory method to create a {@link IUnit} instance given a persistable reference {@link String}.
      * @param reference the persistable reference {@link String}.
@@ -39,11 +51,12 @@ public final class ReferenceConverter {
         if (reference != null) {
             String cleaned = reference.trim();
             if (cleaned.startsWith(V1_START) && cleaned.endsWith(V1_STOP)) {
-                org.opengroup.osdu.core.common.model.units.impl.Unit instance = org.opengroup.osdu.core.common.model.units.impl.Unit.createInstance(cleaned);
+                org.opengroup.osdu.core.common.model.units.impl.Unit instance = intern(PARSED_V1_UNITS, cleaned,
+                        org.opengroup.osdu.core.common.model.units.impl.Unit::createInstance);
                 raw = createModel(instance);
                 if (raw != null) result = (IUnit) raw;
             } else if (cleaned.startsWith(V2_START) && cleaned.endsWith(V2_STOP)) {
-                PersistableReference instance = PersistableReference.createInstance(cleaned);
+                PersistableReference instance = intern(PARSED_REFERENCES, cleaned, PersistableReference::createInstance);
                 raw = createModel(instance);
                 if (raw instanceof IUnit) result = (IUnit) raw;
             }
@@ -61,10 +74,29 @@ public final class ReferenceConverter {
         IDateTime result = new DateTimeItem();
         if (reference != null) {
             String cleaned = reference.trim();
-            PersistableReference instance = PersistableReference.createInstance(cleaned);
+            PersistableReference instance = intern(PARSED_REFERENCES, cleaned, PersistableReference::createInstance);
             raw = createModel(instance);
             if (raw instanceof IDateTime) result = (IDateTime) raw;
         }
         return result;
     }
+
+    /**
+     * @return the ratio of persistable references served from the parsed reference cache
+     */
+    public static double getParsedReferenceHitRate() {
+        return PARSED_REFERENCES.stats().plus(PARSED_V1_UNITS.stats()).hitRate();
+    }
+
+    private static <T> T intern(Cache<String, T> cache, String reference, Function<String, T> parser) {
+        T parsed = cache.getIfPresent(reference);
+        if (parsed == null) {
+            parsed = parser.apply(reference);
+            // references which cannot be parsed are not remembered
+            if (parsed != null) {
+                cache.put(reference, parsed);
+            }
+        }
+        return parsed;
+    }
 }
@@ -0,0 +1,84 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.units;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bounded, thread-safe cache from persistable reference to its {@link CompiledUnit}. Records keep
+ * repeating a handful of unit references, so parsing each of them once saves the JSON parsing and
+ * base unit derivation on every converted value. Invalid references are cached as well.
+ */
+public class UnitConverterCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, CompiledUnit> cache;
+
+    public UnitConverterCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public UnitConverterCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * @param persistableReference the persistable reference {@link String}
+     * @return the compiled unit, which is always non-null. To test whether the instance is valid, check isValid().
+     */
+    public CompiledUnit get(String persistableReference) {
+        if (persistableReference == null) {
+            return CompiledUnit.compile((String) null);
+        }
+        try {
+            return cache.get(persistableReference, () -> CompiledUnit.compile(persistableReference));
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to compile unit reference", e.getCause());
+        }
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * @return the ratio of lookups served from the cache, 1.0 when nothing was looked up yet
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void clearAll() {
+        cache.invalidateAll();
+    }
+}
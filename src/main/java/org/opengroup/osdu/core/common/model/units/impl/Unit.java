@@ -16,9 +16,10 @@ package org.opengroup.osdu.core.common.model.units.impl;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -42,14 +43,16 @@ public class Unit extends UnitParameters {
 
     protected String ancestry;
 
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+            .build();
+    private static final ObjectReader UNIT_READER = MAPPER.readerFor(Unit.class);
+    private static final ObjectReader MEASUREMENT_READER = MAPPER.readerFor(Measurement.class);
+
     public static Unit createInstance(String unitReference) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
-
             String decoded = URLDecoder.decode(unitReference, "UTF-8");
-            JsonNode node = mapper.readTree(decoded);
-            return mapper.treeToValue(node, Unit.class);
+            return UNIT_READER.readValue(decoded);
         } catch (Exception e) {
             return new Unit(); // return an empty, invalid unit
         }
@@ -60,10 +63,7 @@ public class Unit extends UnitParameters {
         if (this.ancestry == null && this.baseMeasurement != null) {
             try {
                 String decoded = URLDecoder.decode(this.baseMeasurement, "UTF-8");
-                ObjectMapper mapper = new ObjectMapper();
-                mapper.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
-                JsonNode node = mapper.readTree(decoded);
-                Measurement measurement = mapper.treeToValue(node, Measurement.class);
+                Measurement measurement = MEASUREMENT_READER.readValue(decoded);
                 if (measurement != null) {
                     this.ancestry = measurement.getAncestry();
                 }
@@ -59,12 +59,12 @@ public class CollaborationContextValidator implements ConstraintValidator<Valida
             return false;
         }
 
-        if (!directiveProperties.get(Constants.ID).matches(CollaborationContextValidationDoc.COLLABORATION_ID_PATTERN)) {
+        if (!ValidationPatterns.COLLABORATION_ID.matcher(directiveProperties.get(Constants.ID)).matches()) {
             constraintValidatorContext.buildConstraintViolationWithTemplate(
                     String.format(CollaborationContextValidationDoc.INVALID_ID_DIRECTIVE, ValidatorUtils.escapeString(directiveProperties.get(Constants.ID)))).addConstraintViolation();
             return false;
         }
-        if (!directiveProperties.get(Constants.APPLICATION).matches(CollaborationContextValidationDoc.COLLABORATION_APPLICATION_PATTERN)) {
+        if (!ValidationPatterns.COLLABORATION_APPLICATION.matcher(directiveProperties.get(Constants.APPLICATION)).matches()) {
             constraintValidatorContext.buildConstraintViolationWithTemplate(
                     String.format(CollaborationContextValidationDoc.INVALID_APPLICATION_DIRECTIVE, ValidatorUtils.escapeString(directiveProperties.get(Constants.APPLICATION)))).addConstraintViolation();
             return false;
@@ -95,7 +95,7 @@ public class CollaborationContextValidator implements ConstraintValidator<Valida
                 constraintValidatorContext.buildConstraintViolationWithTemplate(DIRECTIVE_FORMAT).addConstraintViolation();
                 return false;
             }
-            if (!directiveKeyValue.getKey().matches(CollaborationContextValidationDoc.DIRECTIVE_KEY_PATTERN)) {
+            if (!ValidationPatterns.DIRECTIVE_KEY.matcher(directiveKeyValue.getKey()).matches()) {
                 constraintValidatorContext.buildConstraintViolationWithTemplate(DIRECTIVE_KEY_ALLOWED_CHARACTERS).addConstraintViolation();
                 return false;
             }
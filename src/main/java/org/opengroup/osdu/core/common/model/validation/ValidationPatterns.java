@@ -0,0 +1,250 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.validation;
+
+import org.opengroup.osdu.core.common.model.collaboration.validation.CollaborationContextValidationDoc;
+import org.opengroup.osdu.core.common.model.storage.validation.ValidationDoc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled forms of the regular expressions used by the validators, so that validating a value does not compile
+ * its pattern again as {@code String.matches} does. The kind, record id and group email grammars are also matched
+ * by hand by {@link #isKind}, {@link #isRecordId}, {@link #isRecordIdWithVersion} and {@link #isGroupEmail}, which
+ * accept exactly the same values as the corresponding patterns without allocating.
+ */
+public final class ValidationPatterns {
+
+    public static final Pattern EMAIL = Pattern.compile(ValidationDoc.EMAIL_REGEX);
+    public static final Pattern RECORD_ID = Pattern.compile(ValidationDoc.RECORD_ID_REGEX);
+    public static final Pattern RECORD_ID_WITH_VERSION = Pattern.compile(ValidationDoc.RECORD_ID_WITH_VERSION_REGEX);
+    public static final Pattern KIND = Pattern.compile(ValidationDoc.KIND_REGEX);
+    public static final Pattern MULTI_KIND = Pattern.compile(
+            "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:[(\\d+.)+(\\d+.)+(\\d+)\\*]+$");
+    public static final Pattern KIND_COMPLETE_VERSION = Pattern.compile(
+            "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:(\\d+\\.\\d+\\.\\d+)$");
+    public static final Pattern KIND_MAJOR_VERSION = Pattern.compile(
+            "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:(\\d+\\.\\*\\.\\*)$");
+    public static final Pattern COLLABORATION_ID = Pattern.compile(CollaborationContextValidationDoc.COLLABORATION_ID_PATTERN);
+    public static final Pattern COLLABORATION_APPLICATION = Pattern.compile(
+            CollaborationContextValidationDoc.COLLABORATION_APPLICATION_PATTERN);
+    public static final Pattern DIRECTIVE_KEY = Pattern.compile(CollaborationContextValidationDoc.DIRECTIVE_KEY_PATTERN);
+    public static final Pattern LEGAL_TAG_NAME = Pattern.compile("^[-A-Za-z0-9]{3,100}+$");
+    public static final Pattern ORIGINATOR = Pattern.compile("^[-. A-Za-z0-9]{3,60}+$");
+    public static final Pattern CONTRACT_ID = Pattern.compile("^[-.A-Za-z0-9]{3,40}+$");
+
+    // states of the version part of a kind, [0-9]+.[0-9]+.[0-9]+ where '.' is any character but a line terminator
+    private static final int VERSION_START = 1;
+    private static final int VERSION_MAJOR = 1 << 1;
+    private static final int VERSION_FIRST_SEPARATOR = 1 << 2;
+    private static final int VERSION_MINOR = 1 << 3;
+    private static final int VERSION_SECOND_SEPARATOR = 1 << 4;
+    private static final int VERSION_PATCH = 1 << 5;
+
+    private ValidationPatterns() {
+        // private constructor
+    }
+
+    /**
+     * @return true if the value matches {@link ValidationDoc#KIND_REGEX}
+     */
+    public static boolean isKind(CharSequence value) {
+        int end = value.length();
+        int position = 0;
+        for (int segment = 0; segment < 3; segment++) {
+            int start = position;
+            while (position < end && isIdentifierChar(value.charAt(position))) {
+                position++;
+            }
+            if (position == start || position == end || value.charAt(position) != ':') {
+                return false;
+            }
+            position++;
+        }
+        return isVersion(value, position, end);
+    }
+
+    /**
+     * @return true if the value matches {@link ValidationDoc#RECORD_ID_REGEX}
+     */
+    public static boolean isRecordId(CharSequence value) {
+        int start = recordIdSuffixStart(value);
+        return start >= 0 && isRecordIdSuffix(value, start, value.length());
+    }
+
+    /**
+     * @return true if the value matches {@link ValidationDoc#RECORD_ID_WITH_VERSION_REGEX}
+     */
+    public static boolean isRecordIdWithVersion(CharSequence value) {
+        int start = recordIdSuffixStart(value);
+        if (start < 0) {
+            return false;
+        }
+        int end = value.length();
+        int versionStart = end;
+        while (versionStart > start && isDigit(value.charAt(versionStart - 1))) {
+            versionStart--;
+        }
+        int colon = versionStart - 1;
+        return versionStart < end && colon > start && value.charAt(colon) == ':'
+                && isRecordIdSuffix(value, start, colon);
+    }
+
+    /**
+     * @return true if the value matches {@link ValidationDoc#EMAIL_REGEX}
+     */
+    public static boolean isGroupEmail(CharSequence value) {
+        int end = value.length();
+        String prefix = "data.";
+        if (end < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (value.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        int at = prefix.length();
+        while (at < end && value.charAt(at) != '@') {
+            at++;
+        }
+        if (at == end || !isDotSeparated(value, prefix.length(), at, true)) {
+            return false;
+        }
+        int lastDot = end - 1;
+        while (lastDot > at && value.charAt(lastDot) != '.') {
+            lastDot--;
+        }
+        int topLevelLength = end - lastDot - 1;
+        if (lastDot == at || topLevelLength < 2 || topLevelLength > 7) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < end; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return isDotSeparated(value, at + 1, lastDot, false);
+    }
+
+    /**
+     * @return the start of the part after the tenant and the type of a record id, or -1 if these are not valid
+     */
+    private static int recordIdSuffixStart(CharSequence value) {
+        int end = value.length();
+        int position = 0;
+        for (int segment = 0; segment < 2; segment++) {
+            int start = position;
+            while (position < end && isIdentifierChar(value.charAt(position))) {
+                position++;
+            }
+            if (position == start || position == end || value.charAt(position) != ':') {
+                return -1;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isRecordIdSuffix(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isIdentifierChar(c) && c != ':' && c != '%') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVersion(CharSequence value, int start, int end) {
+        int states = VERSION_START;
+        for (int i = start; i < end && states != 0; i++) {
+            char c = value.charAt(i);
+            if (isLineTerminator(c)) {
+                return false;
+            }
+            boolean digit = isDigit(c);
+            int next = 0;
+            if (digit && (states & (VERSION_START | VERSION_MAJOR)) != 0) {
+                next |= VERSION_MAJOR;
+            }
+            if ((states & VERSION_MAJOR) != 0) {
+                next |= VERSION_FIRST_SEPARATOR;
+            }
+            if (digit && (states & (VERSION_FIRST_SEPARATOR | VERSION_MINOR)) != 0) {
+                next |= VERSION_MINOR;
+            }
+            if ((states & VERSION_MINOR) != 0) {
+                next |= VERSION_SECOND_SEPARATOR;
+            }
+            if (digit && (states & (VERSION_SECOND_SEPARATOR | VERSION_PATCH)) != 0) {
+                next |= VERSION_PATCH;
+            }
+            states = next;
+        }
+        return (states & VERSION_PATCH) != 0;
+    }
+
+    /**
+     * @return true if the range is one or more non empty labels separated by single dots
+     */
+    private static boolean isDotSeparated(CharSequence value, int start, int end, boolean localPart) {
+        if (start >= end) {
+            return false;
+        }
+        boolean labelStart = true;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelStart) {
+                    return false;
+                }
+                labelStart = true;
+            } else if (localPart ? isEmailLocalChar(c) : isDomainChar(c)) {
+                labelStart = false;
+            } else {
+                return false;
+            }
+        }
+        return !labelStart;
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '_' || c == '-' || c == '.';
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '-';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -17,15 +17,18 @@
 
 package org.opengroup.osdu.core.common.multitenancy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.Builder;
 import org.opengroup.osdu.core.common.cache.ICache;
 import org.opengroup.osdu.core.common.cache.RedisCache;
+import org.opengroup.osdu.core.common.cache.RefreshAheadCache;
 import org.opengroup.osdu.core.common.cache.TenantSafeCache;
 import org.opengroup.osdu.core.common.cache.VmCache;
 import org.opengroup.osdu.core.common.logging.DefaultLogger;
@@ -40,7 +43,9 @@ import org.opengroup.osdu.core.common.util.PartitionInfoToTenantInfoMapper;
 
 public class PartitionTenantInfoFactory implements ITenantFactory {
 
-    private ICache<String, TenantInfo> tenantCache;
+    static final long DEFAULT_REFRESH_SECONDS = 3600;
+
+    private RefreshAheadCache<String, TenantInfo, PartitionException> tenantCache;
 
     private IPartitionProvider partitionProvider;
 
@@ -48,13 +53,29 @@ public class PartitionTenantInfoFactory implements ITenantFactory {
 
     private String logPrefix;
 
+    private int bulkLoadConcurrency;
+
+    /**
+     * @param refreshSeconds age after which a cached tenant info is reloaded in the background, should be shorter
+     *                       than the expiration of {@code tenantCache}
+     * @param bulkLoadConcurrency maximum number of partitions fetched at the same time by {@link #listTenantInfo()}
+     * @param refreshInBackground whether the partition provider works outside of a request, e.g. without request
+     *                            scoped headers, so that tenant infos are refreshed and listed on background
+     *                            threads; by default they are refreshed on the calling thread and listed one by one
+     */
     @Builder
     public PartitionTenantInfoFactory(
-        ICache<String, TenantInfo> tenantCache, IPartitionProvider partitionProvider, ILogger logger, String logPrefix) {
-        this.tenantCache = Optional.ofNullable(tenantCache).orElse(new VmCache<>(7200, 100));
+        ICache<String, TenantInfo> tenantCache, IPartitionProvider partitionProvider, ILogger logger, String logPrefix,
+        Long refreshSeconds, Integer bulkLoadConcurrency, Boolean refreshInBackground) {
+        this.tenantCache = new RefreshAheadCache<>(
+            Optional.ofNullable(tenantCache).orElse(new VmCache<>(7200, 100)),
+            this::loadTenantInfo,
+            Duration.ofSeconds(Optional.ofNullable(refreshSeconds).orElse(DEFAULT_REFRESH_SECONDS)),
+            Boolean.TRUE.equals(refreshInBackground) ? RefreshAheadCache.DEFAULT_EXECUTOR : RefreshAheadCache.CALLING_THREAD);
         this.partitionProvider = partitionProvider;
         this.logger = Optional.ofNullable(logger).orElse(new DefaultLogger());
         this.logPrefix = Optional.ofNullable(logPrefix).orElse("core-common-partition");
+        this.bulkLoadConcurrency = Optional.ofNullable(bulkLoadConcurrency).orElse(RefreshAheadCache.DEFAULT_WARM_UP_CONCURRENCY);
     }
 
     @Override
@@ -83,17 +104,8 @@ public class PartitionTenantInfoFactory implements ITenantFactory {
     @Override
     public Collection<TenantInfo> listTenantInfo() {
         try {
-            ArrayList<TenantInfo> tenantInfos = new ArrayList<>();
             List<String> partitionsList = partitionProvider.list();
-            for (String partition : partitionsList) {
-                try {
-                    tenantInfos.add(getTenantInfoFromCache(partition));
-                } catch (AppException e) {
-                    logger.warning(logPrefix, e.getMessage(), Collections.emptyMap());
-                    continue;
-                }
-            }
-            return tenantInfos;
+            return new ArrayList<>(warmUp(partitionsList).values());
         } catch (PartitionException e) {
             logger.warning(logPrefix, e.getMessage(), Collections.emptyMap());
             throw new AppException(e.getHttpResponse().getResponseCode(), "Partition-service list partitions error", e.getResponse().getBody(), e);
@@ -114,14 +126,21 @@ public class PartitionTenantInfoFactory implements ITenantFactory {
         tenantCache.clearAll();
     }
 
+    /**
+     * Loads the tenant info of the given partitions in parallel. Partitions failing to load are logged and left out
+     * of the result.
+     */
+    public Map<String, TenantInfo> warmUp(Collection<String> partitionIds) {
+        return tenantCache.warmUp(partitionIds, bulkLoadConcurrency,
+            (partition, e) -> logger.warning(logPrefix, e.getMessage(), Collections.emptyMap()));
+    }
+
     private TenantInfo getTenantInfoFromCache(String tenantName) throws PartitionException {
-        TenantInfo tenantInfo;
-        tenantInfo = this.tenantCache.get(tenantName);
-        if (Objects.isNull(tenantInfo)) {
-            PartitionInfo partitionInfo = partitionProvider.get(tenantName);
-            tenantInfo = PartitionInfoToTenantInfoMapper.mapToTenantInfo(partitionInfo);
-            tenantCache.put(tenantName, tenantInfo);
-        }
-        return tenantInfo;
+        return this.tenantCache.get(tenantName);
+    }
+
+    private TenantInfo loadTenantInfo(String tenantName) throws PartitionException {
+        PartitionInfo partitionInfo = partitionProvider.get(tenantName);
+        return PartitionInfoToTenantInfoMapper.mapToTenantInfo(partitionInfo);
     }
 }
@@ -19,30 +19,61 @@ package org.opengroup.osdu.core.common.partition;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opengroup.osdu.core.common.cache.ICache;
+import org.opengroup.osdu.core.common.cache.RefreshAheadCache;
 import org.opengroup.osdu.core.common.model.http.AppException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "propertyResolver", name = "strategy", havingValue = "partition")
 public class PartitionPropertyResolver implements IPropertyResolver {
 
+  static final long DEFAULT_REFRESH_SECONDS = 300;
+
   private final ObjectMapper objectMapper = new ObjectMapper();
-  private final ICache<String, PartitionInfo> cache;
-  private final IPartitionProvider partitionProvider;
+  private final RefreshAheadCache<String, PartitionInfo, PartitionException> cache;
   private final ISensitivePropertyResolver sensitivePropertyResolver;
   private static final String PARTITION_NOT_CONFIGURED = "Partition service not configured correctly for partition ";
   private static final String OPTIONAL_PROPERTY_NOT_RESOLVED = "Optional property not resolved.";
 
+  public PartitionPropertyResolver(ICache<String, PartitionInfo> cache, IPartitionProvider partitionProvider,
+      ISensitivePropertyResolver sensitivePropertyResolver) {
+    this(cache, partitionProvider, sensitivePropertyResolver, DEFAULT_REFRESH_SECONDS);
+  }
+
+  public PartitionPropertyResolver(ICache<String, PartitionInfo> cache, IPartitionProvider partitionProvider,
+      ISensitivePropertyResolver sensitivePropertyResolver, long refreshSeconds) {
+    this(cache, partitionProvider, sensitivePropertyResolver, refreshSeconds, false);
+  }
+
+  /**
+   * @param refreshSeconds      age after which a cached partition info is reloaded, should be shorter than the
+   *                            expiration of the cache
+   * @param refreshInBackground whether the partition provider works outside of a request, e.g. without request
+   *                            scoped headers, so that partition infos are reloaded on background threads; by
+   *                            default they are reloaded on the thread of the request finding them due
+   */
+  @Autowired
+  public PartitionPropertyResolver(ICache<String, PartitionInfo> cache, IPartitionProvider partitionProvider,
+      ISensitivePropertyResolver sensitivePropertyResolver,
+      @Value("${propertyResolver.refreshSeconds:" + DEFAULT_REFRESH_SECONDS + "}") long refreshSeconds,
+      @Value("${propertyResolver.refreshInBackground:false}") boolean refreshInBackground) {
+    this.cache = new RefreshAheadCache<>(cache, partitionProvider::get, Duration.ofSeconds(refreshSeconds),
+        refreshInBackground ? RefreshAheadCache.DEFAULT_EXECUTOR : RefreshAheadCache.CALLING_THREAD);
+    this.sensitivePropertyResolver = sensitivePropertyResolver;
+  }
+
   @Override
   public String getPropertyValue(String propertyName, String partitionId) {
     try {
@@ -66,14 +97,15 @@ public class PartitionPropertyResolver implements IPropertyResolver {
   }
 
   private PartitionInfo getPartitionInfo(String partitionId) throws PartitionException {
-    PartitionInfo cachedPartitionInfo = cache.get(partitionId);
-    if (cachedPartitionInfo == null) {
-      PartitionInfo partitionInfo = partitionProvider.get(partitionId);
-      cache.put(partitionId, partitionInfo);
-      return partitionInfo;
-    } else {
-      return cachedPartitionInfo;
-    }
+    return cache.get(partitionId);
+  }
+
+  /**
+   * Loads the partition info of the given partitions, e.g. at startup, in parallel when refreshing in the
+   * background and one after the other on the calling thread otherwise.
+   */
+  public void warmUp(Collection<String> partitionIds) {
+    cache.warmUp(partitionIds);
   }
 
   @Override
@@ -15,17 +15,19 @@
 package org.opengroup.osdu.core.common.partition;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Type;
 import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
@@ -35,7 +37,9 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.ResponseContentTypes;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.http.RequestStatus;
@@ -46,6 +50,8 @@ public class PartitionService implements IPartitionProvider {
     private final DpsHeaders headers;
     CloseableHttpClient cacheHttpClient;
 
+    private static final Type PROPERTIES_TYPE = TypeToken.getParameterized(Map.class, String.class, Property.class).getType();
+
     private final Gson gson = new Gson();
 
     public PartitionService(PartitionAPIConfig config,
@@ -60,8 +66,8 @@ public class PartitionService implements IPartitionProvider {
     public PartitionInfo get(String name) throws PartitionException {
         String url = this.createUrl(String.format("/partitions/%s", name));
         HttpGet httpGetRequest = new HttpGet(url);
-        HttpResponse response = send(httpGetRequest);
-        Map<String, Property> properties = getResult(response,Map.class,String.class,Property.class);
+        HttpResponse response = send(httpGetRequest, PROPERTIES_TYPE);
+        Map<String, Property> properties = getResult(response);
         return PartitionInfo
                 .builder()
                 .properties(properties)
@@ -81,8 +87,8 @@ public class PartitionService implements IPartitionProvider {
                     String.format("Error making request to Partition service create api, error: %s", e.getMessage()), null);
         }
         httpPost.setEntity(entity);
-        HttpResponse response = send(httpPost);
-        Map<String, Property> properties = getResult(response,Map.class,String.class,Property.class);
+        HttpResponse response = send(httpPost, PROPERTIES_TYPE);
+        Map<String, Property> properties = getResult(response);
         return PartitionInfo
                 .builder()
                 .properties(properties)
@@ -102,28 +108,32 @@ public class PartitionService implements IPartitionProvider {
                     String.format("Error making request to Partition service update api, error: %s", e.getMessage()), null);
         }
         httpPatch.setEntity(entity);
-        HttpResponse response = send(httpPatch);
-        getResult(response, String.class);
+        HttpResponse response = send(httpPatch, String.class);
+        getResult(response);
     }
 
     @Override
     public void delete(String partitionId) throws PartitionException {
         String url = this.createUrl(String.format("/partitions/%s", partitionId));
         HttpDelete httpDelete = new HttpDelete(url);
-        HttpResponse response = send(httpDelete);
-        getResult(response, String.class);
+        HttpResponse response = send(httpDelete, String.class);
+        getResult(response);
     }
 
     @Override
     public List<String> list() throws PartitionException {
         String url = this.createUrl("/partitions");
         HttpGet httpGetRequest = new HttpGet(url);
-        HttpResponse response = send(httpGetRequest);
-        List<String> partitions = getResult(response, List.class);
+        HttpResponse response = send(httpGetRequest, List.class);
+        List<String> partitions = getResult(response);
         return partitions;
     }
 
-    private HttpResponse send(HttpRequestBase request) throws PartitionException {
+    /**
+     * Parses a successful response straight from the entity stream into the given type, other responses keep
+     * their body.
+     */
+    private HttpResponse send(HttpRequestBase request, Type resultType) throws PartitionException {
         Map<String, String> dpsHeader = this.headers.getHeaders();
         request.addHeader(DpsHeaders.AUTHORIZATION, dpsHeader.get(DpsHeaders.AUTHORIZATION));
         request.addHeader(DpsHeaders.CONTENT_TYPE, dpsHeader.get(DpsHeaders.CONTENT_TYPE));
@@ -135,15 +145,18 @@ public class PartitionService implements IPartitionProvider {
                 if (response.getStatusLine().getStatusCode() == 204) {
                     return output;
                 }
-                StringBuilder responseBuilder = new StringBuilder();
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()))) {
-                    String responsePayloadLine;
-                    while ((responsePayloadLine = br.readLine()) != null) {
-                        responseBuilder.append(responsePayloadLine);
-                    }
+                HttpEntity entity = response.getEntity();
+                Charset charset = ResponseContentTypes.getOrDefault(entity).getCharset();
+                if (!output.isSuccessCode()) {
+                    output.setRawBody(EntityUtils.toByteArray(entity), charset);
+                    return output;
+                }
+                try (Reader content = new InputStreamReader(entity.getContent(), charset)) {
+                    output.setParsedBody(gson.fromJson(content, resultType));
+                } catch (JsonSyntaxException | JsonIOException e) {
+                    throw new PartitionException(String.format("Error parsing response. With message: %s Check the inner HttpResponse for more info.", e.getMessage()),
+                            output);
                 }
-                String responseBody = responseBuilder.toString();
-                output.setBody(responseBody);
                 return output;
             }
         } catch (SocketTimeoutException e) {
@@ -153,24 +166,11 @@ public class PartitionService implements IPartitionProvider {
         }
     }
 
-    private <T> T getResult(HttpResponse result, Class<T> type, Class... params) throws PartitionException {
+    private <T> T getResult(HttpResponse result) throws PartitionException {
         if (!result.isSuccessCode()) {
             throw this.generatePartitionException(result);
         }
-
-        try {
-            if (StringUtils.isBlank(result.getBody())) {
-                return null;
-            }
-            if(params.length > 0){
-                Type parametrizedType = TypeToken.getParameterized(type, params).getType();
-                return gson.fromJson(result.getBody(), parametrizedType);
-            }
-            return gson.fromJson(result.getBody(), type);
-        } catch (JsonSyntaxException e) {
-            throw new PartitionException(String.format("Error parsing response. With message: %s Check the inner HttpResponse for more info.",e.getMessage()),
-                result);
-        }
+        return result.getParsedBody();
     }
 
     private String createUrl(String pathAndQuery) {
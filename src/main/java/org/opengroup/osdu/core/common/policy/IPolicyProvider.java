@@ -14,17 +14,23 @@
 
 package org.opengroup.osdu.core.common.policy;
 
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.model.policy.BatchPolicyResponse;
 import org.opengroup.osdu.core.common.model.policy.PolicyRequest;
 import org.opengroup.osdu.core.common.model.policy.PolicyResponse;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface IPolicyProvider {
 
     PolicyResponse evaluatePolicy(PolicyRequest policy) throws PolicyException;
 
+    default CompletableFuture<PolicyResponse> evaluatePolicyAsync(PolicyRequest policy) {
+        return AsyncResults.completed(() -> evaluatePolicy(policy));
+    }
+
     String getCompiledPolicy(String ruleToBeChecked, List<String> unknownsList, Map<String, Object> input) throws PolicyException;
 
     BatchPolicyResponse evaluateBatchPolicy(PolicyRequest policy) throws PolicyException;
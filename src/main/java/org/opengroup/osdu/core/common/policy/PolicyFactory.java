@@ -14,6 +14,7 @@
 
 package org.opengroup.osdu.core.common.policy;
 
+import org.opengroup.osdu.core.common.http.AsyncHttpClient;
 import org.opengroup.osdu.core.common.http.HttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -36,6 +37,6 @@ public class PolicyFactory implements IPolicyFactory {
         if (headers == null) {
             throw new NullPointerException("headers cannot be null");
         }
-        return new PolicyService(this.config, new HttpClient(), headers, bodyMapper);
+        return new PolicyService(this.config, new HttpClient(), new AsyncHttpClient(), headers, bodyMapper);
     }
 }
@@ -15,8 +15,10 @@
 package org.opengroup.osdu.core.common.policy;
 
 import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
@@ -29,6 +31,7 @@ import org.opengroup.osdu.core.common.model.policy.PolicyResponse;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class PolicyService implements IPolicyProvider {
 
@@ -36,14 +39,24 @@ public class PolicyService implements IPolicyProvider {
                   IHttpClient httpClient,
                   DpsHeaders headers,
                   HttpResponseBodyMapper bodyMapper) {
+        this(config, httpClient, null, headers, bodyMapper);
+    }
+
+    public PolicyService(PolicyAPIConfig config,
+                  IHttpClient httpClient,
+                  IAsyncHttpClient asyncHttpClient,
+                  DpsHeaders headers,
+                  HttpResponseBodyMapper bodyMapper) {
         this.rootUrl = config.getRootUrl();
         this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
         this.headers = headers;
         this.bodyMapper = bodyMapper;
     }
 
     private final String rootUrl;
     private final IHttpClient httpClient;
+    private final IAsyncHttpClient asyncHttpClient;
     private final DpsHeaders headers;
     private final HttpResponseBodyMapper bodyMapper;
 
@@ -55,6 +68,17 @@ public class PolicyService implements IPolicyProvider {
         return this.getResult(result, PolicyResponse.class);
     }
 
+    @Override
+    public CompletableFuture<PolicyResponse> evaluatePolicyAsync(PolicyRequest policyRequest) {
+        if (this.asyncHttpClient == null) {
+            return IPolicyProvider.super.evaluatePolicyAsync(policyRequest);
+        }
+        String url = this.createUrl("/evaluations/query");
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(HttpRequest.post(policyRequest).url(url).headers(this.headers.getHeaders()).build()),
+                result -> this.getResult(result, PolicyResponse.class));
+    }
+
     @Override
     public String getCompiledPolicy(String ruleToCheck, List<String> unknownsList, Map<String, Object> input) throws PolicyException {
         String url = this.createUrl("/translate");
@@ -15,6 +15,7 @@
 package org.opengroup.osdu.core.common.search;
 
 import com.google.api.client.util.Strings;
+import org.opengroup.osdu.core.common.model.validation.ValidationPatterns;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
@@ -33,9 +34,6 @@ import java.util.concurrent.ConcurrentHashMap;
  * */
 @Component
 public class ElasticIndexNameResolver {
-    private static final String KIND_COMPLETE_VERSION_PATTERN = "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:(\\d+\\.\\d+\\.\\d+)$";
-    private static final String KIND_MAJOR_VERSION_PATTERN = "[\\w-\\.\\*]+:[\\w-\\.\\*]+:[\\w-\\.\\*]+:(\\d+\\.\\*\\.\\*)$";
-
     private final Map<String, String> KIND_INDEX_MAP = new ConcurrentHashMap();
     private final Map<String, String> INDEX_KIND_MAP = new ConcurrentHashMap();
 
@@ -69,7 +67,8 @@ public class ElasticIndexNameResolver {
      * @return true if index name alias is supported for the given kind; otherwise, returns false
      */
     public boolean isIndexAliasSupported(String kind) {
-        return !Strings.isNullOrEmpty(kind) && (kind.matches(KIND_COMPLETE_VERSION_PATTERN) || kind.matches(KIND_MAJOR_VERSION_PATTERN));
+        return !Strings.isNullOrEmpty(kind) && (ValidationPatterns.KIND_COMPLETE_VERSION.matcher(kind).matches()
+                || ValidationPatterns.KIND_MAJOR_VERSION.matcher(kind).matches());
     }
 
     /**
@@ -14,6 +14,8 @@
 
 package org.opengroup.osdu.core.common.search;
 
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.model.search.CursorQueryRequest;
 import org.opengroup.osdu.core.common.model.search.CursorQueryResponse;
 import org.opengroup.osdu.core.common.model.search.QueryRequest;
@@ -25,5 +27,9 @@ public interface ISearchService {
 
     QueryResponse search(QueryRequest searchRequest) throws SearchException;
 
+    default CompletableFuture<QueryResponse> searchAsync(QueryRequest searchRequest) {
+        return AsyncResults.completed(() -> search(searchRequest));
+    }
+
     CursorQueryResponse searchCursor(CursorQueryRequest cursorRequest) throws SearchException;
 }
\ No newline at end of file
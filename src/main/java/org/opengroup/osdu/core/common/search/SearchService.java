@@ -14,12 +14,15 @@
 
 package org.opengroup.osdu.core.common.search;
 
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.search.*;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.util.UrlNormalizationUtil;
 
@@ -28,8 +31,17 @@ public class SearchService implements ISearchService {
                   IHttpClient httpClient,
                   DpsHeaders headers,
                   HttpResponseBodyMapper bodyMapper) {
+        this(config, httpClient, null, headers, bodyMapper);
+    }
+
+    public SearchService(SearchAPIConfig config,
+                  IHttpClient httpClient,
+                  IAsyncHttpClient asyncHttpClient,
+                  DpsHeaders headers,
+                  HttpResponseBodyMapper bodyMapper) {
         this.rootUrl = config.getRootUrl();
         this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
         this.headers = headers;
         this.bodyMapper = bodyMapper;
         if (config.apiKey != null) {
@@ -39,6 +51,7 @@ public class SearchService implements ISearchService {
 
     private final String rootUrl;
     private final IHttpClient httpClient;
+    private final IAsyncHttpClient asyncHttpClient;
     private final DpsHeaders headers;
     private final HttpResponseBodyMapper bodyMapper;
 
@@ -62,6 +75,20 @@ public class SearchService implements ISearchService {
         return result.IsNotFoundCode() ? new QueryResponse() : this.getResult(result, QueryResponse.class);
     }
 
+    /**
+     * Executes a search using the Query API without blocking the calling thread.
+     */
+    @Override
+    public CompletableFuture<QueryResponse> searchAsync(QueryRequest searchRequest) {
+        if (this.asyncHttpClient == null) {
+            return ISearchService.super.searchAsync(searchRequest);
+        }
+        String url = this.createUrl("/query");
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(HttpRequest.post(searchRequest).url(url).headers(this.headers.getHeaders()).build()),
+                result -> result.IsNotFoundCode() ? new QueryResponse() : this.getResult(result, QueryResponse.class));
+    }
+
     /**
      * Executes a search using the Query with cursor API.
      */
@@ -15,6 +15,10 @@
 package org.opengroup.osdu.core.common.storage;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.core.common.model.storage.Record;
 import org.opengroup.osdu.core.common.model.storage.Schema;
@@ -90,6 +94,16 @@ public interface IStorageService {
      */
 	Record getRecord(String id) throws StorageException;
 
+    /**
+     * Retrieve a record without blocking the calling thread
+     * @param id The ID of the record to retrieve
+     * @return A future completed with the requested record, or <code>null</code> if the record was not found.
+     * The future completes exceptionally with a <code>StorageException</code> in the same cases as {@link #getRecord(String)}
+     */
+    default CompletableFuture<Record> getRecordAsync(String id) {
+        return AsyncResults.completed(() -> getRecord(id));
+    }
+
     /**
      * Retrieve multiple records
      * @param ids The IDs of the records to retrieve
@@ -98,6 +112,55 @@ public interface IStorageService {
      */
 	MultiRecordInfo getRecords(Collection<String> ids) throws StorageException;
 
+    /**
+     * Retrieve multiple records without blocking the calling thread
+     * @param ids The IDs of the records to retrieve
+     * @return A future completed with the requested records, or <code>null</code> if the record was not found.
+     * The future completes exceptionally with a <code>StorageException</code> in the same cases as {@link #getRecords(Collection)}
+     */
+    default CompletableFuture<MultiRecordInfo> getRecordsAsync(Collection<String> ids) {
+        return AsyncResults.completed(() -> getRecords(ids));
+    }
+
+    /**
+     * Retrieve records for any number of ids, using the default batch size of the implementation
+     * @see #streamRecords(Collection, int)
+     */
+    default Stream<Record> streamRecords(Collection<String> ids) {
+        return streamRecords(ids, StorageAPIConfig.DEFAULT_RECORDS_BATCH_SIZE);
+    }
+
+    /**
+     * Retrieve records for any number of ids. The ids are queried in batches of <code>batchSize</code>
+     * while the stream is consumed, so only the current batch is held in memory.
+     * The stream should be closed when it is not fully consumed.
+     * @param ids The IDs of the records to retrieve
+     * @param batchSize The number of ids queried per request
+     * @return The found records, in the order of the batches
+     * @throws org.opengroup.osdu.core.common.model.http.AppException While consuming the stream, if a batch fails
+     */
+    default Stream<Record> streamRecords(Collection<String> ids, int batchSize) {
+        RecordBatchReader reader = new RecordBatchReader(ids, batchSize, 1,
+                batch -> AsyncResults.completed(() -> getRecords(batch)));
+        return reader.records();
+    }
+
+    /**
+     * Retrieve records for any number of ids, passing the result of each batch to the consumer as soon as it is read
+     * @param ids The IDs of the records to retrieve
+     * @param batchSize The number of ids queried per request
+     * @param consumer Receives the records, invalid and retry record ids of every batch
+     * @throws StorageException If the HTTP status code of a batch indicates failure (except for 404 Not Found) or the response cannot be parsed
+     */
+    default void forEachRecordBatch(Collection<String> ids, int batchSize, Consumer<MultiRecordInfo> consumer) throws StorageException {
+        try (RecordBatchReader reader = new RecordBatchReader(ids, batchSize, 1,
+                batch -> AsyncResults.completed(() -> getRecords(batch)))) {
+            while (reader.hasNext()) {
+                consumer.accept(reader.next());
+            }
+        }
+    }
+
     /**
      * Create a schema
      * @param schema The schema to create
@@ -0,0 +1,157 @@
+// Copyright 2021 Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.opengroup.osdu.core.common.model.storage.StorageException;
+
+/**
+ * Reads records for a large set of ids in batches. The ids are consumed lazily from the given
+ * collection and at most {@code maxInFlight} batch requests are pending at any time, so the memory
+ * used is bounded by {@code batchSize * maxInFlight} records regardless of the number of ids.
+ * Batches are returned in the order of the ids.
+ */
+class RecordBatchReader implements AutoCloseable {
+
+    private final Iterator<String> ids;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Function<List<String>, CompletableFuture<MultiRecordInfo>> fetch;
+    private final Deque<CompletableFuture<MultiRecordInfo>> pending = new ArrayDeque<>();
+
+    RecordBatchReader(Collection<String> ids, int batchSize, int maxInFlight,
+                      Function<List<String>, CompletableFuture<MultiRecordInfo>> fetch) {
+        if (batchSize < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("batchSize and maxInFlight must be positive");
+        }
+        this.ids = ids.iterator();
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.fetch = fetch;
+    }
+
+    boolean hasNext() {
+        this.fill();
+        return !this.pending.isEmpty();
+    }
+
+    /**
+     * Waits for the next batch and schedules the following ones. A batch for which Storage returned
+     * 404 Not Found is returned empty.
+     */
+    MultiRecordInfo next() throws StorageException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MultiRecordInfo batch;
+        try {
+            batch = this.pending.removeFirst().join();
+        } catch (CompletionException e) {
+            this.close();
+            if (e.getCause() instanceof StorageException) {
+                throw (StorageException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        this.fill();
+        if (batch == null) {
+            batch = new MultiRecordInfo();
+        }
+        if (batch.getRecords() == null) {
+            batch.setRecords(Collections.emptyList());
+        }
+        return batch;
+    }
+
+    /**
+     * Returns the records one by one. A failing batch is rethrown as an {@link AppException}
+     * carrying the status code of the Storage response.
+     */
+    Stream<Record> records() {
+        Iterator<Record> iterator = new Iterator<Record>() {
+            private Iterator<Record> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext() && RecordBatchReader.this.hasNext()) {
+                    this.current = nextBatchUnchecked().getRecords().iterator();
+                }
+                return this.current.hasNext();
+            }
+
+            @Override
+            public Record next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        for (CompletableFuture<MultiRecordInfo> future : this.pending) {
+            future.cancel(true);
+        }
+        this.pending.clear();
+    }
+
+    private MultiRecordInfo nextBatchUnchecked() {
+        try {
+            return this.next();
+        } catch (StorageException e) {
+            int status = e.getHttpResponse() == null || e.getHttpResponse().getResponseCode() == 0
+                    ? HttpStatus.SC_INTERNAL_SERVER_ERROR : e.getHttpResponse().getResponseCode();
+            throw new AppException(status, "Error reading records from Storage", e.getMessage(), e);
+        } catch (CancellationException e) {
+            throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Error reading records from Storage", "Record batch was cancelled", e);
+        }
+    }
+
+    private void fill() {
+        while (this.pending.size() < this.maxInFlight && this.ids.hasNext()) {
+            List<String> batch = new ArrayList<>(this.batchSize);
+            while (batch.size() < this.batchSize && this.ids.hasNext()) {
+                batch.add(this.ids.next());
+            }
+            this.pending.addLast(this.fetch.apply(batch));
+        }
+    }
+}
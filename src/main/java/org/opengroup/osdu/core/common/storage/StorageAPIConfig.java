@@ -14,17 +14,35 @@
 
 package org.opengroup.osdu.core.common.storage;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Builder
 @Data
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class StorageAPIConfig {
 
+    static final int DEFAULT_RECORDS_BATCH_SIZE = 100;
+    static final int DEFAULT_RECORDS_MAX_IN_FLIGHT = 4;
+
     String rootUrl;
 
     String apiKey;
 
+    // number of ids sent per query when streaming records
+    @Builder.Default
+    int recordsBatchSize = DEFAULT_RECORDS_BATCH_SIZE;
+
+    // number of batch queries pending at the same time when streaming records
+    @Builder.Default
+    int recordsMaxInFlight = DEFAULT_RECORDS_MAX_IN_FLIGHT;
+
+    StorageAPIConfig(String rootUrl, String apiKey) {
+        this(rootUrl, apiKey, DEFAULT_RECORDS_BATCH_SIZE, DEFAULT_RECORDS_MAX_IN_FLIGHT);
+    }
+
     public static StorageAPIConfig Default() {
         return StorageAPIConfig.builder().build();
     }
@@ -14,6 +14,7 @@
 
 package org.opengroup.osdu.core.common.storage;
 
+import org.opengroup.osdu.core.common.http.AsyncHttpClient;
 import org.opengroup.osdu.core.common.http.HttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -35,6 +36,6 @@ public class StorageFactory implements IStorageFactory {
         if (headers == null) {
             throw new NullPointerException("headers cannot be null");
         }
-        return new StorageService(this.config, new HttpClient(), headers, bodyMapper);
+        return new StorageService(this.config, new HttpClient(), new AsyncHttpClient(), headers, bodyMapper);
     }
 }
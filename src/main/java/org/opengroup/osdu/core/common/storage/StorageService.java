@@ -19,9 +19,14 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.opengroup.osdu.core.common.http.AsyncResults;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
@@ -38,17 +43,31 @@ public class StorageService implements IStorageService {
 
     private final String rootUrl;
     private final IHttpClient httpClient;
+    private final IAsyncHttpClient asyncHttpClient;
     private final DpsHeaders headers;
     private final HttpResponseBodyMapper bodyMapper;
+    private final int recordsBatchSize;
+    private final int recordsMaxInFlight;
 
     public StorageService(StorageAPIConfig config,
                    IHttpClient httpClient,
                    DpsHeaders headers,
                    HttpResponseBodyMapper bodyMapper) {
+        this(config, httpClient, null, headers, bodyMapper);
+    }
+
+    public StorageService(StorageAPIConfig config,
+                   IHttpClient httpClient,
+                   IAsyncHttpClient asyncHttpClient,
+                   DpsHeaders headers,
+                   HttpResponseBodyMapper bodyMapper) {
         this.rootUrl = config.getRootUrl();
         this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
         this.headers = headers;
         this.bodyMapper = bodyMapper;
+        this.recordsBatchSize = config.getRecordsBatchSize();
+        this.recordsMaxInFlight = config.getRecordsMaxInFlight();
         if (config.apiKey != null) {
             headers.put("AppKey", config.getApiKey());
         }
@@ -77,17 +96,56 @@ public class StorageService implements IStorageService {
         return result.IsNotFoundCode() ? null : this.getResult(result, Record.class);
     }
 
+    @Override
+    public CompletableFuture<Record> getRecordAsync(String id) {
+        if (this.asyncHttpClient == null) {
+            return IStorageService.super.getRecordAsync(id);
+        }
+        String url = this.createUrl(String.format("/records/%s", id));
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(HttpRequest.get().url(url).headers(this.headers.getHeaders()).build()),
+                result -> result.IsNotFoundCode() ? null : this.getResult(result, Record.class));
+    }
+
     @Override
     public MultiRecordInfo getRecords(Collection<String> ids) throws StorageException {
-        MultiRecordIds input = new MultiRecordIds();
-        input.setRecords(new ArrayList<String>());
-        input.getRecords().addAll(ids);
-        String url = this.createUrl("/query/records");
-        HttpResponse result = this.httpClient.send(
-                HttpRequest.post(input).url(url).headers(this.headers.getHeaders()).build());
+        HttpResponse result = this.httpClient.send(this.createGetRecordsRequest(ids));
         return result.IsNotFoundCode() ? null : this.getResult(result, MultiRecordInfo.class);
     }
 
+    @Override
+    public CompletableFuture<MultiRecordInfo> getRecordsAsync(Collection<String> ids) {
+        if (this.asyncHttpClient == null) {
+            return IStorageService.super.getRecordsAsync(ids);
+        }
+        return AsyncResults.map(
+                this.asyncHttpClient.sendAsync(this.createGetRecordsRequest(ids)),
+                result -> result.IsNotFoundCode() ? null : this.getResult(result, MultiRecordInfo.class));
+    }
+
+    @Override
+    public Stream<Record> streamRecords(Collection<String> ids) {
+        return this.streamRecords(ids, this.recordsBatchSize);
+    }
+
+    /**
+     * Retrieve records in batches with up to <code>recordsMaxInFlight</code> batch queries pending,
+     * so the next batches are fetched while the current one is consumed.
+     */
+    @Override
+    public Stream<Record> streamRecords(Collection<String> ids, int batchSize) {
+        return this.createRecordBatchReader(ids, batchSize).records();
+    }
+
+    @Override
+    public void forEachRecordBatch(Collection<String> ids, int batchSize, Consumer<MultiRecordInfo> consumer) throws StorageException {
+        try (RecordBatchReader reader = this.createRecordBatchReader(ids, batchSize)) {
+            while (reader.hasNext()) {
+                consumer.accept(reader.next());
+            }
+        }
+    }
+
     @Override
     public void deleteRecord(String id) throws StorageException {
         String url = this.createUrl(String.format("/records/%s", id));
@@ -162,6 +220,18 @@ public class StorageService implements IStorageService {
         this.getResult(result, String.class);
     }
 
+    private RecordBatchReader createRecordBatchReader(Collection<String> ids, int batchSize) {
+        return new RecordBatchReader(ids, batchSize, this.recordsMaxInFlight, this::getRecordsAsync);
+    }
+
+    private HttpRequest createGetRecordsRequest(Collection<String> ids) {
+        MultiRecordIds input = new MultiRecordIds();
+        input.setRecords(new ArrayList<String>());
+        input.getRecords().addAll(ids);
+        String url = this.createUrl("/query/records");
+        return HttpRequest.post(input).url(url).headers(this.headers.getHeaders()).build();
+    }
+
     private StorageException generateException(HttpResponse result) {
         return new StorageException(
                 "Error making request to Storage service. Check the inner HttpResponse for more info.", result);
@@ -0,0 +1,335 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Property path such as {@code depth.value}, {@code markers[].measuredDepth} or {@code markers[2].measuredDepth},
+ * parsed once into typed segments and cached by its string form. A segment is a field name, a field holding an
+ * array followed by an element index, or a field holding an array followed by {@code []} to visit all of its
+ * elements. Reading, writing and checking a property walk the segments without splitting or parsing strings.
+ * <p>
+ * The values a path matches are numbered in document order, which is the order of {@link #get(JsonObject)}, and
+ * the setters take the value for each match from that position.
+ */
+public final class CompiledJsonPath {
+
+    private static final int MAXIMUM_CACHED_PATHS = 10000;
+    private static final Cache<String, CompiledJsonPath> PATHS = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_PATHS).build();
+
+    private static final int FIELD = 0;
+    private static final int INDEX = 1;
+    private static final int WILDCARD = 2;
+
+    private final String path;
+    private final String[] names;
+    private final int[] kinds;
+    private final int[] indexes;
+
+    private CompiledJsonPath(String path) {
+        this.path = path;
+        List<String> segments = splitByDots(path);
+        int size = segments.size();
+        this.names = new String[size];
+        this.kinds = new int[size];
+        this.indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            String segment = segments.get(i);
+            int open = segment.indexOf('[');
+            if (open < 0 || !segment.endsWith("]")) {
+                names[i] = segment;
+                kinds[i] = FIELD;
+            } else if (open == segment.length() - 2) {
+                names[i] = segment.substring(0, open);
+                kinds[i] = WILDCARD;
+            } else {
+                names[i] = segment.substring(0, open);
+                kinds[i] = INDEX;
+                indexes[i] = parseIndex(segment.substring(open + 1, segment.length() - 1));
+            }
+        }
+    }
+
+    /**
+     * @param path - property name with path split by dots e.g. depth.value
+     * @return the compiled path, shared by all callers using the same property name
+     */
+    public static CompiledJsonPath compile(String path) {
+        CompiledJsonPath compiled = PATHS.getIfPresent(path);
+        if (compiled == null) {
+            compiled = new CompiledJsonPath(path);
+            PATHS.put(path, compiled);
+        }
+        return compiled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return true if the path visits every element of an array, so it may match several values
+     */
+    public boolean hasWildcard() {
+        for (int kind : kinds) {
+            if (kind == WILDCARD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the matched values in document order; a null entry for a single value which does not exist, and
+     * the element itself for array elements which are not objects
+     */
+    public List<JsonElement> get(JsonObject jsonObject) {
+        List<JsonElement> result = new ArrayList<>();
+        collect(jsonObject, 0, result);
+        return result;
+    }
+
+    /**
+     * @return true if at least one value matched by the path exists, a JSON null included
+     */
+    public boolean exists(JsonObject jsonObject) {
+        return exists(jsonObject, 0);
+    }
+
+    /**
+     * Writes the value of each match. Array elements which are not objects are skipped.
+     */
+    public void setNumbers(JsonObject jsonObject, IntFunction<Number> values) {
+        set(jsonObject, 0, 0, new Writer() {
+            @Override
+            public void write(JsonObject target, String name, int position) {
+                target.addProperty(name, values.apply(position));
+            }
+
+            @Override
+            public void write(JsonArray target, int index, int position) {
+                Number value = values.apply(position);
+                target.set(index, value == null ? JsonNull.INSTANCE : new JsonPrimitive(value));
+            }
+        });
+    }
+
+    /**
+     * Writes the value of each match. Array elements which are not objects are skipped.
+     *
+     * @param skipNulls true to leave the matches with a null value unchanged, false to write JSON nulls
+     */
+    public void setStrings(JsonObject jsonObject, IntFunction<String> values, boolean skipNulls) {
+        set(jsonObject, 0, 0, new Writer() {
+            @Override
+            public void write(JsonObject target, String name, int position) {
+                String value = values.apply(position);
+                if (value != null || !skipNulls) {
+                    target.addProperty(name, value);
+                }
+            }
+
+            @Override
+            public void write(JsonArray target, int index, int position) {
+                String value = values.apply(position);
+                if (value != null || !skipNulls) {
+                    target.set(index, value == null ? JsonNull.INSTANCE : new JsonPrimitive(value));
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes the value of each match which already exists, leaving the objects without the property as they are.
+     * Array elements which are not objects are skipped.
+     */
+    public void replaceStrings(JsonObject jsonObject, IntFunction<String> values) {
+        set(jsonObject, 0, 0, new Writer() {
+            @Override
+            public void write(JsonObject target, String name, int position) {
+                if (target.has(name)) {
+                    target.addProperty(name, values.apply(position));
+                }
+            }
+
+            @Override
+            public void write(JsonArray target, int index, int position) {
+                String value = values.apply(position);
+                target.set(index, value == null ? JsonNull.INSTANCE : new JsonPrimitive(value));
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private void collect(JsonObject json, int segment, List<JsonElement> result) {
+        boolean last = segment == names.length - 1;
+        if (kinds[segment] == FIELD) {
+            JsonElement element = json.get(names[segment]);
+            if (last) {
+                result.add(element);
+            } else if (element == null || !element.isJsonObject()) {
+                result.add(null);
+            } else {
+                collect(element.getAsJsonObject(), segment + 1, result);
+            }
+            return;
+        }
+        JsonArray array = json.getAsJsonArray(names[segment]);
+        if (kinds[segment] == INDEX) {
+            int index = indexes[segment];
+            if (array == null || index < 0 || index >= array.size()) {
+                result.add(null);
+            } else if (last) {
+                result.add(array.get(index));
+            } else {
+                collect(array.get(index).getAsJsonObject(), segment + 1, result);
+            }
+            return;
+        }
+        if (array == null) {
+            return;
+        }
+        for (int i = 0; i < array.size(); i++) {
+            JsonElement element = array.get(i);
+            if (!last && element.isJsonObject()) {
+                collect(element.getAsJsonObject(), segment + 1, result);
+            } else {
+                result.add(element);
+            }
+        }
+    }
+
+    private boolean exists(JsonObject json, int segment) {
+        boolean last = segment == names.length - 1;
+        if (kinds[segment] == FIELD) {
+            JsonElement element = json.get(names[segment]);
+            if (last) {
+                return element != null;
+            }
+            return element != null && element.isJsonObject() && exists(element.getAsJsonObject(), segment + 1);
+        }
+        JsonArray array = json.getAsJsonArray(names[segment]);
+        if (array == null) {
+            return false;
+        }
+        if (kinds[segment] == INDEX) {
+            int index = indexes[segment];
+            if (index < 0 || index >= array.size()) {
+                return false;
+            }
+            JsonElement element = array.get(index);
+            return last || (element.isJsonObject() && exists(element.getAsJsonObject(), segment + 1));
+        }
+        for (int i = 0; i < array.size(); i++) {
+            JsonElement element = array.get(i);
+            if (last || (element.isJsonObject() && exists(element.getAsJsonObject(), segment + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the position of the next match
+     */
+    private int set(JsonObject json, int segment, int position, Writer writer) {
+        boolean last = segment == names.length - 1;
+        if (kinds[segment] == FIELD) {
+            if (last) {
+                writer.write(json, names[segment], position);
+                return position + 1;
+            }
+            JsonElement element = json.get(names[segment]);
+            if (element == null || !element.isJsonObject()) {
+                return position + 1;
+            }
+            return set(element.getAsJsonObject(), segment + 1, position, writer);
+        }
+        JsonArray array = json.getAsJsonArray(names[segment]);
+        if (kinds[segment] == INDEX) {
+            int index = indexes[segment];
+            if (array == null || index < 0 || index >= array.size()) {
+                return position + 1;
+            }
+            if (last) {
+                writer.write(array, index, position);
+                return position + 1;
+            }
+            return set(array.get(index).getAsJsonObject(), segment + 1, position, writer);
+        }
+        if (array == null) {
+            return position;
+        }
+        for (int i = 0; i < array.size(); i++) {
+            if (last) {
+                writer.write(array, i, position++);
+                continue;
+            }
+            JsonElement element = array.get(i);
+            if (!element.isJsonObject()) {
+                position++;
+            } else {
+                position = set(element.getAsJsonObject(), segment + 1, position, writer);
+            }
+        }
+        return position;
+    }
+
+    private static List<String> splitByDots(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int dot;
+        while ((dot = path.indexOf('.', start)) >= 0) {
+            segments.add(path.substring(start, dot));
+            start = dot + 1;
+        }
+        segments.add(path.substring(start));
+        // same as String.split, which drops trailing empty segments
+        while (segments.size() > 1 && segments.get(segments.size() - 1).isEmpty()) {
+            segments.remove(segments.size() - 1);
+        }
+        return segments;
+    }
+
+    private static int parseIndex(String index) {
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private interface Writer {
+        void write(JsonObject target, String name, int position);
+
+        void write(JsonArray target, int index, int position);
+    }
+}
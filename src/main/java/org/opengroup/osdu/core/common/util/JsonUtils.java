@@ -18,15 +18,9 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-
-import static java.util.Optional.ofNullable;
 
 public class JsonUtils {
-    private static final String PN_END = "]";
-
     public static String jsonElementToString(JsonElement jsonElement) {
         if (jsonElement == null) {
             throw new IllegalArgumentException("Input json element is null");
@@ -49,71 +43,7 @@ public class JsonUtils {
      * @return JsonElement list with property, if it found and null if not
      */
     public static List<JsonElement> getJsonPropertyValueFromJsonObject(String propertyName, JsonObject jsonObject) {
-        String[] propertiesHierarchy = splitJsonPropertiesByDots(propertyName);
-
-        if (propertiesHierarchy[0].endsWith(PN_END) && isNestedArrayElementHomogeneous(propertiesHierarchy[0])) {
-            return getNestedJsonPropertyValueFromJsonObject(propertiesHierarchy, jsonObject);
-        } else if (propertiesHierarchy[0].endsWith(PN_END)) {
-            return getOneNestedJsonProperyValueFromJsonObject(propertiesHierarchy, jsonObject);
-        }
-
-        List<JsonElement> result = new ArrayList<>();
-        result.add(getNestedJsonElement(propertiesHierarchy, jsonObject));
-        return result;
-    }
-
-    private static List<JsonElement> getOneNestedJsonProperyValueFromJsonObject(String[] propertyNestedNames, JsonObject jsonObject) {
-        List<JsonElement> result = new ArrayList<>();
-        String[] innerNestedNames = getInnerNestedPropertyNames(propertyNestedNames);
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(propertyNestedNames[0])) ;
-        int elementIndex = getNestedArrayElementIndex(propertyNestedNames[0]);
-
-        if (elementArray == null || elementIndex < 0 || elementIndex >= elementArray.size()) {
-            result.add(null);
-        } else {
-            JsonElement element = getNestedJsonElement(innerNestedNames, elementArray.get(elementIndex).getAsJsonObject());
-            result.add(element);
-        }
-
-        return result;
-    }
-
-    private static List<JsonElement> getNestedJsonPropertyValueFromJsonObject(String[] propertyNestedNames, JsonObject jsonObject) {
-        List<JsonElement> result = new ArrayList<>();
-
-        String[] innerNestedNames = getInnerNestedPropertyNames(propertyNestedNames);
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(propertyNestedNames[0])) ;
-
-        if (Objects.isNull(elementArray)) {
-            return result;
-        }
-        for (int i = 0; i < elementArray.size(); i++) {
-            JsonElement jsonElement = elementArray.get(i);
-            if (jsonElement.isJsonObject() || jsonElement.isJsonArray()) {
-                JsonElement elementValue = getNestedJsonElement(innerNestedNames, jsonElement.getAsJsonObject());
-                result.add(elementValue);
-            } else {
-                result.add(jsonElement);
-            }
-        }
-        return result;
-    }
-
-    private static JsonElement getNestedJsonElement(String[] nestedNames, JsonObject jsonObject) {
-        JsonObject json = jsonObject;
-
-        for (int i = 0; i < nestedNames.length; i++) {
-            if (i == nestedNames.length - 1) {
-                    return json.get(nestedNames[i]);
-                } else {
-                    JsonElement element = json.get(nestedNames[i]);
-                    if (element == null || !element.isJsonObject()) {
-                        return null;
-                }
-                json = element.getAsJsonObject();
-            }
-        }
-        return json;
+        return CompiledJsonPath.compile(propertyName).get(jsonObject);
     }
 
     /**
@@ -122,20 +52,7 @@ public class JsonUtils {
      * @return true if property found and false if not
      */
     public static boolean isJsonPropertyPresentedInJsonObject(String propertyName, JsonObject jsonObject) {
-        String[] propertiesHierarchy = splitJsonPropertiesByDots(propertyName);
-        JsonObject json = jsonObject;
-        for (int i = 0; i < propertiesHierarchy.length; i++) {
-            if (i == propertiesHierarchy.length - 1) {
-                return !(json.get(propertiesHierarchy[i]) == null);
-            } else {
-                JsonElement element = json.get(propertiesHierarchy[i]);
-                if (element == null || !element.isJsonObject()) {
-                    return false;
-                }
-                json = element.getAsJsonObject();
-            }
-        }
-        return true;
+        return CompiledJsonPath.compile(propertyName).exists(jsonObject);
     }
 
     /**
@@ -144,20 +61,21 @@ public class JsonUtils {
      * @param jsonObject   - JsonObject which presumably contains the property
      */
     public static void overrideNumberPropertyOfJsonObject(String propertyName, List<Number> value, JsonObject jsonObject) {
-        String[] nestedNames = splitJsonPropertiesByDots(propertyName);
-
-        if (nestedNames[0].endsWith(PN_END) && isNestedArrayElementHomogeneous(nestedNames[0])) {
-            overrideNestedNumberPropertyOfJsonObject(nestedNames, value, jsonObject);
-            return;
-        } else if (nestedNames[0].endsWith(PN_END)) {
-            overrideOneNestedNumberPorpertyOfJsonObject(nestedNames, value, jsonObject);
-            return;
-        }
-
-        JsonObject targetJsonObject = buildNewJsonObject(nestedNames, jsonObject);
+        CompiledJsonPath.compile(propertyName).setNumbers(jsonObject, value::get);
+    }
 
-        ofNullable(targetJsonObject)
-            .ifPresent(json -> json.addProperty(nestedNames[nestedNames.length - 1], value.get(0)));
+    /**
+     * Writes back values kept in a primitive array, e.g. the result of a batch unit conversion, without
+     * first copying them into a {@code List<Number>}.
+     *
+     * @param propertyName - property name with path split by dots e.g. depth.value
+     * @param values       - the values of the property, one per matched element
+     * @param missing      - flags of the values to be written as null, or null if none is missing
+     * @param jsonObject   - JsonObject which presumably contains the property
+     */
+    public static void overrideNumberPropertyOfJsonObject(String propertyName, double[] values, boolean[] missing, JsonObject jsonObject) {
+        CompiledJsonPath.compile(propertyName).setNumbers(jsonObject,
+                i -> (missing != null && missing[i]) ? null : (Number) values[i]);
     }
 
     /**
@@ -166,88 +84,18 @@ public class JsonUtils {
      * @param jsonObject   - JsonObject which presumably contains the property
      */
     public static void overrideNestedStringPropertyOfJsonObject(String propertyName, List<String> value, JsonObject jsonObject) {
-        String[] nestedNames = splitJsonPropertiesByDots(propertyName);
-
-        if (nestedNames[0].endsWith(PN_END) && isNestedArrayElementHomogeneous(nestedNames[0])) {
-            overrideNestedStringPropertyOfJsonObject(nestedNames, value, jsonObject);
-            return;
-        } else if (nestedNames[0].endsWith(PN_END)) {
-            overrideOneNestedStringPorpertyOfJsonObject(nestedNames, value, jsonObject);
-            return;
-        }
-
-        JsonObject targetJsonObject = buildNewJsonObject(nestedNames, jsonObject);
-
-        ofNullable(targetJsonObject)
-                .ifPresent(json -> json.addProperty(nestedNames[nestedNames.length - 1], value.get(0)));
+        CompiledJsonPath.compile(propertyName).setStrings(jsonObject, value::get, false);
     }
 
-    private static void overrideOneNestedNumberPorpertyOfJsonObject(String[] nestedNames, List<Number> values, JsonObject jsonObject) {
-        String[] innerNestedNames = getInnerNestedPropertyNames(nestedNames);
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(nestedNames[0])) ;
-        int elementIndex = getNestedArrayElementIndex(nestedNames[0]);
-
-        if (elementArray == null || elementIndex < 0 || elementIndex >= elementArray.size()) {
-            return;
-        }
-
-        JsonObject element = elementArray.get(elementIndex).getAsJsonObject();
-        JsonObject targetJsonObject = buildNewJsonObject(innerNestedNames, element);
-
-        if (targetJsonObject != null) {
-            targetJsonObject.addProperty(innerNestedNames[innerNestedNames.length - 1], values.get(0));
-        }
-    }
-
-    private static void overrideOneNestedStringPorpertyOfJsonObject(String[] nestedNames, List<String> values, JsonObject jsonObject) {
-        String[] innerNestedNames = getInnerNestedPropertyNames(nestedNames);
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(nestedNames[0])) ;
-        int elementIndex = getNestedArrayElementIndex(nestedNames[0]);
-
-        if (elementArray == null || elementIndex < 0 || elementIndex >= elementArray.size()) {
-            return;
-        }
-
-        JsonObject element = elementArray.get(elementIndex).getAsJsonObject();
-        JsonObject targetJsonObject = buildNewJsonObject(innerNestedNames, element);
-
-        if (targetJsonObject != null) {
-            targetJsonObject.addProperty(innerNestedNames[innerNestedNames.length - 1], values.get(0));
-        }
-    }
-
-    private static void overrideNestedNumberPropertyOfJsonObject(String[] nestedNames, List<Number> values, JsonObject jsonObject) {
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(nestedNames[0])) ;
-        String[] innerNestedNames = getInnerNestedPropertyNames(nestedNames);
-
-        for (int i = 0; i < elementArray.size(); i++) {
-            JsonElement jsonElement = elementArray.get(i);
-
-            if (jsonElement.isJsonObject() || jsonElement.isJsonArray()) {
-                JsonObject element = jsonElement.getAsJsonObject();
-                JsonObject targetJsonObject = buildNewJsonObject(innerNestedNames, element);
-                if (targetJsonObject != null) {
-                    targetJsonObject.addProperty(innerNestedNames[innerNestedNames.length - 1], values.get(i));
-                }
-            }
-        }
-
-    }
-
-    private static void overrideNestedStringPropertyOfJsonObject(String[] nestedNames, List<String> values, JsonObject jsonObject) {
-        JsonArray elementArray = jsonObject.getAsJsonArray(getNestedJsonArrayName(nestedNames[0])) ;
-        String[] innerNestedNames = getInnerNestedPropertyNames(nestedNames);
-
-        for (int i = 0; i < elementArray.size(); i++) {
-            JsonObject element = elementArray.get(i).getAsJsonObject();
-
-            JsonObject targetJsonObject = buildNewJsonObject(innerNestedNames, element);
-
-            if (targetJsonObject != null) {
-                targetJsonObject.addProperty(innerNestedNames[innerNestedNames.length - 1], values.get(i));
-            }
-        }
-
+    /**
+     * Writes back all values of a property at once, e.g. the result of a batch date conversion.
+     *
+     * @param propertyName - property name with path split by dots e.g. markers[].date
+     * @param values       - the values of the property, one per matched element; null entries are left unchanged
+     * @param jsonObject   - JsonObject which presumably contains the property
+     */
+    public static void overrideNestedStringPropertyOfJsonObject(String propertyName, String[] values, JsonObject jsonObject) {
+        CompiledJsonPath.compile(propertyName).setStrings(jsonObject, i -> values[i], true);
     }
 
     /**
@@ -256,25 +104,19 @@ public class JsonUtils {
      * @param jsonObject   - JsonObject which presumably contains the property
      */
     public static void overrideStringPropertyOfJsonObject(String propertyName, String value, JsonObject jsonObject) {
-        String[] nestedNames = splitJsonPropertiesByDots(propertyName);
-
-        JsonObject targetJsonObject = buildNewJsonObject(nestedNames, jsonObject);
-
-        ofNullable(targetJsonObject)
-            .ifPresent(json -> json.addProperty(nestedNames[nestedNames.length - 1], value));
+        CompiledJsonPath.compile(propertyName).setStrings(jsonObject, i -> value, false);
     }
 
-    private static JsonObject buildNewJsonObject(String[] nestedNames, JsonObject jsonObject) {
-        JsonObject proceedJsonObject = jsonObject;
-        for (int i = 0; i < nestedNames.length - 1; i++) {
-            JsonElement nestedElement = proceedJsonObject.get(nestedNames[i]);
-            if (nestedElement != null && nestedElement.isJsonObject()) {
-                proceedJsonObject = nestedElement.getAsJsonObject();
-            } else {
-                return null;
-            }
-        }
-        return proceedJsonObject;
+    /**
+     * Same as {@link #overrideStringPropertyOfJsonObject(String, String, JsonObject)}, but only where the property
+     * already exists, e.g. the unit key of the array elements which have one.
+     *
+     * @param propertyName - property name with path split by dots e.g. markers[].unitKey
+     * @param value        - the value of the property with String type
+     * @param jsonObject   - JsonObject which presumably contains the property
+     */
+    public static void overrideExistingStringPropertyOfJsonObject(String propertyName, String value, JsonObject jsonObject) {
+        CompiledJsonPath.compile(propertyName).replaceStrings(jsonObject, i -> value);
     }
 
     /**
@@ -16,8 +16,21 @@ package org.opengroup.osdu.core.common.cache;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class MultiTenantCacheTest {
 
@@ -32,4 +45,90 @@ public class MultiTenantCacheTest {
         assertEquals(sut.get(t2), sut.get(t2));
         assertNotEquals(sut.get(t1), sut.get(t2));
     }
+
+    @Test
+    public void should_createOneCachePerTenant_when_accessedConcurrently() throws Exception {
+        MultiTenantCache<String> sut = new MultiTenantCache<>(60, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ICache<String, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String tenant = "t" + (i % 4);
+                futures.add(executor.submit(() -> sut.get(tenant)));
+            }
+            for (Future<ICache<String, String>> future : futures) {
+                ICache<String, String> cache = future.get();
+                assertSame(cache, sut.get(((TenantSafeCache<String>) cache).getTenantName()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(4, sut.getTenants().size());
+    }
+
+    @Test
+    public void should_applyQuotaPerTenant_when_cachesAreDedicated() {
+        VmCache<String, String> t1Cache = spy(new VmCache<>(60, 10));
+        VmCache<String, String> t2Cache = spy(new VmCache<>(60, 10));
+        MultiTenantCache<String> sut = new MultiTenantCache<>(tenant -> "t1".equals(tenant) ? t1Cache : t2Cache);
+        sut.get("t1").put("key", "v1");
+        sut.get("t2").put("key", "v2");
+
+        sut.get("t1").clearAll();
+
+        verify(t1Cache).clearAll();
+        verify(t2Cache, never()).clearAll();
+        assertNull(sut.get("t1").get("key"));
+        assertEquals("v2", sut.get("t2").get("key"));
+    }
+
+    @Test
+    public void should_trackStatsPerTenant() {
+        MultiTenantCache<String> sut = new MultiTenantCache<>(new VmCache<String, String>(60, 100));
+        sut.get("t1").put("key", "value");
+
+        sut.get("t1").get("key");
+        sut.get("t2").get("key");
+
+        assertEquals(1, sut.getHitCount("t1"));
+        assertEquals(0, sut.getMissCount("t1"));
+        assertEquals(0, sut.getHitCount("t2"));
+        assertEquals(1, sut.getMissCount("t2"));
+        assertEquals(0, sut.getHitCount("unknown"));
+    }
+
+    @Test
+    public void should_clearAndForgetTenant_when_evicted() {
+        MultiTenantCache<String> sut = new MultiTenantCache<>(new VmCache<String, String>(60, 100));
+        ICache<String, String> t1 = sut.get("t1");
+        t1.put("key", "v1");
+        sut.get("t2").put("key", "v2");
+
+        sut.evict("t1");
+
+        assertFalse(sut.getTenants().contains("t1"));
+        assertNotSame(t1, sut.get("t1"));
+        assertNull(sut.get("t1").get("key"));
+        assertEquals("v2", sut.get("t2").get("key"));
+    }
+
+    @Test
+    public void should_onlyDeleteTenantKeys_when_evictingTenantOfSharedCache() {
+        VmCache<String, String> shared = spy(new VmCache<>(60, 100));
+        MultiTenantCache<String> sut = new MultiTenantCache<>(shared);
+        sut.get("t1").put("key", "v1");
+        sut.get("t2").put("key", "v2");
+
+        sut.evict("t1");
+
+        verify(shared).deleteByPrefix("t1");
+        verify(shared, never()).clearAll();
+        assertNull(shared.get("t1key"));
+        assertEquals("v2", sut.get("t2").get("key"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_throw_when_tenantIsBlank() {
+        new MultiTenantCache<>(60, 10).get(" ");
+    }
 }
@@ -0,0 +1,96 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RedisCacheInvalidationChannelTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+    @Mock
+    private RedisAsyncCommands<String, String> asyncCommands;
+    @Mock
+    private StatefulRedisPubSubConnection<String, String> pubSubConnection;
+    @Mock
+    private RedisPubSubCommands<String, String> pubSubCommands;
+    @Mock
+    private ICacheInvalidationChannel.Listener<String> listener;
+
+    private MockedStatic<RedisClient> redisClientMockedStatic;
+    private RedisCacheInvalidationChannel<String> sut;
+
+    @Before
+    public void init() {
+        redisClientMockedStatic = Mockito.mockStatic(RedisClient.class);
+        when(RedisClient.create((RedisURI) Mockito.any())).thenReturn(redisClient);
+        when(redisClient.connect((RedisCodec) Mockito.any())).thenReturn(connection);
+        when(redisClient.connectPubSub((RedisCodec) Mockito.any())).thenReturn(pubSubConnection);
+        when(pubSubConnection.sync()).thenReturn(pubSubCommands);
+        sut = new RedisCacheInvalidationChannel<>("host", 6379, CHANNEL, String.class);
+        sut.subscribe(listener);
+    }
+
+    @After
+    public void dropDown() {
+        redisClientMockedStatic.close();
+    }
+
+    @Test
+    public void should_publishKey_and_ignoreOwnMessage() {
+        when(connection.async()).thenReturn(asyncCommands);
+
+        sut.publishDelete("tenant1key");
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(pubSubCommands).subscribe(CHANNEL);
+        verify(asyncCommands).publish(Mockito.eq(CHANNEL), message.capture());
+        sut.onMessage(message.getValue());
+        verify(listener, never()).onDelete(Mockito.any());
+    }
+
+    @Test
+    public void should_notifyListener_when_otherInstancePublishes() {
+        sut.onMessage("other-instance|D\"tenant1key\"");
+        sut.onMessage("other-instance|C");
+
+        verify(listener).onDelete("tenant1key");
+        verify(listener).onClear();
+    }
+}
@@ -16,15 +16,36 @@ package org.opengroup.osdu.core.common.cache;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.RedisCodec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +70,9 @@ public class RedisCacheTest {
     @Mock
     private RedisCommands<String, Integer> commands;
 
+    @Mock
+    private RedisAsyncCommands<String, Integer> asyncCommands;
+
     MockedStatic<RedisClient> redisClientMockedStatic;
 
     @Before
@@ -116,6 +140,109 @@ public class RedisCacheTest {
         verify(commands, times(1)).decrby(key, 1);
     }
 
+    @Test
+    public void should_getAllValues_with_singleMget() {
+        when(commands.mget("key1", "key2", "key3")).thenReturn(Arrays.asList(
+                KeyValue.just("key1", 1), KeyValue.empty("key2"), KeyValue.just("key3", 3)));
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+
+        Map<String, Integer> values = cache.getAll(Arrays.asList("key1", "key2", "key3"));
+
+        assertEquals(2, values.size());
+        assertEquals(Integer.valueOf(1), values.get("key1"));
+        assertEquals(Integer.valueOf(3), values.get("key3"));
+        verify(commands, never()).get(Mockito.any());
+    }
+
+    @Test
+    public void should_sendAllSetCommands_before_waitingForReplies() {
+        when(connection.async()).thenReturn(asyncCommands);
+        when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        RedisFuture<String> ok = completedRedisFuture("OK");
+        when(asyncCommands.set(Mockito.anyString(), Mockito.anyInt(), Mockito.any(SetArgs.class))).thenReturn(ok);
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("key1", 1);
+        entries.put("key2", 2);
+
+        cache.putAll(entries, 5000L);
+
+        verify(asyncCommands, times(2)).set(Mockito.anyString(), Mockito.anyInt(), Mockito.any(SetArgs.class));
+        verify(commands, never()).set(Mockito.any(), Mockito.any(), Mockito.any(SetArgs.class));
+    }
+
+    @Test
+    public void should_deleteAllKeys_with_singleDel() {
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+
+        cache.deleteAll(Arrays.asList("key1", "key2"));
+        cache.deleteAll(Collections.emptyList());
+
+        verify(commands, times(1)).del("key1", "key2");
+    }
+
+    @Test
+    public void should_returnEmptyMap_when_asyncMgetFails() throws Exception {
+        when(connection.async()).thenReturn(asyncCommands);
+        RedisFuture<List<KeyValue<String, Integer>>> failed = mock(RedisFuture.class);
+        when(failed.toCompletableFuture()).thenReturn(CompletableFuture.failedFuture(new RedisException("down")));
+        when(asyncCommands.mget("key1")).thenReturn(failed);
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+
+        assertTrue(cache.getAllAsync(Collections.singletonList("key1")).get().isEmpty());
+    }
+
+    @Test
+    public void should_completeAsyncPutAll_when_sendingFails() throws Exception {
+        when(connection.async()).thenReturn(asyncCommands);
+        when(asyncCommands.set(eq("key1"), eq(1), any(SetArgs.class))).thenThrow(new RedisException("Connection closed"));
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+
+        CompletableFuture<Void> result = cache.putAllAsync(Collections.singletonMap("key1", 1), 1000);
+
+        assertNull(result.get());
+    }
+
+    @Test
+    public void should_scanAndDeleteMatchingKeys_when_deletingByPrefix() {
+        KeyScanCursor<String> firstPage = scanCursor(false, "t1a", "t10b", "other");
+        KeyScanCursor<String> lastPage = scanCursor(true, "t1c");
+        when(commands.scan(any(ScanArgs.class))).thenReturn(firstPage);
+        when(commands.scan(eq(firstPage), any(ScanArgs.class))).thenReturn(lastPage);
+        RedisCache<String, Integer> cache = new RedisCache<String, Integer>(HOST, PORT, EXPIRY, 5,
+                null, String.class, Integer.class);
+
+        cache.deleteByPrefix("t1");
+
+        verify(commands).del("t1a", "t10b");
+        verify(commands).del("t1c");
+        verify(commands, never()).flushdb();
+    }
+
+    private static KeyScanCursor<String> scanCursor(boolean finished, String... keys) {
+        KeyScanCursor<String> cursor = new KeyScanCursor<>();
+        cursor.getKeys().addAll(Arrays.asList(keys));
+        cursor.setCursor(finished ? "0" : "1");
+        cursor.setFinished(finished);
+        return cursor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RedisFuture<T> completedRedisFuture(T value) {
+        RedisFuture<T> future = mock(RedisFuture.class);
+        try {
+            when(future.get(Mockito.anyLong(), Mockito.any(TimeUnit.class))).thenReturn(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return future;
+    }
+
     @After
     public void dropDown(){
         redisClientMockedStatic.close();
@@ -0,0 +1,92 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import io.lettuce.core.codec.CompressionCodec;
+import io.lettuce.core.codec.RedisCodec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.entitlements.Groups;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Encoding and decoding of a {@link Groups} value with the default {@link RedisCache} codec
+ * (Gson with GZIP) and with Smile behind the threshold compression. Run with {@link #main(String[])}
+ * from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RedisCodecBenchmark {
+
+    @Param({"JSON_GZIP", "SMILE_THRESHOLD"})
+    public String codecType;
+
+    @Param({"10", "2000"})
+    public int groupCount;
+
+    private RedisCodec<String, Groups> codec;
+    private Groups value;
+    private ByteBuffer encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("JSON_GZIP".equals(codecType)) {
+            codec = CompressionCodec.valueCompressor(new JsonCodec<>(String.class, Groups.class), CompressionCodec.CompressionType.GZIP);
+        } else {
+            codec = new ThresholdCompressionCodec<>(new SmileCodec<>(String.class, Groups.class));
+        }
+        value = SmileCodecTest.createGroups(groupCount);
+        encoded = codec.encodeValue(value);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        return codec.encodeValue(value);
+    }
+
+    @Benchmark
+    public Groups decode() {
+        return codec.decodeValue(encoded.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeKey() {
+        return codec.encodeKey("tenant1-entitlements-groups-key");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RedisCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,248 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RefreshAheadCacheTest {
+
+    private final VmCache<String, String> cache = new VmCache<>(60, 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void should_loadAndCache_when_valueIsMissing() throws IOException {
+        RefreshAheadCache<String, String, IOException> sut =
+                new RefreshAheadCache<>(cache, this::load, Duration.ofMinutes(5), Runnable::run);
+
+        assertEquals("key-1", sut.get("key"));
+        assertEquals("key-1", sut.get("key"));
+
+        assertEquals(1, loads.get());
+        assertEquals("key-1", cache.get("key"));
+    }
+
+    @Test
+    public void should_serveCurrentValueAndReloadInBackground_when_refreshIsDue() throws IOException {
+        List<Runnable> background = new ArrayList<>();
+        RefreshAheadCache<String, String, IOException> sut =
+                new RefreshAheadCache<>(cache, this::load, Duration.ZERO, background::add);
+        cache.put("key", "old");
+
+        assertEquals("old", sut.get("key"));
+        assertEquals("old", sut.get("key"));
+        assertEquals(1, background.size());
+
+        background.get(0).run();
+
+        assertEquals("key-1", sut.get("key"));
+    }
+
+    @Test
+    public void should_keepCurrentValue_when_refreshFails() throws IOException {
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, key -> {
+            throw new IOException("partition service unavailable");
+        }, Duration.ZERO, Runnable::run);
+        cache.put("key", "old");
+
+        sut.get("key");
+
+        assertEquals("old", sut.get("key"));
+        assertEquals("old", cache.get("key"));
+    }
+
+    @Test
+    public void should_throwLoaderException_when_refreshKeepsFailing() throws IOException {
+        AtomicBoolean available = new AtomicBoolean(false);
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, key -> {
+            if (!available.get()) {
+                throw new IOException("partition service unavailable");
+            }
+            return load(key);
+        }, Duration.ZERO, Runnable::run);
+        cache.put("key", "old");
+
+        // the first read only schedules the refresh of a value loaded by another instance
+        for (int i = 0; i <= RefreshAheadCache.MAX_FAILED_REFRESHES; i++) {
+            assertEquals("old", sut.get("key"));
+        }
+        try {
+            sut.get("key");
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertEquals("partition service unavailable", e.getMessage());
+        }
+
+        available.set(true);
+        assertEquals("key-1", sut.get("key"));
+        assertEquals("key-1", cache.get("key"));
+    }
+
+    @Test
+    public void should_forgetRefreshOfKey_when_valueIsEvictedFromWrappedCache() {
+        AtomicBoolean available = new AtomicBoolean(true);
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, key -> {
+            if (!available.get()) {
+                throw new IOException("partition service unavailable");
+            }
+            return load(key);
+        }, Duration.ofMinutes(5), Runnable::run);
+        sut.warmUp(Arrays.asList("a", "b"));
+        assertEquals(2, sut.getTrackedKeyCount());
+
+        cache.delete("a");
+        available.set(false);
+        try {
+            sut.get("a");
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertEquals(1, sut.getTrackedKeyCount());
+        }
+    }
+
+    @Test
+    public void should_failLoad_when_executorRejectsIt() {
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, this::load,
+                Duration.ofMinutes(5), command -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+        List<String> failures = new ArrayList<>();
+
+        Map<String, String> values = sut.warmUp(Collections.singletonList("a"), (key, e) -> failures.add(key));
+
+        assertTrue(values.isEmpty());
+        assertEquals(Collections.singletonList("a"), failures);
+        assertEquals(0, loads.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void should_throwLoaderException_when_valueIsMissingAndLoadFails() throws IOException {
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, key -> {
+            throw new IOException("partition service unavailable");
+        }, Duration.ofMinutes(5), Runnable::run);
+
+        sut.get("key");
+    }
+
+    @Test
+    public void should_loadOnce_when_missesAreConcurrent() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RefreshAheadCache<String, String, InterruptedException> sut = new RefreshAheadCache<>(cache, key -> {
+            release.await();
+            return load(key);
+        }, Duration.ofMinutes(5));
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> sut.get("key")));
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("key-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void should_loadMissingKeysAndSkipFailures_when_warmingUp() {
+        cache.put("cached", "value");
+        List<String> failed = new ArrayList<>();
+        RefreshAheadCache<String, String, IOException> sut = new RefreshAheadCache<>(cache, key -> {
+            if (key.equals("broken")) {
+                throw new IOException("not found");
+            }
+            return load(key);
+        }, Duration.ofMinutes(5), Executors.newFixedThreadPool(2));
+
+        Map<String, String> values = sut.warmUp(Arrays.asList("a", "cached", "broken", "b", "a"),
+                (key, e) -> failed.add(key));
+
+        assertEquals(Arrays.asList("a", "cached", "b"), new ArrayList<>(values.keySet()));
+        assertEquals("value", values.get("cached"));
+        assertEquals(Arrays.asList("broken"), failed);
+        assertEquals(2, loads.get());
+        assertTrue(cache.get("b").startsWith("b-"));
+    }
+
+    @Test
+    public void should_limitParallelLoads_when_warmingUp() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        RefreshAheadCache<String, String, InterruptedException> sut = new RefreshAheadCache<>(cache, key -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(20);
+            running.decrementAndGet();
+            return load(key);
+        }, Duration.ofMinutes(5));
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keys.add("p" + i);
+        }
+
+        Map<String, String> values = sut.warmUp(keys, 3, (key, e) -> { });
+
+        assertEquals(20, values.size());
+        assertTrue(maxRunning.get() <= 3);
+        assertTrue(maxRunning.get() > 1);
+    }
+
+    @Test
+    public void should_lookUpCachedValuesInOneCall_when_warmingUpRedisCache() {
+        IRedisCache<String, String> redis = mock(IRedisCache.class);
+        when(redis.getAll(any())).thenReturn(Collections.singletonMap("a", "cached"));
+        RefreshAheadCache<String, String, IOException> sut =
+                new RefreshAheadCache<>(redis, this::load, Duration.ofMinutes(5), Runnable::run);
+
+        Map<String, String> values = sut.warmUp(Arrays.asList("a", "b"));
+
+        assertEquals("cached", values.get("a"));
+        assertEquals("b-1", values.get("b"));
+        verify(redis, never()).get(any());
+        verify(redis).put("b", "b-1");
+    }
+
+    private String load(String key) {
+        return key + "-" + loads.incrementAndGet();
+    }
+}
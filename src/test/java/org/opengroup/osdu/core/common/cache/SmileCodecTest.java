@@ -0,0 +1,67 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.entitlements.GroupInfo;
+import org.opengroup.osdu.core.common.model.entitlements.Groups;
+
+public class SmileCodecTest {
+
+    private final SmileCodec<String, Groups> sut = new SmileCodec<>(String.class, Groups.class);
+
+    @Test
+    public void should_encodeStringKeyAsRawUtf8() {
+        ByteBuffer encoded = sut.encodeKey("tenant1-Æ");
+
+        assertEquals("tenant1-Æ", StandardCharsets.UTF_8.decode(encoded.duplicate()).toString());
+        assertEquals("tenant1-Æ", sut.decodeKey(encoded));
+    }
+
+    @Test
+    public void should_roundTripValue_when_decodingFromHeapAndDirectBuffers() {
+        Groups groups = createGroups(3);
+        ByteBuffer encoded = sut.encodeValue(groups);
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.remaining());
+        direct.put(encoded.duplicate()).flip();
+
+        assertEquals(groups, sut.decodeValue(encoded));
+        assertEquals(groups, sut.decodeValue(direct));
+    }
+
+    @Test
+    public void should_returnNull_when_valueIsEmpty() {
+        assertNull(sut.decodeValue(sut.encodeValue(null)));
+    }
+
+    static Groups createGroups(int count) {
+        Groups groups = new Groups();
+        groups.setMemberEmail("member@example.com");
+        groups.setDesId("member@example.com");
+        for (int i = 0; i < count; i++) {
+            GroupInfo group = new GroupInfo();
+            group.setName("data.group." + i);
+            group.setEmail("data.group." + i + "@tenant1.example.com");
+            group.setDescription("Group " + i);
+            groups.getGroups().add(group);
+        }
+        return groups;
+    }
+}
@@ -16,6 +16,8 @@ package org.opengroup.osdu.core.common.cache;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.*;
 
 public class TenantSafeCacheTest {
@@ -57,12 +59,67 @@ public class TenantSafeCacheTest {
 
 
     @Test
-    public void should_callWrappedClearCache() {
-        ICache wrapped = mock(ICache.class);
-        TenantSafeCache<String> sut = new TenantSafeCache<String>("tenant1", wrapped);
+    public void should_callWrappedClearCache_when_cacheIsDedicatedToTenant() {
+        VmCache<String, String> wrapped = mock(VmCache.class);
+        TenantSafeCache<String> sut = new TenantSafeCache<String>("tenant1", wrapped, true);
 
         sut.clearAll();
 
         verify(wrapped, times(1)).clearAll();
+        verify(wrapped, never()).deleteByPrefix(anyString());
+    }
+
+    @Test
+    public void should_onlyDeleteOwnKeys_when_clearingSharedCache() {
+        ICache<String, String> wrapped = new VmCache<>(60, 100);
+        TenantSafeCache<String> tenant1 = new TenantSafeCache<>("tenant1", wrapped);
+        TenantSafeCache<String> tenant2 = new TenantSafeCache<>("tenant2", wrapped);
+        tenant1.put("key1", "value1");
+        tenant1.put("key2", "value2");
+        tenant2.put("key1", "value3");
+
+        tenant1.clearAll();
+
+        assertNull(tenant1.get("key1"));
+        assertNull(tenant1.get("key2"));
+        assertEquals("value3", tenant2.get("key1"));
+    }
+
+    @Test
+    public void should_deleteByTenantPrefix_when_clearingSharedRedisCache() {
+        IRedisCache<String, String> wrapped = mock(IRedisCache.class);
+        TenantSafeCache<String> sut = new TenantSafeCache<>("tenant1", wrapped);
+        sut.put("key", "value");
+
+        sut.clearAll();
+
+        verify(wrapped, times(1)).deleteByPrefix("tenant1");
+        verify(wrapped, never()).clearAll();
+    }
+
+    @Test
+    public void should_callWrappedClearCache_when_keysCannotBeListed() {
+        ICache wrapped = mock(ICache.class);
+        IRedisCache redis = mock(IRedisCache.class);
+        doThrow(new UnsupportedOperationException()).when(redis).deleteByPrefix(anyString());
+
+        new TenantSafeCache<String>("tenant1", wrapped).clearAll();
+        new TenantSafeCache<String>("tenant1", redis).clearAll();
+
+        verify(wrapped, times(1)).clearAll();
+        verify(redis, times(1)).clearAll();
+    }
+
+    @Test
+    public void should_countHitsAndMisses() {
+        TenantSafeCache<String> sut = new TenantSafeCache<>("tenant1", new VmCache<>(60, 100));
+        sut.put("key", "value");
+
+        sut.get("key");
+        sut.get("key");
+        sut.get("other");
+
+        assertEquals(2, sut.getHitCount());
+        assertEquals(1, sut.getMissCount());
     }
 }
@@ -0,0 +1,55 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.entitlements.Groups;
+
+public class ThresholdCompressionCodecTest {
+
+    private final SmileCodec<String, Groups> smile = new SmileCodec<>(String.class, Groups.class);
+    private final ThresholdCompressionCodec<String, Groups> sut = new ThresholdCompressionCodec<>(smile, 1024);
+
+    @Test
+    public void should_storeSmallValueUncompressed() {
+        Groups groups = SmileCodecTest.createGroups(1);
+
+        ByteBuffer encoded = sut.encodeValue(groups);
+
+        assertEquals(0, encoded.get(0));
+        assertEquals(smile.encodeValue(groups).remaining() + 1, encoded.remaining());
+        assertEquals(groups, sut.decodeValue(encoded));
+    }
+
+    @Test
+    public void should_compressLargeValue() {
+        Groups groups = SmileCodecTest.createGroups(500);
+
+        ByteBuffer encoded = sut.encodeValue(groups);
+
+        assertEquals(1, encoded.get(encoded.position()));
+        assertTrue(encoded.remaining() < smile.encodeValue(groups).remaining() / 2);
+        assertEquals(groups, sut.decodeValue(encoded));
+    }
+
+    @Test
+    public void should_passKeysThrough() {
+        assertEquals("key", sut.decodeKey(sut.encodeKey("key")));
+    }
+}
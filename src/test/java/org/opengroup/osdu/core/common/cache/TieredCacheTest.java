@@ -0,0 +1,161 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TieredCacheTest {
+
+    private final Bus bus = new Bus();
+    private VmCache<String, String> l2;
+    private TieredCache<String, String> pod1;
+    private TieredCache<String, String> pod2;
+
+    @Before
+    public void setup() {
+        l2 = spy(new VmCache<>(60, 100));
+        pod1 = new TieredCache<>(60, 100, l2, bus.connect());
+        pod2 = new TieredCache<>(60, 100, l2, bus.connect());
+    }
+
+    @Test
+    public void should_serveFromL1_when_valueWasReadBefore() {
+        l2.put("key", "value");
+
+        assertEquals("value", pod1.get("key"));
+        assertEquals("value", pod1.get("key"));
+
+        verify(l2, times(1)).get("key");
+        assertEquals(1, pod1.getL1HitCount());
+        assertEquals(1, pod1.getL2HitCount());
+        assertEquals(0, pod1.getMissCount());
+    }
+
+    @Test
+    public void should_countMiss_when_valueIsInNoTier() {
+        assertNull(pod1.get("key"));
+        assertEquals(1, pod1.getMissCount());
+    }
+
+    @Test
+    public void should_dropL1CopyOnOtherInstances_when_valueIsUpdated() {
+        pod1.put("key", "v1");
+        assertEquals("v1", pod2.get("key"));
+
+        pod1.put("key", "v2");
+
+        assertEquals("v2", pod2.get("key"));
+        assertEquals("v2", pod1.get("key"));
+        assertEquals(2, pod2.getInvalidationCount());
+        assertEquals(0, pod1.getInvalidationCount());
+    }
+
+    @Test
+    public void should_dropL1CopyOnOtherInstances_when_valueIsDeletedOrCleared() {
+        pod1.put("key1", "v1");
+        pod1.put("key2", "v2");
+        pod2.get("key1");
+        pod2.get("key2");
+
+        pod1.delete("key1");
+        assertNull(pod2.get("key1"));
+
+        pod1.clearAll();
+        assertNull(pod2.get("key2"));
+    }
+
+    @Test
+    public void should_expireStaleL1Copy_when_invalidationIsMissedAndKeyIsStillRead() throws InterruptedException {
+        // connected to another bus, so it misses the invalidations of pod1
+        TieredCache<String, String> isolated = new TieredCache<>(1, 100, l2, new Bus().connect());
+        pod1.put("key", "v1");
+        assertEquals("v1", isolated.get("key"));
+
+        pod1.put("key", "v2");
+
+        String value = isolated.get("key");
+        for (int i = 0; i < 30 && "v1".equals(value); i++) {
+            Thread.sleep(100);
+            value = isolated.get("key");
+        }
+        assertEquals("v2", value);
+    }
+
+    @Test
+    public void should_invalidatePrefixedKeys_when_wrappedInTenantSafeCache() {
+        TenantSafeCache<String> tenant1Pod1 = new TenantSafeCache<>("tenant1", pod1);
+        TenantSafeCache<String> tenant1Pod2 = new TenantSafeCache<>("tenant1", pod2);
+        tenant1Pod1.put("key", "v1");
+        assertEquals("v1", tenant1Pod2.get("key"));
+
+        tenant1Pod1.put("key", "v2");
+
+        assertEquals("v2", tenant1Pod2.get("key"));
+        assertNull(new TenantSafeCache<>("tenant2", pod2).get("key"));
+    }
+
+    /**
+     * In-memory stand-in for the Redis pub/sub channel shared by several instances.
+     */
+    private static class Bus {
+        private final List<Endpoint> endpoints = new ArrayList<>();
+
+        Endpoint connect() {
+            Endpoint endpoint = new Endpoint();
+            endpoints.add(endpoint);
+            return endpoint;
+        }
+
+        private class Endpoint implements ICacheInvalidationChannel<String> {
+            private final List<Listener<String>> listeners = new ArrayList<>();
+
+            @Override
+            public void publishDelete(String key) {
+                others().forEach(endpoint -> endpoint.listeners.forEach(listener -> listener.onDelete(key)));
+            }
+
+            @Override
+            public void publishClear() {
+                others().forEach(endpoint -> endpoint.listeners.forEach(Listener::onClear));
+            }
+
+            @Override
+            public void subscribe(Listener<String> listener) {
+                listeners.add(listener);
+            }
+
+            @Override
+            public void close() {
+                endpoints.remove(this);
+            }
+
+            private List<Endpoint> others() {
+                List<Endpoint> others = new ArrayList<>(endpoints);
+                others.remove(this);
+                return others;
+            }
+        }
+    }
+}
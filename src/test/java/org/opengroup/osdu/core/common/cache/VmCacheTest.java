@@ -81,6 +81,20 @@ public class VmCacheTest {
         assertNull(sut.get(id));
     }
 
+    @Test
+    public void should_onlyDeleteKeysWithPrefix_when_deletingByPrefix() {
+        VmCache<String, String> sut = new VmCache<>(60, 10);
+        sut.put("tenant1key1", "a");
+        sut.put("tenant1key2", "b");
+        sut.put("tenant2key1", "c");
+
+        sut.deleteByPrefix("tenant1");
+
+        assertNull(sut.get("tenant1key1"));
+        assertNull(sut.get("tenant1key2"));
+        assertEquals("c", sut.get("tenant2key1"));
+    }
+
     @Test
     public void shouldInvalidateItem_using_expireAfterWriteStrategy() throws InterruptedException {
         String id = "1";
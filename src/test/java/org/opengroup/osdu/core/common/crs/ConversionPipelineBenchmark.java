@@ -0,0 +1,99 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.crs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.crs.dates.DatesConversionImpl;
+import org.opengroup.osdu.core.common.http.ExecutorMode;
+import org.opengroup.osdu.core.common.model.crs.ConversionRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to convert units and dates of a synthetic batch of 10k records, sequentially on the caller
+ * thread versus through {@link ConversionPipeline} on a ForkJoin pool or virtual threads. Every
+ * invocation gets a fresh batch, as the conversion rewrites the records in place. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionPipelineBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutorMode mode;
+
+    private UnitConversionImpl unitConversion;
+    private DatesConversionImpl datesConversion;
+    private ConversionPipeline pipeline;
+    private List<ConversionRecord> records;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        unitConversion = new UnitConversionImpl();
+        datesConversion = new DatesConversionImpl();
+        pipeline = new ConversionPipeline(ConversionPipelineConfig.builder().mode(mode).build(),
+                unitConversion, datesConversion);
+    }
+
+    @Setup(Level.Invocation)
+    public void createBatch() {
+        records = ConversionPipelineTest.createRecords(BATCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    public List<ConversionRecord> sequential() {
+        unitConversion.convertUnitsToSI(records);
+        datesConversion.convertDatesToISO(records);
+        return records;
+    }
+
+    @Benchmark
+    public List<ConversionRecord> pipeline() {
+        pipeline.convert(records);
+        return records;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConversionPipelineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
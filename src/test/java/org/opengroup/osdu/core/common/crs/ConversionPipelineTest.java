@@ -0,0 +1,118 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.crs;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.After;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.crs.dates.DatesConversionImpl;
+import org.opengroup.osdu.core.common.http.ExecutorMode;
+import org.opengroup.osdu.core.common.model.crs.ConversionRecord;
+import org.opengroup.osdu.core.common.model.crs.ConvertStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionPipelineTest {
+
+    private static final String RECORD = "{\"id\": \"opendes:test:%d\",\"kind\": \"unit:test:1.0.0\","
+            + "\"data\": {\"MD\": %d,\"creationDate\": \"2019-08-03\"},"
+            + "\"meta\": [{\"kind\": \"Unit\",\"name\": \"ft\",\"persistableReference\": \"{\\\"scaleOffset\\\":{\\\"scale\\\":0.3048,\\\"offset\\\":0.0},\\\"symbol\\\":\\\"ft\\\",\\\"baseMeasurement\\\":{\\\"ancestry\\\":\\\"Length\\\",\\\"type\\\":\\\"UM\\\"},\\\"type\\\":\\\"USO\\\"}\",\"propertyNames\": [\"MD\"]},"
+            + "{\"kind\": \"DateTime\",\"persistableReference\": \"{\\\"type\\\": \\\"DAT\\\",\\\"format\\\": \\\"yyyy-MM-dd\\\"}\",\"propertyNames\": [\"creationDate\"]}]}";
+    private static final String INVALID_RECORD = "{\"id\": \"opendes:test:%d\",\"kind\": \"unit:test:1.0.0\","
+            + "\"data\": {\"MD\": %d},\"meta\": [{\"kind\": \"Unit\",\"propertyNames\": [\"MD\"]}]}";
+
+    private ConversionPipeline pipeline;
+
+    @After
+    public void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    public void should_produceSameRecordsAsSequentialConversion_when_runOnForkJoinPool() {
+        pipeline = new ConversionPipeline(ConversionPipelineConfig.builder().parallelism(4).chunkSize(7).build());
+        assertSameAsSequential(pipeline, 100);
+        assertEquals(ExecutorMode.PLATFORM, pipeline.getMode());
+    }
+
+    @Test
+    public void should_produceSameRecordsAsSequentialConversion_when_runOnVirtualThreads() {
+        pipeline = new ConversionPipeline(ConversionPipelineConfig.builder().mode(ExecutorMode.VIRTUAL).chunkSize(7).build());
+        assertSameAsSequential(pipeline, 100);
+    }
+
+    @Test
+    public void should_keepPerRecordMessagesAndStatuses() {
+        pipeline = new ConversionPipeline(ConversionPipelineConfig.builder().parallelism(2).chunkSize(2).build());
+        List<ConversionRecord> records = createRecords(10);
+
+        pipeline.convert(records);
+
+        for (int i = 0; i < records.size(); i++) {
+            ConversionRecord record = records.get(i);
+            if (i % 5 == 0) {
+                assertEquals(ConvertStatus.ERROR, record.getConvertStatus());
+                assertEquals(UnitConversionImpl.MISSING_REFERENCE, record.getConversionMessages().get(0));
+            } else {
+                assertEquals(ConvertStatus.SUCCESS, record.getConvertStatus());
+                assertTrue(record.getConversionMessages().isEmpty());
+                assertEquals(i * 0.3048, record.getRecordJsonObject().getAsJsonObject("data").get("MD").getAsDouble(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void should_reportThroughput() {
+        pipeline = new ConversionPipeline(ConversionPipelineConfig.builder().parallelism(2).chunkSize(8).build());
+
+        pipeline.convert(createRecords(20));
+        pipeline.convertUnitsToSI(createRecords(5));
+        pipeline.convertDatesToISO(new ArrayList<>());
+
+        assertEquals(2, pipeline.getBatchCount());
+        assertEquals(25, pipeline.getRecordCount());
+        assertTrue(pipeline.getRecordsPerSecond() > 0);
+    }
+
+    private static void assertSameAsSequential(ConversionPipeline pipeline, int count) {
+        List<ConversionRecord> expected = createRecords(count);
+        new UnitConversionImpl().convertUnitsToSI(expected);
+        new DatesConversionImpl().convertDatesToISO(expected);
+        List<ConversionRecord> actual = createRecords(count);
+
+        pipeline.convert(actual);
+
+        assertEquals(expected, actual);
+    }
+
+    static List<ConversionRecord> createRecords(int count) {
+        List<ConversionRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String json = String.format(i % 5 == 0 ? INVALID_RECORD : RECORD, i, i);
+            ConversionRecord record = new ConversionRecord();
+            record.setRecordJsonObject((JsonObject) JsonParser.parseString(json));
+            record.setConvertStatus(ConvertStatus.SUCCESS);
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -15,8 +15,10 @@
 package org.opengroup.osdu.core.common.crs;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +27,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import org.apache.http.HttpEntity;
@@ -38,12 +42,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.opengroup.osdu.core.common.http.HttpResponse;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
-import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException;
 import org.opengroup.osdu.core.common.model.crs.ConvertGeoJsonRequest;
 import org.opengroup.osdu.core.common.model.crs.ConvertPointsRequest;
 import org.opengroup.osdu.core.common.model.crs.ConvertPointsResponse;
@@ -71,8 +72,6 @@ public class CrsConverterServiceTest {
     private CrsConverterAPIConfig crsConverterAPIConfig;
     @Mock
     private CloseableHttpResponse mockResponse;
-    @Captor
-    private ArgumentCaptor<HttpResponse> responseCaptor;
     private CrsConverterService sut;
     private final Gson gson = new Gson();
 
@@ -104,10 +103,10 @@ public class CrsConverterServiceTest {
     }
 
     @Test
-    public void shouldConvertPoints() throws CrsConverterException, IOException, HttpResponseBodyParsingException {
+    public void shouldConvertPoints() throws CrsConverterException, IOException {
         ConvertPointsRequest request = new ConvertPointsRequest(FROM_CRS, TO_CRS, Collections.emptyList());
         ConvertPointsResponse response = new ConvertPointsResponse();
-        when(responseBodyMapper.parseBody(responseCaptor.capture(), any())).thenReturn(response);
+        when(responseBodyMapper.read(any(), any(), eq(ConvertPointsResponse.class))).thenReturn(response);
 
         ConvertPointsResponse result = sut.convertPoints(request);
 
@@ -119,13 +118,23 @@ public class CrsConverterServiceTest {
         assertEquals("value2", httpPostValue.getFirstHeader("header2").getElements()[0].getName());
         assertEquals(new StringEntity(gson.toJson(request)).toString(), httpPostValue.getEntity().toString());
 
-        ArgumentCaptor<HttpResponse> responseCaptor = ArgumentCaptor.forClass(HttpResponse.class);
-        verify(responseBodyMapper).parseBody(responseCaptor.capture(), any());
-        HttpResponse httpResponseValue = responseCaptor.getValue();
-        assertEquals(STATUS, httpResponseValue.getResponseCode());
-        assertEquals(VALID_JSON_RESPONSE, httpResponseValue.getBody());
+        ArgumentCaptor<InputStream> bodyCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(responseBodyMapper).read(bodyCaptor.capture(), eq(StandardCharsets.UTF_8), eq(ConvertPointsResponse.class));
+        assertSame(mockResponse.getEntity().getContent(), bodyCaptor.getValue());
+        assertSame(response, result);
+    }
+
+    @Test
+    public void shouldKeepBody_when_conversionFails() throws IOException {
+        mockResponse = getResponse(400, "bad request");
 
-        assertNotNull(result);
+        try {
+            sut.convertPoints(new ConvertPointsRequest(FROM_CRS, TO_CRS, Collections.emptyList()));
+            fail("expected CrsConverterException");
+        } catch (CrsConverterException e) {
+            assertEquals(400, e.getHttpResponse().getResponseCode());
+            assertEquals("bad request", e.getHttpResponse().getBody());
+        }
     }
 
     private CloseableHttpResponse getResponse(int status, String body) throws IOException {
@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opengroup.osdu.core.common.model.crs.ConversionRecord;
 import org.opengroup.osdu.core.common.model.crs.ConvertStatus;
+import org.opengroup.osdu.core.common.model.units.UnitConverterCache;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -474,6 +475,41 @@ public class UnitConversionTests {
         Assert.assertEquals(record, resultRecord);
     }
 
+    @Test
+    public void shouldOnlyUpdateExistingUnitKeysWhenDataContainsNestedArrayProperties() {
+        JsonObject record = testData.getAsJsonObject("nestedArrayWithUnitKey");
+        List<ConversionRecord> conversionRecords = new ArrayList<>();
+        ConversionRecord conversionRecord = new ConversionRecord();
+        conversionRecord.setRecordJsonObject(record);
+        conversionRecords.add(conversionRecord);
+        this.unitConversion.convertUnitsToSI(conversionRecords);
+        Assert.assertEquals(1, conversionRecords.size());
+        Assert.assertTrue(conversionRecords.get(0).getConversionMessages().size() == 0);
+        JsonObject resultRecord = conversionRecords.get(0).getRecordJsonObject();
+        JsonArray curves = resultRecord.getAsJsonObject("data").getAsJsonArray("Curves");
+        JsonObject topDepth1 = curves.get(0).getAsJsonObject().getAsJsonObject("TopDepth");
+        Assert.assertEquals(3.048, topDepth1.get("value").getAsDouble(), 0.00001);
+        Assert.assertEquals("m", topDepth1.get("unitKey").getAsString());
+        JsonObject topDepth2 = curves.get(1).getAsJsonObject().getAsJsonObject("TopDepth");
+        Assert.assertEquals(6.096, topDepth2.get("value").getAsDouble(), 0.00001);
+        Assert.assertFalse(topDepth2.has("unitKey"));
+    }
+
+    @Test
+    public void shouldConvertWholeArrayToSI() {
+        String ft = "{\"scaleOffset\":{\"scale\":0.3048,\"offset\":0.0},\"symbol\":\"ft\",\"baseMeasurement\":{\"ancestry\":\"Length\",\"type\":\"UM\"},\"type\":\"USO\"}";
+        UnitConversionImpl conversion = new UnitConversionImpl(new UnitConverterCache());
+        double[] values = {1.0, 10.0};
+
+        double[] converted = conversion.convertToSI(ft, values);
+        conversion.convertToSI(ft, values);
+
+        Assert.assertArrayEquals(new double[]{0.3048, 3.048}, converted, 1e-12);
+        Assert.assertArrayEquals(new double[]{1.0, 10.0}, values, 0.0);
+        Assert.assertEquals(1, conversion.getUnitConverterCache().getHitCount());
+        Assert.assertTrue(Double.isNaN(conversion.convertToSI("{}", values)[0]));
+    }
+
     private JsonObject getTestData() {
         InputStream inStream = this.getClass().getResourceAsStream("/testdata/nested-data.json");
         BufferedReader br = new BufferedReader(new InputStreamReader(inStream));
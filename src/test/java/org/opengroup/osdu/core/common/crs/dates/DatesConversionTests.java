@@ -466,4 +466,21 @@ public class DatesConversionTests {
         Assert.assertEquals(BASE_DATETIME_DTM, resultPersistableReference);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertAllElementsOfNestedArrayProperty() {
+        String stringRecord = "{\"id\": \"unit-test-1\",\"kind\": \"unit:test:1.0.0\",\"data\": {\"internal\":[{\"creationDate\": \"August 3, 2019 13:56:22.123\"}, {\"other\": 1}, {\"creationDate\": \"July 5, 2019 01:02:03.456\"}]},\"meta\": [{\"path\": \"\",\"kind\": \"DateTime\",\"persistableReference\": \"{\\\"type\\\": \\\"DTM\\\",\\\"format\\\": \\\"MMMM d, yyyy HH:mm:ss.fff\\\",\\\"timeZone\\\": \\\"UTC\\\"}\",\"propertyNames\": [\"internal[].creationDate\"]}]}";
+        JsonObject record = (JsonObject) this.jsonParser.parse(stringRecord);
+        List<ConversionRecord> conversionRecords = new ArrayList<>();
+        ConversionRecord conversionRecord = new ConversionRecord();
+        conversionRecord.setRecordJsonObject(record);
+        conversionRecords.add(conversionRecord);
+        this.datesConversion.convertDatesToISO(conversionRecords);
+        Assert.assertTrue(conversionRecords.get(0).getConvertStatus() == ConvertStatus.ERROR);
+        Assert.assertEquals(String.format(DatesConversionServiceErrorMessages.MISSING_PROPERTY, "internal[].creationDate"),
+                conversionRecords.get(0).getConversionMessages().get(0));
+        JsonArray internal = conversionRecords.get(0).getRecordJsonObject().getAsJsonObject("data").getAsJsonArray("internal");
+        Assert.assertEquals("2019-08-03T13:56:22.123Z", internal.get(0).getAsJsonObject().get("creationDate").getAsString());
+        Assert.assertFalse(internal.get(1).getAsJsonObject().has("creationDate"));
+        Assert.assertEquals("2019-07-05T01:02:03.456Z", internal.get(2).getAsJsonObject().get("creationDate").getAsString());
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.entitlements;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.model.entitlements.EntitlementsException;
+import org.opengroup.osdu.core.common.model.entitlements.Groups;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GroupsCacheTest {
+
+    private final IEntitlementsService service = mock(IEntitlementsService.class);
+    private final Groups groups = new Groups();
+    private GroupsCache sut;
+
+    @Before
+    public void setup() {
+        sut = new GroupsCache();
+    }
+
+    @Test
+    public void should_callEntitlementsOnce_when_sameCallerRequestsGroupsAgain() throws Exception {
+        when(service.getGroups()).thenReturn(groups);
+
+        assertSame(groups, sut.getGroups(createHeaders("tenant1", "token1"), service));
+        assertSame(groups, sut.getGroups(createHeaders("tenant1", "token1"), service));
+
+        verify(service, times(1)).getGroups();
+        assertEquals(1, sut.getHitCount());
+        assertEquals(1, sut.getMissCount());
+        assertEquals(1, sut.getLoadCount());
+    }
+
+    @Test
+    public void should_returnNullWithoutCaching_when_entitlementsReturnsNoGroups() throws Exception {
+        when(service.getGroups()).thenReturn(null, groups);
+
+        assertNull(sut.getGroups(createHeaders("tenant1", "token1"), service));
+        assertSame(groups, sut.getGroups(createHeaders("tenant1", "token1"), service));
+
+        verify(service, times(2)).getGroups();
+    }
+
+    @Test
+    public void should_useSeparateEntries_when_partitionOrTokenDiffers() throws Exception {
+        when(service.getGroups()).thenReturn(groups);
+
+        sut.getGroups(createHeaders("tenant1", "token1"), service);
+        sut.getGroups(createHeaders("tenant2", "token1"), service);
+        sut.getGroups(createHeaders("tenant1", "token2"), service);
+
+        verify(service, times(3)).getGroups();
+        assertNotEquals(GroupsCache.getKey(createHeaders("tenant1", "token1")),
+                GroupsCache.getKey(createHeaders("tenant1", "token2")));
+    }
+
+    @Test
+    public void should_coalesceConcurrentMisses_when_loadIsInProgress() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CompletableFuture<Groups> release = new CompletableFuture<>();
+        when(service.getGroups()).thenAnswer(invocation -> {
+            loading.countDown();
+            return release.get(5, TimeUnit.SECONDS);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Groups>> results = new ArrayList<>();
+            results.add(executor.submit(() -> sut.getGroups(createHeaders("tenant1", "token1"), service)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> sut.getGroups(createHeaders("tenant1", "token1"), service)));
+            }
+            while (sut.getCoalescedCount() < 3) {
+                Thread.sleep(5);
+            }
+            release.complete(groups);
+
+            for (Future<Groups> result : results) {
+                assertSame(groups, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(service, times(1)).getGroups();
+        assertEquals(3, sut.getCoalescedCount());
+    }
+
+    @Test
+    public void should_notCacheFailure_when_entitlementsThrows() throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setResponseCode(500);
+        when(service.getGroups()).thenThrow(new EntitlementsException("", response)).thenReturn(groups);
+
+        try {
+            sut.getGroups(createHeaders("tenant1", "token1"), service);
+            fail("expected exception");
+        } catch (EntitlementsException e) {
+            assertEquals(500, e.getHttpResponse().getResponseCode());
+        }
+        assertSame(groups, sut.getGroups(createHeaders("tenant1", "token1"), service));
+    }
+
+    private static DpsHeaders createHeaders(String partition, String token) {
+        DpsHeaders headers = new DpsHeaders();
+        headers.put(DpsHeaders.DATA_PARTITION_ID, partition);
+        headers.put(DpsHeaders.AUTHORIZATION, token);
+        return headers;
+    }
+}
@@ -0,0 +1,41 @@
+package org.opengroup.osdu.core.common.feature;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.partition.PartitionInfo;
+import org.opengroup.osdu.core.common.partition.Property;
+
+public class FeatureFlagSnapshotTest {
+
+    @Test
+    public void should_enableFlags_when_propertyValueIsTrue() {
+        Map<String, Property> properties = new HashMap<>();
+        properties.put("featureA", new Property(false, true));
+        properties.put("featureB", new Property(false, "TRUE"));
+        properties.put("featureC", new Property(false, false));
+        properties.put("featureD", new Property(false, "no"));
+        properties.put("featureE", new Property(false, 1));
+        properties.put("featureF", new Property(false, null));
+        properties.put("featureG", null);
+
+        FeatureFlagSnapshot snapshot = FeatureFlagSnapshot.of(new PartitionInfo(properties));
+
+        assertEquals(Set.of("featureA", "featureB"), snapshot.getEnabledFlags());
+        assertTrue(snapshot.isEnabled("featureA"));
+        assertFalse(snapshot.isEnabled("featureC"));
+        assertFalse(snapshot.isEnabled("missing"));
+        assertFalse(snapshot.isEnabled(null));
+    }
+
+    @Test
+    public void should_disableAllFlags_when_partitionHasNoProperties() {
+        assertTrue(FeatureFlagSnapshot.of(new PartitionInfo(null)).getEnabledFlags().isEmpty());
+        assertTrue(FeatureFlagSnapshot.of(null).getEnabledFlags().isEmpty());
+    }
+}
@@ -0,0 +1,151 @@
+package org.opengroup.osdu.core.common.feature;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.partition.IPartitionFactory;
+import org.opengroup.osdu.core.common.partition.IPartitionProvider;
+import org.opengroup.osdu.core.common.partition.PartitionException;
+import org.opengroup.osdu.core.common.partition.PartitionInfo;
+import org.opengroup.osdu.core.common.partition.Property;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionFeatureFlagImplTest {
+
+    private static final String FEATURE = "featureA";
+    private static final String PARTITION = "tenant1";
+
+    @Mock
+    private JaxRsDpsLog logger;
+    @Mock
+    private DpsHeaders headers;
+    @Mock
+    private IServiceAccountJwtClient tokenService;
+    @Mock
+    private IPartitionFactory partitionFactory;
+    @Mock
+    private IPartitionProvider partitionProvider;
+    @InjectMocks
+    private PartitionFeatureFlagImpl sut;
+
+    @Test
+    public void should_loadPartitionOnce_when_flagIsEvaluatedRepeatedly() throws PartitionException {
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(PARTITION)).thenReturn(partitionInfo(true));
+
+        assertTrue(sut.isFeatureEnabled(FEATURE, PARTITION));
+        assertTrue(sut.isFeatureEnabled(FEATURE, PARTITION));
+        assertFalse(sut.isFeatureEnabled("featureB", PARTITION));
+
+        verify(partitionProvider, times(1)).get(PARTITION);
+        assertEquals(1, sut.getSnapshotLoadCount());
+        assertEquals(3, sut.getEvaluationCount());
+        assertEquals(2, sut.getEnabledEvaluationCount());
+    }
+
+    @Test
+    public void should_refreshSnapshotInBackground_when_refreshIntervalElapsed() throws Exception {
+        ReflectionTestUtils.setField(sut, "refreshSeconds", 1L);
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(PARTITION)).thenReturn(partitionInfo(true), partitionInfo(false));
+
+        assertTrue(sut.isFeatureEnabled(FEATURE, PARTITION));
+        Thread.sleep(1100);
+        // served from the current snapshot while the refresh runs
+        assertTrue(sut.isFeatureEnabled(FEATURE, PARTITION));
+        for (int i = 0; i < 100 && sut.getSnapshotLoadCount() < 2; i++) {
+            Thread.sleep(20);
+        }
+
+        assertFalse(sut.isFeatureEnabled(FEATURE, PARTITION));
+    }
+
+    @Test
+    public void should_throw404_when_partitionIsNotFound() throws PartitionException {
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(PARTITION)).thenThrow(partitionException(404));
+
+        try {
+            sut.isFeatureEnabled(FEATURE, PARTITION);
+            fail("expected AppException");
+        } catch (AppException e) {
+            assertEquals(404, e.getError().getCode());
+        }
+    }
+
+    @Test
+    public void should_throw500_when_partitionServiceFails() throws PartitionException {
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(PARTITION)).thenThrow(partitionException(503));
+
+        try {
+            sut.isFeatureEnabled(FEATURE, PARTITION);
+            fail("expected AppException");
+        } catch (AppException e) {
+            assertEquals(500, e.getError().getCode());
+        }
+    }
+
+    @Test
+    public void should_callPartitionService_when_partitionIdIsNull() throws PartitionException {
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(isNull())).thenReturn(partitionInfo(true));
+
+        assertTrue(sut.isFeatureEnabled(FEATURE));
+        assertTrue(sut.isFeatureEnabled(FEATURE));
+
+        verify(partitionProvider, times(2)).get(isNull());
+    }
+
+    @Test
+    public void should_sendCorrelationIdOfRequest_when_loadingSnapshot() throws PartitionException {
+        when(headers.getPartitionId()).thenReturn(PARTITION);
+        when(headers.getCorrelationId()).thenReturn("correlation-1");
+        when(tokenService.getIdToken(anyString())).thenReturn("token");
+        when(partitionFactory.create(any())).thenReturn(partitionProvider);
+        when(partitionProvider.get(PARTITION)).thenReturn(partitionInfo(true));
+
+        assertTrue(sut.isFeatureEnabled(FEATURE));
+
+        ArgumentCaptor<DpsHeaders> partitionHeaders = ArgumentCaptor.forClass(DpsHeaders.class);
+        verify(partitionFactory).create(partitionHeaders.capture());
+        assertEquals("correlation-1", partitionHeaders.getValue().getCorrelationId());
+        assertEquals(PARTITION, partitionHeaders.getValue().getPartitionId());
+        assertEquals("token", partitionHeaders.getValue().getAuthorization());
+    }
+
+    private static PartitionInfo partitionInfo(boolean featureEnabled) {
+        Map<String, Property> properties = new HashMap<>();
+        properties.put(FEATURE, new Property(false, featureEnabled));
+        return new PartitionInfo(properties);
+    }
+
+    private static PartitionException partitionException(int responseCode) {
+        HttpResponse response = new HttpResponse();
+        response.setResponseCode(responseCode);
+        response.setBody("{}");
+        return new PartitionException("partition error", response);
+    }
+}
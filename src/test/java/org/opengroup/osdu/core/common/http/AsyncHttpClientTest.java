@@ -0,0 +1,165 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncHttpClientTest {
+
+    private static final String RESPONSE = "{\"name\":\"test data\"}";
+
+    private HttpServer server;
+    private String url;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedHeader = new AtomicReference<>();
+    private final AtomicReference<String> receivedProtocol = new AtomicReference<>();
+    private final AtomicReference<String> receivedUpgrade = new AtomicReference<>();
+    private final AsyncHttpClient sut = new AsyncHttpClient();
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream is = exchange.getRequestBody()) {
+                receivedBody.set(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            receivedHeader.set(exchange.getRequestHeaders().getFirst("header1"));
+            receivedProtocol.set(exchange.getProtocol());
+            receivedUpgrade.set(exchange.getRequestHeaders().getFirst("Upgrade"));
+            if (exchange.getRequestURI().getPath().endsWith("slow")) {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int status = exchange.getRequestURI().getPath().endsWith("missing") ? 404 : 200;
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        url = String.format("http://localhost:%d", server.getAddress().getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void should_returnMsgBody_when_makingValidPostRequest() {
+        HttpRequest request = HttpRequest.post().body("any http body").url(url + "/post")
+                .headers(Collections.singletonMap("header1", "value1")).build();
+
+        HttpResponse response = sut.sendAsync(request).join();
+
+        assertEquals(request, response.getRequest());
+        assertEquals(200, response.getResponseCode());
+        assertEquals(RESPONSE, response.getBody());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("any http body", receivedBody.get());
+        assertEquals("value1", receivedHeader.get());
+        assertFalse(response.hasException());
+    }
+
+    @Test
+    public void should_returnErrorCode_when_resourceIsMissing() {
+        HttpResponse response = sut.sendAsync(HttpRequest.get().url(url + "/missing").build()).join();
+
+        assertEquals(404, response.getResponseCode());
+        assertTrue(response.IsNotFoundCode());
+    }
+
+    @Test
+    public void should_sendRequestsConcurrently_when_fannedOut() {
+        List<CompletableFuture<HttpResponse>> futures = List.of(
+                sut.sendAsync(HttpRequest.get().url(url + "/a").build()),
+                sut.sendAsync(HttpRequest.get().url(url + "/b").build()),
+                sut.sendAsync(HttpRequest.get().url(url + "/c").build()));
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (CompletableFuture<HttpResponse> future : futures) {
+            assertEquals(200, future.join().getResponseCode());
+        }
+    }
+
+    @Test
+    public void should_sendHttp11Requests_without_upgradeToHttp2() {
+        HttpResponse response = sut.sendAsync(HttpRequest.get().url(url + "/get").build()).join();
+
+        assertEquals(200, response.getResponseCode());
+        assertEquals("HTTP/1.1", receivedProtocol.get());
+        assertNull(receivedUpgrade.get());
+    }
+
+    @Test
+    public void should_setTimeoutException_when_responseIsSlowerThanSocketTimeout() {
+        HttpResponse response = sut.sendAsync(HttpRequest.get().url(url + "/slow")
+                .connectionTimeout(5000).socketTimeout(100).build()).join();
+
+        assertTrue(response.hasException());
+        assertTrue(response.getException() instanceof HttpTimeoutException);
+    }
+
+    @Test
+    public void should_sendWithoutTimeouts_when_timeoutsAreZero() {
+        HttpResponse response = sut.sendAsync(HttpRequest.get().url(url + "/get")
+                .connectionTimeout(0).socketTimeout(0).build()).join();
+
+        assertEquals(200, response.getResponseCode());
+        assertFalse(response.hasException());
+    }
+
+    @Test
+    public void should_sendWithoutTimeouts_when_timeoutsAreNegative() {
+        CompletableFuture<HttpResponse> future = sut.sendAsync(HttpRequest.get().url(url + "/get")
+                .connectionTimeout(-1).socketTimeout(-1).build());
+
+        assertEquals(200, future.join().getResponseCode());
+    }
+
+    @Test
+    public void should_setException_when_urlIsInvalid() {
+        HttpResponse response = sut.sendAsync(HttpRequest.post().url("invalidURL").body("body").build()).join();
+
+        assertTrue(response.hasException());
+        assertNotNull(response.getException().getMessage());
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of 1000 concurrent blocking downstream calls (simulated with a 20 ms sleep) on
+ * platform threads versus virtual threads. Run with {@link #main(String[])} from the test classpath;
+ * on a runtime older than Java 21 both modes use platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BoundedRequestExecutorBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final long DOWNSTREAM_LATENCY_MS = 20;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutorMode mode;
+
+    @Param({"200", "1000"})
+    public int maxConcurrency;
+
+    private BoundedRequestExecutor executor;
+    private DpsHeaders headers;
+    private List<RequestTask<String>> tasks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = new BoundedRequestExecutor(RequestExecutorConfig.builder()
+                .mode(mode)
+                .maxConcurrency(maxConcurrency)
+                .build());
+        headers = new DpsHeaders();
+        headers.put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+        tasks = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            tasks.add(taskHeaders -> {
+                Thread.sleep(DOWNSTREAM_LATENCY_MS);
+                return taskHeaders.getCorrelationId();
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public List<String> invokeAll() {
+        return executor.invokeAll(headers, tasks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BoundedRequestExecutorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.entitlements.EntitlementsException;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class BoundedRequestExecutorTest {
+
+    private BoundedRequestExecutor sut;
+
+    @After
+    public void tearDown() {
+        sut.close();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void should_propagateHeadersAndCorrelationId_when_invokingAll() {
+        sut = new BoundedRequestExecutor(RequestExecutorConfig.builder().mode(ExecutorMode.PLATFORM).maxConcurrency(4).build());
+        DpsHeaders headers = new DpsHeaders();
+        headers.put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+
+        List<String> results = sut.invokeAll(headers, Arrays.asList(
+                h -> h.getPartitionId() + ":" + h.getCorrelationId(),
+                h -> h.getPartitionId() + ":" + h.getCorrelationId()));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).startsWith("opendes:"));
+        assertEquals("all tasks share the caller's correlation id", results.get(0), results.get(1));
+    }
+
+    @Test
+    public void should_propagateRequestAttributes_when_submitting() {
+        sut = new BoundedRequestExecutor(RequestExecutorConfig.builder().mode(ExecutorMode.PLATFORM).maxConcurrency(1).build());
+        RequestAttributes attributes = mock(RequestAttributes.class);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        RequestAttributes seen = sut.submit(new DpsHeaders(), h -> RequestContextHolder.getRequestAttributes()).join();
+
+        assertSame(attributes, seen);
+    }
+
+    @Test
+    public void should_boundConcurrency_when_runningManyTasks() {
+        sut = new BoundedRequestExecutor(RequestExecutorConfig.builder().mode(ExecutorMode.VIRTUAL).maxConcurrency(2).build());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        RequestTask<Integer> task = h -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return 1;
+        };
+
+        List<Integer> results = sut.invokeAll(new DpsHeaders(), Arrays.asList(task, task, task, task, task, task));
+
+        assertEquals(6, results.size());
+        assertTrue(maxRunning.get() <= 2);
+        assertNotNull(sut.getMode());
+    }
+
+    @Test
+    public void should_throwAppException_when_anyTaskFails() {
+        sut = new BoundedRequestExecutor(RequestExecutorConfig.builder().mode(ExecutorMode.PLATFORM).maxConcurrency(2).build());
+        try {
+            sut.invokeAll(new DpsHeaders(), Arrays.<RequestTask<String>>asList(
+                    h -> "ok",
+                    h -> {
+                        throw new EntitlementsException("Error making request to Entitlements service.", null);
+                    }));
+            fail("Should not succeed");
+        } catch (AppException e) {
+            assertEquals(500, e.getError().getCode());
+            assertTrue(e.getOriginalException() instanceof EntitlementsException);
+        }
+    }
+}
@@ -16,9 +16,13 @@ package org.opengroup.osdu.core.common.http;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
@@ -26,19 +30,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.StatusLine;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
@@ -259,6 +268,79 @@ public class HttpClientTest {
         assertTrue(response.IsUnauthorizedCode());
     }
 
+    @Test
+    public void should_applyHeadersAndTimeoutsOnRequest_when_usingSharedClient() throws Exception {
+        HttpRequest request = HttpRequest.get().url(URL).headers(HEADERS).socketTimeout(1234).build();
+        CloseableHttpClient httpClient = getHttpClient(200);
+        when(this.sut.getHttpClient(request)).thenReturn(httpClient);
+
+        this.sut.send(request);
+
+        ArgumentCaptor<HttpRequestBase> captor = ArgumentCaptor.forClass(HttpRequestBase.class);
+        verify(httpClient).execute(captor.capture());
+        verify(httpClient, never()).close();
+        HttpRequestBase sent = captor.getValue();
+        assertEquals("value1", sent.getFirstHeader("header1").getValue());
+        assertEquals("application/json", sent.getFirstHeader(HttpHeaders.ACCEPT).getValue());
+        assertEquals(1234, sent.getConfig().getSocketTimeout());
+    }
+
+    @Test
+    public void should_reuseSameClient_when_sendingMultipleRequests() {
+        HttpClient other = new HttpClient();
+        assertSame(other.getHttpClient(null), new HttpClient().getHttpClient(null));
+    }
+
+    @Test
+    public void should_keepLineBreaksAndCharset_when_readingResponseEntity() throws Exception {
+        String payload = "{\n  \"name\": \"ÆÆ\"\n}";
+        HttpRequest request = HttpRequest.get().url(URL).headers(HEADERS).build();
+        CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+        CloseableHttpResponse mockResponse = mock(CloseableHttpResponse.class);
+        StatusLine mockStatusLine = mock(StatusLine.class);
+        when(mockResponse.getEntity()).thenReturn(new StringEntity(payload, ContentType.APPLICATION_JSON));
+        when(mockResponse.getAllHeaders()).thenReturn(new Header[0]);
+        when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        when(mockStatusLine.getStatusCode()).thenReturn(200);
+        when(httpClient.execute(any())).thenReturn(mockResponse);
+        when(this.sut.getHttpClient(request)).thenReturn(httpClient);
+
+        HttpResponse response = this.sut.send(request);
+
+        assertEquals(payload, response.getBody());
+        assertEquals("application/json", response.getContentType());
+        assertFalse(response.isBodyBlank());
+    }
+
+    @Test
+    public void should_readEntityStream_when_sendingWithBodyReader() throws Exception {
+        HttpRequest request = HttpRequest.get().url(URL).headers(HEADERS).build();
+        CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+        CloseableHttpResponse mockResponse = mock(CloseableHttpResponse.class);
+        StatusLine mockStatusLine = mock(StatusLine.class);
+        HttpEntity entity = mock(HttpEntity.class);
+        InputStream content = new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8));
+        when(entity.getContent()).thenReturn(content);
+        when(entity.getContentType()).thenReturn(new BasicHeader("content-type", "application/json; charset=unknown-charset"));
+        when(mockResponse.getEntity()).thenReturn(entity);
+        when(mockResponse.getAllHeaders()).thenReturn(new Header[0]);
+        when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        when(mockStatusLine.getStatusCode()).thenReturn(200);
+        when(httpClient.execute(any())).thenReturn(mockResponse);
+        when(this.sut.getHttpClient(request)).thenReturn(httpClient);
+
+        HttpResponse response = this.sut.send(request, (body, charset) -> {
+            assertSame(content, body);
+            assertEquals(StandardCharsets.UTF_8, charset);
+            return "parsed";
+        });
+
+        assertTrue(response.isBodyParsed());
+        assertEquals("parsed", response.getParsedBody());
+        assertEquals("application/json", response.getContentType());
+        assertEquals(200, response.getResponseCode());
+    }
+
     private void createMockHtppConnection(int returnCode, HttpRequest request) throws IOException {
         CloseableHttpClient httpClient = getHttpClient(returnCode);
         when(this.sut.getHttpClient(request)).thenReturn(httpClient);
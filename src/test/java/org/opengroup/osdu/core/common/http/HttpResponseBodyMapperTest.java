@@ -24,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -120,6 +122,46 @@ public class HttpResponseBodyMapperTest {
         assertThat(tag.getProperties().getExpirationDate(), is(Date.valueOf("2099-12-31")));
     }
 
+    @Test
+    public void parseBody_shouldParseRawBody_whenSetFromEntityBytes() throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setRawBody("{\n\"name\":\n\"ÆÆ\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        MockModel model = mapper.parseBody(response, MockModel.class);
+
+        assertThat(model.getName(), is("ÆÆ"));
+        assertThat(mapper.parseBody(response).get("name").asText(), is("ÆÆ"));
+        assertThat(response.getBody(), is("{\n\"name\":\n\"ÆÆ\"}"));
+    }
+
+    @Test
+    public void parseBody_shouldReturnNull_whenRawBodyIsBlank() throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setRawBody(" \r\n".getBytes(StandardCharsets.UTF_8), null);
+
+        assertThat(mapper.parseBody(response, MockModel.class), nullValue());
+        assertThat(mapper.parseBody(response), nullValue());
+    }
+
+    @Test
+    public void parseBody_shouldDecodeRawBodyWithResponseCharset_whenNotUtf() throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setRawBody("{\"name\":\"\u00e9t\u00e9\"}".getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1);
+
+        assertThat(mapper.parseBody(response, MockModel.class).getName(), is("\u00e9t\u00e9"));
+    }
+
+    @Test
+    public void parseBody_shouldReturnValueReadFromStream_whenBodyParsed() throws Exception {
+        HttpResponse response = new HttpResponse();
+        response.setParsedBody(mapper.bodyReader(MockModel.class).read(
+                new ByteArrayInputStream("{\"name\":\"streamed\"}".getBytes(StandardCharsets.UTF_16)), StandardCharsets.UTF_16));
+
+        assertThat(mapper.parseBody(response, MockModel.class).getName(), is("streamed"));
+        assertThat(mapper.parseBody(response).get("name").asText(), is("streamed"));
+        assertThat(response.getBody(), is(""));
+    }
+
     public static class MockModel {
         String name;
 
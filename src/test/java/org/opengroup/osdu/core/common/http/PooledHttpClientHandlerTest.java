@@ -0,0 +1,119 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.pool.PoolStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.model.http.HttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PooledHttpClientHandlerTest {
+
+    private static final String RESPONSE = "{\"name\":\"test data\"}";
+
+    @Mock
+    private JaxRsDpsLog log;
+
+    private HttpServer server;
+    private PooledHttpClientHandler sut;
+    private final AtomicReference<String> receivedHeader = new AtomicReference<>();
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedHeader.set(exchange.getRequestHeaders().getFirst("any-header"));
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        sut = new PooledHttpClientHandler(HttpClientPoolConfig.builder()
+                .maxConnectionsTotal(10)
+                .maxConnectionsPerRoute(5)
+                .build());
+        ReflectionTestUtils.setField(sut, "log", log);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        sut.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void should_reusePooledConnection_when_sendingMultipleRequests() {
+        DpsHeaders headers = new DpsHeaders();
+        headers.put("any-header", "any-value");
+        String url = String.format("http://localhost:%d/test", server.getAddress().getPort());
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse response = sut.sendRequest(new HttpGet(url), headers);
+            assertEquals(200, response.getResponseCode());
+            assertEquals(RESPONSE, response.getBody());
+        }
+
+        assertEquals("any-value", receivedHeader.get());
+        PoolStats total = sut.getTotalStats();
+        assertEquals(10, total.getMax());
+        assertEquals(0, total.getLeased());
+        assertEquals(1, total.getAvailable());
+
+        Map<String, PoolStats> routeStats = sut.getRouteStats();
+        assertEquals(1, routeStats.size());
+        assertEquals(5, routeStats.values().iterator().next().getMax());
+    }
+
+    @Test
+    public void should_keepRetryHandlerSemantics_when_resolvedFromContext() {
+        SocketException socketException = new SocketException("Connection failed");
+        HttpClientContext getContext = HttpClientContext.create();
+        getContext.setAttribute(PooledHttpClientHandler.RETRY_HANDLER_ATTRIBUTE, sut.getRetryHandler(false, "GET"));
+        HttpClientContext postContext = HttpClientContext.create();
+        postContext.setAttribute(PooledHttpClientHandler.RETRY_HANDLER_ATTRIBUTE, sut.getRetryHandler(false, "POST"));
+
+        assertTrue(PooledHttpClientHandler.retryFromContext(socketException, 1, getContext));
+        assertFalse(PooledHttpClientHandler.retryFromContext(socketException, HttpClientHandler.RETRY_COUNT + 1, getContext));
+        assertFalse(PooledHttpClientHandler.retryFromContext(socketException, 1, postContext));
+        assertFalse(PooledHttpClientHandler.retryFromContext(socketException, 1, HttpClientContext.create()));
+    }
+}
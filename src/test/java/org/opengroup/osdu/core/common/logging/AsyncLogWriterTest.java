@@ -0,0 +1,302 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.logging;
+
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.http.Request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class AsyncLogWriterTest {
+
+    private static final Map<String, String> LABELS = Collections.singletonMap("correlation-id", "123");
+
+    @Test
+    public void should_forwardAllEntryTypes_to_wrappedWriter() throws Exception {
+        ILogWriter delegate = mock(ILogWriter.class);
+        Request request = Request.builder().build();
+        Map<String, Object> json = Collections.singletonMap("action", "read");
+
+        AsyncLogWriter sut = new AsyncLogWriter(delegate);
+        sut.writeEntry("app", Level.INFO, "message", LABELS);
+        sut.writeJsonEntry("audit", json, LABELS);
+        sut.writeRequestEntry("request", "#RequestLog", request, LABELS);
+
+        verify(delegate, timeout(1000)).writeEntry("app", Level.INFO, "message", LABELS);
+        verify(delegate, timeout(1000)).writeJsonEntry("audit", json, LABELS);
+        verify(delegate, timeout(1000)).writeRequestEntry("request", "#RequestLog", request, LABELS);
+        sut.close();
+        verify(delegate).close();
+    }
+
+    @Test
+    public void should_writePendingEntriesInOrder_when_closed() throws Exception {
+        RecordingWriter delegate = new RecordingWriter(null);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate, AsyncLogWriterConfig.builder().flushIntervalMillis(1000).build());
+
+        for (int i = 0; i < 1000; i++) {
+            sut.writeEntry("app", Level.INFO, "message" + i, LABELS);
+        }
+        sut.close();
+
+        assertEquals(1000, delegate.messages.size());
+        assertEquals("message0", delegate.messages.get(0));
+        assertEquals("message999", delegate.messages.get(999));
+        assertEquals(1000, sut.getWrittenCount());
+        assertEquals(0, sut.getDroppedCount());
+    }
+
+    @Test
+    public void should_dropAndCount_when_bufferIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncLogWriter sut = new AsyncLogWriter(new RecordingWriter(release), AsyncLogWriterConfig.builder()
+                .capacity(4).overflowPolicy(LogOverflowPolicy.DROP).build());
+
+        for (int i = 0; i < 20; i++) {
+            sut.writeEntry("app", Level.INFO, "message" + i, LABELS);
+        }
+
+        // the writer thread holds at most one entry, the buffer four more
+        assertTrue(sut.getDroppedCount() >= 15);
+        release.countDown();
+        sut.close();
+        assertEquals(20, sut.getDroppedCount() + sut.getWrittenCount());
+    }
+
+    @Test
+    public void should_waitForSpace_when_policyIsBlock() throws Exception {
+        RecordingWriter delegate = new RecordingWriter(null);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate, AsyncLogWriterConfig.builder()
+                .capacity(2).overflowPolicy(LogOverflowPolicy.BLOCK).flushIntervalMillis(1).build());
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+
+        for (int p = 0; p < 4; p++) {
+            producers.execute(() -> {
+                for (int i = 0; i < 250; i++) {
+                    sut.writeEntry("app", Level.INFO, "message", LABELS);
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        sut.close();
+
+        assertEquals(1000, delegate.messages.size());
+        assertEquals(0, sut.getDroppedCount());
+    }
+
+    @Test
+    public void should_keepWarnings_when_sampling() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingWriter delegate = new RecordingWriter(release);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate, AsyncLogWriterConfig.builder()
+                .capacity(64).overflowPolicy(LogOverflowPolicy.SAMPLE).sampleRate(10).build());
+
+        for (int i = 0; i < 100; i++) {
+            sut.writeEntry("app", Level.FINE, "debug", LABELS);
+        }
+        sut.writeEntry("app", Level.SEVERE, "error", LABELS);
+        release.countDown();
+        sut.close();
+
+        assertTrue(delegate.messages.contains("error"));
+        assertTrue(sut.getDroppedCount() > 50);
+        assertEquals(101, sut.getDroppedCount() + sut.getWrittenCount());
+    }
+
+    @Test
+    public void should_keepWriting_when_wrappedWriterFails() throws Exception {
+        ILogWriter delegate = mock(ILogWriter.class);
+        doThrow(new IllegalStateException("stdout closed"))
+                .when(delegate).writeEntry(eq("app"), any(), eq("broken"), any());
+        AsyncLogWriter sut = new AsyncLogWriter(delegate);
+
+        sut.writeEntry("app", Level.INFO, "broken", LABELS);
+        sut.writeEntry("app", Level.INFO, "fine", LABELS);
+        sut.close();
+
+        verify(delegate).writeEntry("app", Level.INFO, "fine", LABELS);
+        assertEquals(1, sut.getFailedCount());
+        assertEquals(1, sut.getWrittenCount());
+    }
+
+    @Test
+    public void should_keepWriting_when_wrappedWriterThrowsError() throws Exception {
+        ILogWriter delegate = mock(ILogWriter.class);
+        doThrow(new StackOverflowError())
+                .when(delegate).writeEntry(eq("app"), any(), eq("broken"), any());
+        AsyncLogWriter sut = new AsyncLogWriter(delegate);
+
+        sut.writeEntry("app", Level.INFO, "broken", LABELS);
+        sut.writeEntry("app", Level.INFO, "fine", LABELS);
+        sut.close();
+
+        verify(delegate).writeEntry("app", Level.INFO, "fine", LABELS);
+        assertEquals(1, sut.getFailedCount());
+        assertEquals(1, sut.getWrittenCount());
+    }
+
+    @Test
+    public void should_closeWrappedWriterAfterInterruptingIt_when_writeOutlastsCloseTimeout() throws Exception {
+        BlockingWriter delegate = new BlockingWriter(false);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate, AsyncLogWriterConfig.builder().closeTimeoutMillis(50).build());
+        sut.writeEntry("app", Level.INFO, "slow", LABELS);
+        assertTrue(delegate.writing.await(1, TimeUnit.SECONDS));
+
+        sut.close();
+
+        assertTrue(delegate.closed);
+        assertFalse(delegate.closedWhileWriting);
+    }
+
+    @Test
+    public void should_leaveWrappedWriterOpen_when_writerThreadDoesNotStop() throws Exception {
+        BlockingWriter delegate = new BlockingWriter(true);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate, AsyncLogWriterConfig.builder().closeTimeoutMillis(50).build());
+        sut.writeEntry("app", Level.INFO, "stuck", LABELS);
+        assertTrue(delegate.writing.await(1, TimeUnit.SECONDS));
+
+        sut.close();
+
+        assertFalse(delegate.closed);
+        delegate.release.countDown();
+    }
+
+    @Test
+    public void should_writeOrCountEveryEntry_when_loggingWhileClosing() throws Exception {
+        RecordingWriter delegate = new RecordingWriter(null);
+        AsyncLogWriter sut = new AsyncLogWriter(delegate);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(4);
+        for (int p = 0; p < 4; p++) {
+            producers.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < 5000; i++) {
+                    sut.writeEntry("app", Level.INFO, "message", LABELS);
+                }
+            });
+        }
+        started.await();
+
+        sut.close();
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(20000, sut.getWrittenCount() + sut.getDroppedCount());
+        assertEquals(sut.getWrittenCount(), delegate.messages.size());
+    }
+
+    /**
+     * Writer blocking in its first write until released, optionally ignoring interrupts.
+     */
+    private static class BlockingWriter implements ILogWriter {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final boolean ignoreInterrupts;
+        private volatile boolean inWrite;
+        private volatile boolean closed;
+        private volatile boolean closedWhileWriting;
+
+        BlockingWriter(boolean ignoreInterrupts) {
+            this.ignoreInterrupts = ignoreInterrupts;
+        }
+
+        @Override
+        public void writeJsonEntry(String logname, Map<String, Object> json, Map<String, String> labels) {
+        }
+
+        @Override
+        public void writeRequestEntry(String logname, String text, Request request, Map<String, String> labels) {
+        }
+
+        @Override
+        public void writeEntry(String logname, Level severity, String text, Map<String, String> labels) {
+            inWrite = true;
+            writing.countDown();
+            try {
+                while (true) {
+                    try {
+                        release.await();
+                        return;
+                    } catch (InterruptedException e) {
+                        if (!ignoreInterrupts) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                inWrite = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            closedWhileWriting = inWrite;
+            closed = true;
+        }
+    }
+
+    private static class RecordingWriter implements ILogWriter {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch release;
+
+        RecordingWriter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void writeJsonEntry(String logname, Map<String, Object> json, Map<String, String> labels) {
+        }
+
+        @Override
+        public void writeRequestEntry(String logname, String text, Request request, Map<String, String> labels) {
+        }
+
+        @Override
+        public void writeEntry(String logname, Level severity, String text, Map<String, String> labels) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(text);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
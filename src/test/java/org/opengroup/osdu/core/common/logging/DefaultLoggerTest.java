@@ -0,0 +1,62 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.logging;
+
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.http.HeadersToLog;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultLoggerTest {
+
+    private static final Map<String, String> HEADERS = Collections.singletonMap("correlation-id", "123");
+
+    private final ILogWriter logWriter = mock(ILogWriter.class);
+    private final DefaultLogger sut = new DefaultLogger(new HeadersToLog(Collections.emptyList()), logWriter);
+
+    @Test
+    public void should_skipDebugEntries_when_writerDoesNotLogFine() {
+        when(logWriter.isLoggable(Level.FINE)).thenReturn(false);
+
+        sut.debug("app", "message", HEADERS);
+        sut.debugLazy("app", () -> {
+            throw new AssertionError("message built for a disabled level");
+        }, HEADERS);
+
+        assertFalse(sut.isDebugEnabled());
+        verify(logWriter, never()).writeEntry(any(), any(), any(), any());
+    }
+
+    @Test
+    public void should_writeInfoEntries_when_writerLogsInfo() {
+        when(logWriter.isLoggable(Level.INFO)).thenReturn(true);
+
+        sut.infoLazy("app", () -> "message", HEADERS);
+
+        assertTrue(sut.isInfoEnabled());
+        verify(logWriter).writeEntry(eq("app"), eq(Level.INFO), eq("message"), any());
+    }
+}
@@ -32,9 +32,14 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,7 +84,7 @@ public class JaxRsDpsLogTest {
         final Field logPrefix = ReflectionUtils.findField(JaxRsDpsLog.class, "LOG_PREFIX");
         ReflectionUtils.makeAccessible(logPrefix);
         ReflectionUtils.setField(logPrefix, jaxRsDpsLog, LOG_PREFIX);
-        when(dpsHeaders.getHeaders()).thenReturn(headers);
+        lenient().when(dpsHeaders.getHeaders()).thenReturn(headers);
     }
 
     @After
@@ -151,6 +156,37 @@ public class JaxRsDpsLogTest {
         verify(dpsHeaders, times(1)).getHeaders();
     }
 
+    @Test
+    public void testDebugWithSupplier() {
+        when(logger.isDebugEnabled()).thenReturn(true);
+        jaxRsDpsLog.debugLazy(() -> LOG_MESSAGE);
+        verify(logger, times(1)).debug(eq(APP_LOG_PREFIX), eq(LOG_MESSAGE), eq(headers));
+        verify(dpsHeaders, times(1)).getHeaders();
+    }
+
+    @Test
+    public void testDebugWithSupplierWhenDisabled() {
+        Supplier<String> message = () -> {
+            throw new AssertionError("message built for a disabled level");
+        };
+        jaxRsDpsLog.debugLazy(message);
+        verify(logger, never()).debug(anyString(), anyString(), any());
+        verify(dpsHeaders, never()).getHeaders();
+    }
+
+    @Test
+    public void testInfoWithSupplier() {
+        when(logger.isInfoEnabled()).thenReturn(true);
+        jaxRsDpsLog.infoLazy(() -> LOG_MESSAGE);
+        verify(logger, times(1)).info(eq(APP_LOG_PREFIX), eq(LOG_MESSAGE), eq(headers));
+    }
+
+    @Test
+    public void testInfoWithSupplierWhenDisabled() {
+        jaxRsDpsLog.infoLazy(() -> LOG_MESSAGE);
+        verify(logger, never()).info(anyString(), anyString(), any());
+    }
+
     @Test
     public void testDebugWithMessageList() {
         doNothing().when(logger).debug(eq(APP_LOG_PREFIX), eq(MERGED_LOG_MESSAGE), eq(headers));
@@ -242,4 +278,16 @@ public class JaxRsDpsLogTest {
                 eq(exception), eq(headers));
         verify(dpsHeaders, times(1)).getHeaders();
     }
+
+    @Test
+    public void testLabelsComputedOnceWhileHeadersUnchanged() {
+        when(dpsHeaders.modificationCount()).thenReturn(1, 1, 2);
+        jaxRsDpsLog.error(LOG_MESSAGE);
+        jaxRsDpsLog.error(LOG_MESSAGE);
+        verify(dpsHeaders, times(1)).getHeaders();
+
+        jaxRsDpsLog.error(LOG_MESSAGE);
+        verify(dpsHeaders, times(2)).getHeaders();
+        verify(logger, times(3)).error(eq(APP_LOG_PREFIX), eq(LOG_MESSAGE), eq(headers));
+    }
 }
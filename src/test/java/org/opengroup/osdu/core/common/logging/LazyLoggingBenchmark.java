@@ -0,0 +1,85 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.logging;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Debug logging through {@link JaxRsDpsLog} and {@link DefaultLogger} while the debug level is disabled: the
+ * message built eagerly with {@code String.format}, as in the latency log of {@code HttpClientHandler}, against
+ * the {@code Supplier} overload. Run with {@link #main(String[])} from the test classpath, the GC profiler reports
+ * the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LazyLoggingBenchmark {
+
+    private JaxRsDpsLog log;
+    private final String method = "GET";
+    private final String url = "https://storage.example.com/api/storage/v2/records/opendes:wellbore:123";
+    private long latency = 42;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        Logger.getLogger(DefaultLogWriter.class.getName()).setLevel(java.util.logging.Level.INFO);
+        DpsHeaders headers = new DpsHeaders();
+        headers.put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+        headers.put(DpsHeaders.CORRELATION_ID, "4a3b2c1d");
+        headers.put(DpsHeaders.AUTHORIZATION, "Bearer token");
+        log = new JaxRsDpsLog(new DefaultLogger(), headers);
+        Field prefix = JaxRsDpsLog.class.getDeclaredField("LOG_PREFIX");
+        prefix.setAccessible(true);
+        prefix.set(log, "benchmark");
+    }
+
+    @Benchmark
+    public void eagerDisabledDebug() {
+        log.debug(String.format("method: %s | latency: %s | url: %s", method, latency, url));
+    }
+
+    @Benchmark
+    public void lazyDisabledDebug() {
+        log.debugLazy(() -> String.format("method: %s | latency: %s | url: %s", method, latency, url));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LazyLoggingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
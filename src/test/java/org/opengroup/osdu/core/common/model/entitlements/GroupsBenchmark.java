@@ -0,0 +1,90 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.entitlements;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Authorization checks for a member of many groups: a role lookup with {@link Groups#any(String...)}
+ * where the last requested role is missing, and the per-tenant view used by
+ * {@code AuthorizationServiceImpl}. Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class GroupsBenchmark {
+
+    @Param({"50", "5000"})
+    public int groupCount;
+
+    private Groups groups;
+    private String[] roles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<GroupInfo> groupInfos = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            GroupInfo group = new GroupInfo();
+            group.setName("data.group." + i);
+            group.setEmail("data.group." + i + "@tenant" + (i % 4) + ".example.com");
+            groupInfos.add(group);
+        }
+        groups = new Groups();
+        groups.setMemberEmail("member@example.com");
+        groups.setGroups(groupInfos);
+        roles = new String[]{"service.storage.admin", "service.storage.editor", "data.group." + (groupCount - 1)};
+    }
+
+    @Benchmark
+    public boolean any() {
+        return groups.any(roles);
+    }
+
+    @Benchmark
+    public GroupInfo getGroup() {
+        return groups.getGroup("data.group." + (groupCount / 2));
+    }
+
+    @Benchmark
+    public boolean tenantViewAny() {
+        return groups.forTenant("tenant3").any(roles);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GroupsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -14,15 +14,19 @@
 
 package org.opengroup.osdu.core.common.model.entitlements;
 
+import com.google.gson.Gson;
 import org.junit.Test;
 import org.opengroup.osdu.core.common.model.entitlements.GroupInfo;
 import org.opengroup.osdu.core.common.model.entitlements.Groups;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class GroupsTest {
@@ -86,18 +90,109 @@ public class GroupsTest {
         assertNull(sut.getGroup("group.43"));
     }
 
+    @Test
+    public void should_seeAddedGroup_when_groupListChangedAfterLookup() {
+        Groups sut = this.generateSut();
+        assertFalse(sut.any("group.4"));
+
+        GroupInfo group4 = new GroupInfo();
+        group4.setName("group.4");
+        sut.getGroups().add(group4);
+
+        assertTrue(sut.any("group.4"));
+        assertEquals(group4, sut.getGroup("group.4"));
+    }
+
+    @Test
+    public void should_seeChangedGroups_when_groupListChangedInPlaceWithSameSize() {
+        Groups sut = this.generateSut();
+        assertTrue(sut.any("group.1"));
+
+        GroupInfo replacement = new GroupInfo();
+        replacement.setName("group.9");
+        replacement.setEmail("group.9@tenant1.example.com");
+        sut.getGroups().set(0, replacement);
+
+        assertFalse(sut.any("group.1"));
+        assertEquals(replacement, sut.getGroup("group.9"));
+
+        GroupInfo other = new GroupInfo();
+        other.setName("other");
+        sut.getGroups().remove(replacement);
+        sut.getGroups().add(other);
+
+        assertNull(sut.getGroup("group.9"));
+        assertNull(sut.getGroupByEmail("group.9@tenant1.example.com"));
+        assertEquals(other, sut.getGroup("other"));
+    }
+
+    @Test
+    public void should_rebuildIndex_when_groupsAreReplaced() {
+        Groups sut = this.generateSut();
+        assertTrue(sut.any("group.1"));
+
+        GroupInfo other = new GroupInfo();
+        other.setName("other");
+        sut.setGroups(new ArrayList<>(Collections.singletonList(other)));
+
+        assertFalse(sut.any("group.1"));
+        assertTrue(sut.any("other"));
+    }
+
+    @Test
+    public void should_returnGroupInfo_when_groupsContainsEmail() {
+        Groups sut = this.generateSut();
+
+        assertEquals("group.2", sut.getGroupByEmail("group.2@tenant1.example.com").getName());
+        assertNull(sut.getGroupByEmail("group.2@tenant3.example.com"));
+    }
+
+    @Test
+    public void should_returnTenantGroups_when_filteringByTenant() {
+        Groups sut = this.generateSut();
+        sut.setMemberEmail("member@example.com");
+
+        Groups tenant1 = sut.forTenant("tenant1");
+
+        assertEquals(2, tenant1.getGroups().size());
+        assertEquals("member@example.com", tenant1.getMemberEmail());
+        assertTrue(tenant1.any("group.1"));
+        assertFalse(tenant1.any("group.3"));
+        assertSame(tenant1, sut.forTenant("tenant1"));
+        assertEquals(3, sut.getGroups().size());
+    }
+
+    @Test
+    public void should_updateLookups_when_deserializedGroupsAreChanged() {
+        Groups sut = new Gson().fromJson(new Gson().toJson(this.generateSut()), Groups.class);
+        assertEquals("group.1", sut.getGroup("group.1").getName());
+
+        GroupInfo group4 = new GroupInfo();
+        group4.setName("group.4");
+        group4.setEmail("group.4@tenant1.example.com");
+        sut.getGroups().add(group4);
+        sut.getGroups().remove(0);
+
+        assertNull(sut.getGroup("group.1"));
+        assertEquals("group.4", sut.getGroupByEmail("group.4@tenant1.example.com").getName());
+        assertTrue(sut.any("group.4"));
+    }
+
     Groups generateSut() {
         Groups output = new Groups();
         GroupInfo group1 = new GroupInfo();
         group1.setName("group.1");
+        group1.setEmail("group.1@tenant1.example.com");
         output.getGroups().add(group1);
 
         GroupInfo group2 = new GroupInfo();
         group2.setName("group.2");
+        group2.setEmail("group.2@tenant1.example.com");
         output.getGroups().add(group2);
 
         GroupInfo group3 = new GroupInfo();
         group3.setName("group.3");
+        group3.setEmail("group.3@tenant2.example.com");
         output.getGroups().add(group3);
 
         return output;
@@ -199,4 +199,23 @@ public class DpsHeadersTest {
         });
         return map;
     }
+
+    @Test
+    public void should_increaseModificationCount_when_headersChange() {
+        DpsHeaders headers = new DpsHeaders();
+        int initial = headers.modificationCount();
+
+        assertEquals(initial, headers.modificationCount());
+        headers.put(DpsHeaders.CORRELATION_ID, "1");
+        int afterPut = headers.modificationCount();
+        headers.getHeaders().put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+        int afterMapPut = headers.modificationCount();
+        headers.getHeaders().remove(DpsHeaders.DATA_PARTITION_ID);
+
+        assertTrue(afterPut > initial);
+        assertTrue(afterMapPut > afterPut);
+        assertTrue(headers.modificationCount() > afterMapPut);
+        headers.getPartitionId();
+        assertEquals(afterMapPut + 1, headers.modificationCount());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.storage.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.opengroup.osdu.core.common.model.entitlements.Acl;
+import org.opengroup.osdu.core.common.model.legal.Legal;
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to validate a 500 record upsert whose records share 50 ACL groups and a few kinds and legal tags, one
+ * record at a time with Hibernate Validator versus {@link RecordBatchValidator}. Run with {@link #main(String[])}
+ * from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordBatchValidatorBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private RecordBatchValidator batchValidator;
+    private List<Record> records;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory();
+        validator = validatorFactory.getValidator();
+        batchValidator = new RecordBatchValidator();
+        records = new ArrayList<>(RecordBatchValidator.MAX_RECORDS);
+        for (int i = 0; i < RecordBatchValidator.MAX_RECORDS; i++) {
+            String[] viewers = new String[50];
+            for (int g = 0; g < viewers.length; g++) {
+                viewers[g] = "data.wellbore-" + g + ".viewers@opendes.enterprisedata.cloud.slb-ds.com";
+            }
+            Record record = new Record();
+            record.setId("opendes:master-data--Wellbore:" + i);
+            record.setKind("opendes:wks:master-data--Wellbore:1.0." + (i % 4));
+            record.setAcl(new Acl(viewers, new String[]{"data.default.owners@opendes.enterprisedata.cloud.slb-ds.com"}));
+            Legal legal = new Legal();
+            legal.setLegaltags(new HashSet<>(Arrays.asList("opendes-public-usa-dataset", "opendes-private-" + (i % 5))));
+            legal.setOtherRelevantDataCountries(new HashSet<>(Collections.singletonList("US")));
+            record.setLegal(legal);
+            record.setData(Collections.singletonMap("FacilityName", "Wellbore " + i));
+            records.add(record);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchValidator.close();
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int hibernateValidator() {
+        int violations = 0;
+        for (Record record : records) {
+            violations += validator.validate(record).size();
+        }
+        return violations;
+    }
+
+    @Benchmark
+    public RecordBatchValidationResult batchValidator() {
+        return batchValidator.validate(records);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecordBatchValidatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,153 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.storage.validation;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opengroup.osdu.core.common.model.entitlements.Acl;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.legal.Legal;
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.opengroup.osdu.core.common.model.storage.RecordAncestry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RecordBatchValidatorTest {
+
+    private RecordBatchValidator sut;
+
+    @After
+    public void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    @Test
+    public void should_acceptValidBatch_when_validatedInParallel() {
+        sut = new RecordBatchValidator(4, legalTags -> Collections.emptySet());
+
+        RecordBatchValidationResult result = sut.validate(createRecords(RecordBatchValidator.MAX_RECORDS));
+
+        assertTrue(result.isValid());
+        assertEquals(RecordBatchValidator.MAX_RECORDS, result.size());
+        assertEquals(0, result.getInvalidRecordCount());
+        assertTrue(result.getViolations(7).isEmpty());
+    }
+
+    @Test
+    public void should_reportViolationsOfInvalidRecordsOnly() {
+        sut = new RecordBatchValidator(2, legalTags -> Collections.emptySet());
+        List<Record> records = createRecords(100);
+        records.get(3).setId("tenant1:well");
+        records.get(3).setKind("tenant1:wks:well");
+        records.get(40).setAcl(new Acl(new String[]{"data.viewers@tenant1.example.com"}, new String[]{"owners"}));
+        records.get(40).getLegal().setOtherRelevantDataCountries(new HashSet<>());
+        records.get(99).setData(Collections.emptyMap());
+
+        RecordBatchValidationResult result = sut.validate(records);
+
+        assertFalse(result.isValid());
+        assertArrayEquals(new int[]{3, 40, 99}, result.getInvalidRecordIndexes());
+        assertEquals(Arrays.asList("Not a valid record id. Found: tenant1:well", "Not a valid record kind. Found: tenant1:wks:well"),
+                result.getViolations(3));
+        assertEquals(Arrays.asList("Invalid group name 'owners'", ValidationDoc.RECORD_ORDC_NOT_EMPTY), result.getViolations(40));
+        assertEquals(Collections.singletonList(ValidationDoc.RECORD_PAYLOAD_NOT_EMPTY), result.getViolations(99));
+        assertTrue(result.isValid(4));
+    }
+
+    @Test
+    public void should_checkDistinctLegalTagsInOneCall() {
+        List<Set<String>> checks = new ArrayList<>();
+        sut = new RecordBatchValidator(4, legalTags -> {
+            checks.add(legalTags);
+            return Collections.singleton("tenant1-expired");
+        });
+        List<Record> records = createRecords(300);
+        records.get(150).getLegal().setLegaltags(new HashSet<>(Collections.singletonList("tenant1-expired")));
+
+        RecordBatchValidationResult result = sut.validate(records);
+
+        assertEquals(Collections.singletonList(new HashSet<>(Arrays.asList("tenant1-public", "tenant1-private", "tenant1-expired"))),
+                checks);
+        assertArrayEquals(new int[]{150}, result.getInvalidRecordIndexes());
+        assertEquals(Collections.singletonList("Invalid legal tag 'tenant1-expired'"), result.getViolations(150));
+    }
+
+    @Test
+    public void should_validateParents_insteadOfLegalTags_when_recordHasAncestry() {
+        sut = new RecordBatchValidator();
+        List<Record> records = createRecords(3);
+        records.get(0).getLegal().setLegaltags(new HashSet<>());
+        records.get(0).setAncestry(ancestry("tenant1:well:1:123"));
+        records.get(1).getLegal().setLegaltags(new HashSet<>());
+        records.get(1).setAncestry(ancestry("tenant1:well:1"));
+        records.get(2).getLegal().setLegaltags(new HashSet<>());
+
+        RecordBatchValidationResult result = sut.validate(records);
+
+        assertTrue(result.isValid(0));
+        assertEquals(Collections.singletonList(String.format(ValidationDoc.INVALID_PARENT_RECORD_VERSION_FORMAT, "tenant1:well:1")),
+                result.getViolations(1));
+        assertEquals(Collections.singletonList(ValidationDoc.RECORD_LEGAL_TAGS_NOT_EMPTY), result.getViolations(2));
+    }
+
+    @Test
+    public void should_rejectBatch_when_largerThanIngestionLimit() {
+        sut = new RecordBatchValidator();
+        try {
+            sut.validate(createRecords(RecordBatchValidator.MAX_RECORDS + 1));
+            fail("expected AppException");
+        } catch (AppException e) {
+            assertEquals(400, e.getError().getCode());
+            assertEquals(ValidationDoc.RECORDS_MAX, e.getError().getMessage());
+        }
+    }
+
+    private static List<Record> createRecords(int count) {
+        List<Record> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Record record = new Record();
+            record.setId("tenant1:well:" + i);
+            record.setKind("tenant1:wks:well:1.0." + (i % 3));
+            record.setAcl(new Acl(new String[]{"data.viewers@tenant1.example.com", "data.group" + (i % 10) + "@tenant1.example.com"},
+                    new String[]{"data.owners@tenant1.example.com"}));
+            Legal legal = new Legal();
+            legal.setLegaltags(new HashSet<>(Arrays.asList("tenant1-public", "tenant1-private")));
+            legal.setOtherRelevantDataCountries(new HashSet<>(Collections.singletonList("US")));
+            record.setLegal(legal);
+            record.setData(Collections.singletonMap("name", "well " + i));
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static RecordAncestry ancestry(String parent) {
+        RecordAncestry ancestry = new RecordAncestry();
+        ancestry.setParents(new HashSet<>(Collections.singletonList(parent)));
+        return ancestry;
+    }
+}
@@ -194,4 +194,25 @@ public class DateTimeParseTests {
         assertTrue(dt.isValid());
         dt.convertToIsoDateTime("08/03/2019 13:56");
     }
+    @Test
+    public void testConvertArrayToIso() {
+        IDateTime dt = ReferenceConverter.parseDateTimeReference(TIME03);
+        String[] iso = dt.convertToIsoDateTime(new String[]{"07/15/2019 10:00", null, "12/31/2019 23:45"});
+        assertArrayEquals(new String[]{dt.convertToIsoDateTime("07/15/2019 10:00"), null,
+                dt.convertToIsoDateTime("12/31/2019 23:45")}, iso);
+        assertEquals("2019-07-15T04:30:00.000Z", iso[0]);
+
+        IDateTime invalid = ReferenceConverter.parseDateTimeReference("{}");
+        assertArrayEquals(new String[2], invalid.convertToIsoDateTime(new String[]{"07/15/2019", "07/16/2019"}));
+    }
+
+    @Test
+    public void testResolvedFormatFollowsReferenceChanges() {
+        DateTimeItem dt = (DateTimeItem) ReferenceConverter.parseDateTimeReference(DATE01);
+        assertEquals("2019-07-15", dt.convertToIsoDateTime("07/15/2019"));
+        DateTimeItem other = (DateTimeItem) ReferenceConverter.parseDateTimeReference(DATE02);
+        dt.setImplementationDate(other.getImplementationDate());
+        assertEquals("2019-07-05", dt.convertToIsoDateTime("July 5, 2019"));
+        assertEquals(dt, ReferenceConverter.parseDateTimeReference(DATE02));
+    }
 }
@@ -452,6 +452,7 @@ public class JsonUtilsTest {
         List<String> values = Arrays.asList(value1, value2, value3);
 
         setupJsonArrayMock(3);
+        when(mockJsonObject.isJsonObject()).thenReturn(true);
         when(mockJsonObject.getAsJsonArray("markers")).thenReturn(mockJsonArray);
 
         overrideNestedStringPropertyOfJsonObject(propertyName, values, mockJsonObject);
@@ -0,0 +1,101 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UnitConverterCacheTest {
+    private static final String DEG_F = "{\"scaleOffset\":{\"scale\":0.5555555555555556,\"offset\":-459.67},\"symbol\":\"degF\",\"baseMeasurement\":{\"ancestry\":\"Temperature\",\"type\":\"UM\"},\"type\":\"USO\"}";
+    private static final String FT = "%7B%22ScaleOffset%22%3A%7B%22Scale%22%3A0.3048%2C%22Offset%22%3A0.0%7D%2C%22Symbol%22%3A%22ft%22%2C%22BaseMeasurement%22%3A%22%257B%2522Ancestry%2522%253A%2522Length%2522%257D%22%7D";
+
+    @Test
+    public void should_behaveLikeParsedUnit_when_compiled() {
+        IUnit parsed = ReferenceConverter.parseUnitReference(DEG_F);
+        CompiledUnit compiled = CompiledUnit.compile(DEG_F);
+
+        assertTrue(compiled.isValid());
+        assertEquals(parsed.getSymbol(), compiled.getSymbol());
+        assertEquals(parsed.getAncestry(), compiled.getAncestry());
+        assertEquals(parsed.getBaseUnit(), compiled.getBaseUnit());
+        assertEquals(parsed.getBaseSymbol(), compiled.getBaseSymbol());
+        assertEquals(parsed.convertToSI(131.0), compiled.convertToSI(131.0), 0.0);
+        assertEquals(parsed.convertFromSI(328.15), compiled.convertFromSI(328.15), 0.0);
+        assertTrue(compiled.isEqualInBehavior(parsed));
+    }
+
+    @Test
+    public void should_convertArraysInPlace() {
+        CompiledUnit ft = CompiledUnit.compile(FT);
+        double[] values = {1.0, 10.0, 100.0};
+        double[] expected = values.clone();
+        ReferenceConverter.parseUnitReference(FT).convertToSI(expected);
+
+        ft.convertToSI(values);
+
+        assertArrayEquals(expected, values, 0.0);
+    }
+
+    @Test
+    public void should_convertToNaN_when_referenceIsInvalid() {
+        CompiledUnit invalid = CompiledUnit.compile("{not a unit}");
+        double[] values = {1.0, 2.0};
+
+        invalid.convertToSI(values);
+
+        assertFalse(invalid.isValid());
+        assertNull(invalid.getBaseUnit());
+        assertTrue(Double.isNaN(values[0]) && Double.isNaN(values[1]));
+    }
+
+    @Test
+    public void should_compileReferenceOnce_and_reportHitRate() {
+        UnitConverterCache cache = new UnitConverterCache();
+
+        CompiledUnit first = cache.get(DEG_F);
+        assertSame(first, cache.get(DEG_F));
+        assertSame(first, cache.get(DEG_F));
+        cache.get(FT);
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void should_stayBounded_when_maximumSizeIsReached() {
+        UnitConverterCache cache = new UnitConverterCache(1);
+
+        cache.get(DEG_F);
+        cache.get(FT);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void should_returnInvalidUnit_when_referenceIsNull() {
+        UnitConverterCache cache = new UnitConverterCache();
+
+        assertFalse(cache.get(null).isValid());
+        assertEquals(0, cache.size());
+    }
+}
@@ -15,6 +15,7 @@
 package org.opengroup.osdu.core.common.model.units;
 
 import org.junit.Test;
+import org.opengroup.osdu.core.common.model.units.impl.PersistableReference;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.*;
@@ -254,4 +255,16 @@ public class UnitParseTests {
         System.out.println(unit2.getBaseUnit());
         assertEquals("K", symbol2);
     }
+
+    @Test
+    public void testParsedReferencesAreShared() {
+        Unit unit1 = (Unit) ReferenceConverter.parseUnitReference(DEG_F_S_2);
+        Unit unit2 = (Unit) ReferenceConverter.parseUnitReference("  " + DEG_F_S_2 + " ");
+        assertNotSame(unit1, unit2);
+        assertSame(unit1.getImplementationV2S(), unit2.getImplementationV2S());
+        assertSame(((Unit) ReferenceConverter.parseUnitReference(FT)).getImplementationV1(),
+                ((Unit) ReferenceConverter.parseUnitReference(FT)).getImplementationV1());
+        assertTrue(ReferenceConverter.getParsedReferenceHitRate() > 0.0);
+        assertEquals(unit1.getImplementationV2S(), PersistableReference.createInstance(unit1.getImplementationV2S().toJsonString()));
+    }
 }
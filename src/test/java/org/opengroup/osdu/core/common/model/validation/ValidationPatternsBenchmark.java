@@ -0,0 +1,163 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.validation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.opengroup.osdu.core.common.model.legal.Properties;
+import org.opengroup.osdu.core.common.model.search.validation.MultiKindValidator;
+import org.opengroup.osdu.core.common.model.storage.validation.KindValidator;
+import org.opengroup.osdu.core.common.model.storage.validation.ValidationDoc;
+import org.opengroup.osdu.core.common.search.ElasticIndexNameResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Checks done by the validators of a record, each with {@code String.matches} as before ({@code *Matches}) and
+ * with {@link ValidationPatterns}: the kind of {@code KindValidator}, the viewers and owners of a 40 group ACL of
+ * {@code AclValidator}, the parent ids of {@code LegalValidator} and {@code RecordAncestryValidator}, the kinds of
+ * {@code MultiKindValidator} and {@code ElasticIndexNameResolver}, and the contract id of {@link Properties}.
+ * {@code multiKindValidator} is the whole validator, kind parsing and alias lengths included. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationPatternsBenchmark {
+
+    private static final String KIND = "opendes:wks:master-data--Wellbore:1.0.0";
+    private static final String PARENT = "opendes:master-data--Wellbore:9f3c2a7e51d84b0c:1687954400123456";
+    private static final String MULTI_KIND = "opendes:wks:master-data--Wellbore:1.0.0,opendes:wks:work-product-component--WellLog:1.*.*";
+    private static final String MULTI_KIND_REGEX = ValidationPatterns.MULTI_KIND.pattern();
+    private static final String KIND_COMPLETE_VERSION_REGEX = ValidationPatterns.KIND_COMPLETE_VERSION.pattern();
+    private static final String KIND_MAJOR_VERSION_REGEX = ValidationPatterns.KIND_MAJOR_VERSION.pattern();
+    private static final String CONTRACT_ID_REGEX = ValidationPatterns.CONTRACT_ID.pattern();
+
+    private final KindValidator kindValidator = new KindValidator();
+    private final MultiKindValidator multiKindValidator = new MultiKindValidator();
+    private final ElasticIndexNameResolver elasticIndexNameResolver = new ElasticIndexNameResolver();
+    private final Properties properties = new Properties();
+    private String[] groups;
+
+    @Setup
+    public void setup() {
+        groups = new String[40];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = "data.wellbore-" + i + ".viewers@opendes.enterprisedata.cloud.slb-ds.com";
+        }
+        properties.setContractId("A1234-contract.77");
+    }
+
+    @Benchmark
+    public boolean kindMatches() {
+        return KIND.matches(ValidationDoc.KIND_REGEX);
+    }
+
+    @Benchmark
+    public boolean kind() {
+        return kindValidator.isValid(KIND, null);
+    }
+
+    @Benchmark
+    public boolean aclMatches() {
+        boolean valid = true;
+        for (String group : groups) {
+            valid &= group.matches(ValidationDoc.EMAIL_REGEX);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean acl() {
+        boolean valid = true;
+        for (String group : groups) {
+            valid &= ValidationPatterns.isGroupEmail(group);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean parentMatches() {
+        return PARENT.matches(ValidationDoc.RECORD_ID_REGEX) && PARENT.matches(ValidationDoc.RECORD_ID_WITH_VERSION_REGEX);
+    }
+
+    @Benchmark
+    public boolean parent() {
+        return ValidationPatterns.isRecordId(PARENT) && ValidationPatterns.isRecordIdWithVersion(PARENT);
+    }
+
+    @Benchmark
+    public boolean multiKindMatches() {
+        boolean valid = true;
+        for (String kind : MULTI_KIND.split(",")) {
+            valid &= kind.matches(MULTI_KIND_REGEX);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean multiKind() {
+        boolean valid = true;
+        for (String kind : MULTI_KIND.split(",")) {
+            valid &= ValidationPatterns.MULTI_KIND.matcher(kind).matches();
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean multiKindValidator() {
+        return multiKindValidator.isValid(MULTI_KIND, null);
+    }
+
+    @Benchmark
+    public boolean indexAliasSupportedMatches() {
+        return KIND.matches(KIND_COMPLETE_VERSION_REGEX) || KIND.matches(KIND_MAJOR_VERSION_REGEX);
+    }
+
+    @Benchmark
+    public boolean indexAliasSupported() {
+        return elasticIndexNameResolver.isIndexAliasSupported(KIND);
+    }
+
+    @Benchmark
+    public boolean contractIdMatches() {
+        return Pattern.compile(CONTRACT_ID_REGEX).matcher(properties.getContractId()).matches();
+    }
+
+    @Benchmark
+    public boolean contractId() {
+        return properties.hasContractId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValidationPatternsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
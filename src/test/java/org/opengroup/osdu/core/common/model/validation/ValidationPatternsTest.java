@@ -0,0 +1,88 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.model.validation;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationPatternsTest {
+    private static final String[] KINDS = {"opendes:wks:master-data--Well:1.0.0", "a.b:c_d:e-f:10.20.30", "a:b:c:12345",
+            "a:b:c:1:0:0", "a:b:c:1.0", "a:b:c:1.0.x", ":b:c:1.0.0", "a:b:c:1\n0.0", "a:b:c:1.0.0\n", "a:b:c/d:1.0.0",
+            "a:b::1.0.0", "a:b:c:", "a:b:c:1..0", "a:b:c:1.0.0.0.0"};
+    private static final String[] RECORD_IDS = {"opendes:wellbore:123", "opendes:wellbore:123:456", "opendes:wellbore:a%20b:",
+            "opendes:wellbore:abc:12:34", "opendes:wellbore", "opendes::123", ":wellbore:123", "opendes:wellbore:123:",
+            "opendes:wellbore::1", "opendes:well/bore:123", "opendes:wellbore:123:1a", "opendes:wellbore:1"};
+    private static final String[] EMAILS = {"data.default.viewers@opendes.contoso.com", "data.x@y.co", "data.a+b&c*d-e_f@g-h.org",
+            "data.@y.com", "data..x@y.com", "data.x.@y.com", "data.x@.y.com", "data.x@y..com", "data.x@y.c", "data.x@y.abcdefgh",
+            "data.x@y", "data.x@y.c0m", "datax@y.com", "Data.x@y.com", "data.x@y.com\n", "data.x@@y.com", "data.x@y.com@z.com"};
+
+    @Test
+    public void should_matchKindsLikeThePattern() {
+        assertTrue(ValidationPatterns.isKind(KINDS[0]));
+        assertFalse(ValidationPatterns.isKind(KINDS[4]));
+        assertSameAsPattern(ValidationPatterns.KIND, ValidationPatterns::isKind, KINDS, "ab.-_:019\n%/ ");
+    }
+
+    @Test
+    public void should_matchRecordIdsLikeThePatterns() {
+        assertTrue(ValidationPatterns.isRecordId(RECORD_IDS[0]));
+        assertFalse(ValidationPatterns.isRecordIdWithVersion(RECORD_IDS[0]));
+        assertTrue(ValidationPatterns.isRecordIdWithVersion(RECORD_IDS[1]));
+        assertSameAsPattern(ValidationPatterns.RECORD_ID, ValidationPatterns::isRecordId, RECORD_IDS, "ab.-_:019%/\n ");
+        assertSameAsPattern(ValidationPatterns.RECORD_ID_WITH_VERSION, ValidationPatterns::isRecordIdWithVersion,
+                RECORD_IDS, "ab.-_:019%/\n ");
+    }
+
+    @Test
+    public void should_matchGroupEmailsLikeThePattern() {
+        assertTrue(ValidationPatterns.isGroupEmail(EMAILS[0]));
+        assertFalse(ValidationPatterns.isGroupEmail(EMAILS[3]));
+        assertSameAsPattern(ValidationPatterns.EMAIL, ValidationPatterns::isGroupEmail, EMAILS, "aZ0.@-_+&*\n ");
+    }
+
+    private static void assertSameAsPattern(Pattern pattern, Predicate<String> matcher, String[] samples, String alphabet) {
+        for (String sample : samples) {
+            assertEquals(sample, pattern.matcher(sample).matches(), matcher.test(sample));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder(samples[random.nextInt(samples.length)]);
+            int edits = 1 + random.nextInt(3);
+            for (int e = 0; e < edits && value.length() > 0; e++) {
+                int position = random.nextInt(value.length());
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                switch (random.nextInt(3)) {
+                    case 0:
+                        value.setCharAt(position, c);
+                        break;
+                    case 1:
+                        value.insert(position, c);
+                        break;
+                    default:
+                        value.deleteCharAt(position);
+                }
+            }
+            String mutated = value.toString();
+            assertEquals(mutated, pattern.matcher(mutated).matches(), matcher.test(mutated));
+        }
+    }
+}
@@ -20,8 +20,13 @@ package org.opengroup.osdu.core.common.multitenancy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -38,6 +43,7 @@ import org.opengroup.osdu.core.common.model.tenant.TenantInfo;
 import org.opengroup.osdu.core.common.partition.IPartitionProvider;
 import org.opengroup.osdu.core.common.partition.PartitionException;
 import org.opengroup.osdu.core.common.partition.PartitionInfo;
+import org.opengroup.osdu.core.common.partition.Property;
 import org.opengroup.osdu.core.common.util.PartitionAndTenantInfoStub;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -130,4 +136,45 @@ public class PartitionTenantInfoFactoryTest {
         tenantInfoFactory.getTenantInfo(tenantName);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testListTenantInfoSkipsFailingPartitions() throws PartitionException {
+        HttpResponse response = new HttpResponse();
+        response.setResponseCode(500);
+        Mockito.when(partitionProvider.list()).thenReturn(Arrays.asList("broken", tenantName));
+        Mockito.when(partitionProvider.get("broken")).thenThrow(new PartitionException("Partition service unavailable.", response));
+        Mockito.when(partitionProvider.get(tenantName)).thenReturn(partitionInfo);
+
+        Collection<TenantInfo> tenantInfos = tenantInfoFactory.listTenantInfo();
+
+        assertEquals(Collections.singletonList(tenantInfo), new ArrayList<>(tenantInfos));
+        Mockito.verify(tenantCache).put(tenantName, tenantInfo);
+        Mockito.verify(logger).warning("core-common-partition", "Partition service unavailable.", Collections.emptyMap());
+    }
+
+    @Test
+    public void testListTenantInfoLoadsPartitionsInParallelInListOrder() throws PartitionException {
+        PartitionTenantInfoFactory factory = PartitionTenantInfoFactory.builder()
+            .logger(logger)
+            .partitionProvider(partitionProvider)
+            .bulkLoadConcurrency(4)
+            .refreshInBackground(true)
+            .build();
+        List<String> partitions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            partitions.add("partition" + i);
+        }
+        Mockito.when(partitionProvider.list()).thenReturn(partitions);
+        Mockito.when(partitionProvider.get(Mockito.anyString())).thenAnswer(invocation -> {
+            Map<String, Property> properties = new HashMap<>(partitionInfo.getProperties());
+            properties.put("dataPartitionId", new Property(false, invocation.getArgument(0)));
+            return new PartitionInfo(properties);
+        });
+
+        List<TenantInfo> tenantInfos = new ArrayList<>(factory.listTenantInfo());
+
+        assertEquals(20, tenantInfos.size());
+        assertEquals("partition0", tenantInfos.get(0).getDataPartitionId());
+        assertEquals("partition19", tenantInfos.get(19).getDataPartitionId());
+        Mockito.verify(partitionProvider, Mockito.times(20)).get(Mockito.anyString());
+    }
+}
@@ -18,21 +18,27 @@
 package org.opengroup.osdu.core.common.partition;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opengroup.osdu.core.common.cache.ICache;
@@ -59,11 +65,11 @@ public class PartitionPropertyResolverTest {
   private IPartitionProvider partitionProvider;
   @Mock
   private ISensitivePropertyResolver sensitivePropertyResolver;
-  @InjectMocks
   private PartitionPropertyResolver propertyResolver;
 
   @Before
   public void setUp() {
+    propertyResolver = new PartitionPropertyResolver(cache, partitionProvider, sensitivePropertyResolver);
   }
 
   @Test
@@ -193,4 +199,50 @@ public class PartitionPropertyResolverTest {
     assertEquals(100.200, doublePropertyValue, 0.0);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void shouldLoadPartitionInfoOnce_whenNotCached() throws PartitionException {
+    PartitionInfo partitionInfo = new PartitionInfo(ImmutableMap.of(PROPERTY_NAME, new Property(false, TEST_VARIABLE_VALUE)));
+    when(partitionProvider.get(TEST_PARTITION)).thenReturn(partitionInfo);
+
+    assertEquals(TEST_VARIABLE_VALUE, propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION));
+
+    verify(cache).put(TEST_PARTITION, partitionInfo);
+    when(cache.get(TEST_PARTITION)).thenReturn(partitionInfo);
+    assertEquals(TEST_VARIABLE_VALUE, propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION));
+    verify(partitionProvider, times(1)).get(TEST_PARTITION);
+  }
+
+  @Test
+  public void shouldRefreshOnCallingThread_byDefault() throws PartitionException {
+    PartitionInfo partitionInfo = new PartitionInfo(ImmutableMap.of(PROPERTY_NAME, new Property(false, TEST_VARIABLE_VALUE)));
+    List<Thread> loadingThreads = new ArrayList<>();
+    when(cache.get(TEST_PARTITION)).thenReturn(partitionInfo);
+    when(partitionProvider.get(TEST_PARTITION)).thenAnswer(invocation -> {
+      loadingThreads.add(Thread.currentThread());
+      return partitionInfo;
+    });
+    propertyResolver = new PartitionPropertyResolver(cache, partitionProvider, sensitivePropertyResolver, 0);
+
+    propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION);
+    propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION);
+
+    assertEquals(Collections.singletonList(Thread.currentThread()), loadingThreads);
+  }
+
+  @Test
+  public void shouldRefreshOnBackgroundThread_whenEnabled() throws Exception {
+    PartitionInfo partitionInfo = new PartitionInfo(ImmutableMap.of(PROPERTY_NAME, new Property(false, TEST_VARIABLE_VALUE)));
+    CompletableFuture<Thread> loadingThread = new CompletableFuture<>();
+    when(cache.get(TEST_PARTITION)).thenReturn(partitionInfo);
+    when(partitionProvider.get(TEST_PARTITION)).thenAnswer(invocation -> {
+      loadingThread.complete(Thread.currentThread());
+      return partitionInfo;
+    });
+    propertyResolver = new PartitionPropertyResolver(cache, partitionProvider, sensitivePropertyResolver, 0, true);
+
+    propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION);
+    propertyResolver.getPropertyValue(PROPERTY_NAME, TEST_PARTITION);
+
+    assertNotEquals(Thread.currentThread(), loadingThread.get(5, TimeUnit.SECONDS));
+  }
+}
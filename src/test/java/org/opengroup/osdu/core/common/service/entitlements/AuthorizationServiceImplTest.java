@@ -18,6 +18,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opengroup.osdu.core.common.entitlements.AuthorizationServiceImpl;
 import org.opengroup.osdu.core.common.entitlements.IEntitlementsFactory;
 import org.opengroup.osdu.core.common.entitlements.IEntitlementsService;
+import org.opengroup.osdu.core.common.entitlements.IGroupsCache;
 import org.opengroup.osdu.core.common.model.entitlements.AuthorizationResponse;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.entitlements.EntitlementsException;
@@ -32,13 +33,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 
+import org.springframework.test.util.ReflectionTestUtils;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -135,5 +143,48 @@ public class AuthorizationServiceImplTest {
         return sut;
     }
 
+    @Test
+    public void should_useGroupsCache_when_configured() throws EntitlementsException {
+        sut = createSut("service.legal.user");
+        IGroupsCache groupsCache = mock(IGroupsCache.class);
+        Groups cached = new Groups();
+        cached.setMemberEmail("cached@bbc.com");
+        GroupInfo group = new GroupInfo();
+        group.setName("service.legal.user");
+        group.setEmail("service.legal.user@tenant1.bbc.com");
+        cached.setGroups(Collections.singletonList(group));
+        DpsHeaders headers = DpsHeaders.createFromMap(new HashMap<>());
+        when(groupsCache.getGroups(headers, service)).thenReturn(cached);
+        ReflectionTestUtils.setField(sut, "groupsCache", groupsCache);
+
+        AuthorizationResponse result = sut.authorizeAny("tenant1", headers, "service.legal.user");
+
+        assertEquals("cached@bbc.com", result.getUser());
+        assertEquals(Collections.singletonList(group), cached.getGroups());
+        verify(service, never()).getGroups();
+    }
 
+    @Test
+    public void should_returnAllGroups_when_authorizedForTenant() throws EntitlementsException {
+        GroupInfo tenant1Group = new GroupInfo();
+        tenant1Group.setName("service.legal.user");
+        tenant1Group.setEmail("service.legal.user@tenant1.bbc.com");
+        GroupInfo tenant2Group = new GroupInfo();
+        tenant2Group.setName("service.legal.editor");
+        tenant2Group.setEmail("service.legal.editor@tenant2.bbc.com");
+        Groups groups = new Groups();
+        groups.setMemberEmail("akelham@bbc.com");
+        groups.setGroups(new ArrayList<>(Arrays.asList(tenant1Group, tenant2Group)));
+        when(service.getGroups()).thenReturn(groups);
+
+        AuthorizationResponse result = sut.authorizeAny("tenant1", DpsHeaders.createFromMap(new HashMap<>()), "service.legal.user");
+
+        assertEquals(Arrays.asList(tenant1Group, tenant2Group), result.getGroups().getGroups());
+        try {
+            sut.authorizeAny("tenant1", DpsHeaders.createFromMap(new HashMap<>()), "service.legal.editor");
+            fail("expected exception");
+        } catch (AppException ex) {
+            assertEquals(401, ex.getError().getCode());
+        }
+    }
 }
@@ -14,28 +14,41 @@
 
 package org.opengroup.osdu.core.common.storage;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.opengroup.osdu.core.common.http.HttpClient;
 import org.opengroup.osdu.core.common.http.HttpRequest;
 import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IAsyncHttpClient;
 import org.opengroup.osdu.core.common.http.IHttpClient;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordIds;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.core.common.model.storage.Record;
 import org.opengroup.osdu.core.common.model.storage.StorageException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StorageServiceTest {
 
@@ -233,4 +246,132 @@ public class StorageServiceTest {
         verify(httpClient).send(captor.capture());
         assertEquals(String.format("%s/records/%s", ROOT_URL, recordId), captor.getValue().getUrl());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_getRecordsWithoutBlocking_when_asyncClientIsProvided() throws Exception {
+        IAsyncHttpClient asyncHttpClient = mock(IAsyncHttpClient.class);
+        HttpResponse httpResponse = mock(HttpResponse.class);
+        when(httpResponse.isSuccessCode()).thenReturn(true);
+        when(asyncHttpClient.sendAsync(any(HttpRequest.class))).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        MultiRecordInfo records = new MultiRecordInfo();
+        when(bodyMapper.parseBody(httpResponse, MultiRecordInfo.class)).thenReturn(records);
+        StorageService storageService = new StorageService(config, httpClient, asyncHttpClient, dpsHeaders, bodyMapper);
+
+        assertSame(records, storageService.getRecordsAsync(Arrays.asList("id1", "id2")).get());
+
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(asyncHttpClient).sendAsync(captor.capture());
+        verify(httpClient, never()).send(any(HttpRequest.class));
+        assertEquals(String.format("%s/query/records", ROOT_URL), captor.getValue().getUrl());
+        assertEquals(HttpRequest.POST, captor.getValue().getHttpMethod());
+    }
+
+    @Test
+    public void should_completeExceptionallyWithStorageException_when_asyncResponseIsNotSuccessful() {
+        IAsyncHttpClient asyncHttpClient = mock(IAsyncHttpClient.class);
+        HttpResponse httpResponse = new HttpResponse();
+        httpResponse.setResponseCode(500);
+        when(asyncHttpClient.sendAsync(any(HttpRequest.class))).thenReturn(CompletableFuture.completedFuture(httpResponse));
+        StorageService storageService = new StorageService(config, httpClient, asyncHttpClient, dpsHeaders, bodyMapper);
+
+        try {
+            storageService.getRecordAsync("AnyRecord").join();
+            fail("Should not succeed");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof StorageException);
+            assertEquals(httpResponse, ((StorageException) e.getCause()).getHttpResponse());
+        }
+    }
+
+    @Test
+    public void should_fallBackToBlockingClient_when_asyncClientIsNotProvided() throws Exception {
+        HttpResponse httpResponse = new HttpResponse();
+        httpResponse.setResponseCode(404);
+        when(httpClient.send(any(HttpRequest.class))).thenReturn(httpResponse);
+        StorageService storageService = new StorageService(config, httpClient, dpsHeaders, bodyMapper);
+
+        assertNull(storageService.getRecordAsync("AnyRecord").get());
+        verify(httpClient).send(any(HttpRequest.class));
+    }
+
+    @Test
+    public void should_queryIdsInBatches_when_streamingRecords() throws Exception {
+        StorageService storageService = createStreamingStorageService();
+
+        List<String> ids = storageService.streamRecords(Arrays.asList("id1", "id2", "id3", "id4", "id5"))
+                .map(Record::getId).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("id1", "id2", "id3", "id4", "id5"), ids);
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(3)).send(captor.capture());
+        assertTrue(captor.getAllValues().get(2).getBody().contains("id5"));
+    }
+
+    @Test
+    public void should_onlyQueryConsumedBatches_when_streamIsNotFullyRead() throws Exception {
+        StorageService storageService = createStreamingStorageService();
+
+        try (Stream<Record> records = storageService.streamRecords(Arrays.asList("id1", "id2", "id3", "id4", "id5"), 1)) {
+            assertEquals("id1", records.findFirst().get().getId());
+        }
+
+        // the consumed batch plus the two batches read ahead, out of five
+        verify(httpClient, times(3)).send(any(HttpRequest.class));
+    }
+
+    @Test
+    public void should_passEveryBatchToConsumer_when_iteratingRecordBatches() throws Exception {
+        StorageService storageService = createStreamingStorageService();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        storageService.forEachRecordBatch(Arrays.asList("id1", "id2", "id3"), 2,
+                batch -> batchSizes.add(batch.getRecords().size()));
+
+        assertEquals(Arrays.asList(2, 1), batchSizes);
+    }
+
+    @Test
+    public void should_throwStorageException_when_recordBatchFails() {
+        HttpResponse httpResponse = new HttpResponse();
+        httpResponse.setResponseCode(500);
+        when(httpClient.send(any(HttpRequest.class))).thenReturn(httpResponse);
+        StorageService storageService = new StorageService(config, httpClient, dpsHeaders, bodyMapper);
+
+        try {
+            storageService.forEachRecordBatch(Arrays.asList("id1", "id2"), 1, batch -> fail("Should not succeed"));
+            fail("Should not succeed");
+        } catch (StorageException e) {
+            assertEquals(httpResponse, e.getHttpResponse());
+        }
+        try {
+            storageService.streamRecords(Arrays.asList("id1", "id2")).count();
+            fail("Should not succeed");
+        } catch (AppException e) {
+            assertEquals(500, e.getError().getCode());
+        }
+    }
+
+    private StorageService createStreamingStorageService() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        when(httpClient.send(any(HttpRequest.class))).thenAnswer(invocation -> {
+            HttpRequest request = invocation.getArgument(0);
+            MultiRecordInfo info = new MultiRecordInfo();
+            info.setRecords(new ArrayList<>());
+            for (String id : objectMapper.readValue(request.getBody(), MultiRecordIds.class).getRecords()) {
+                Record record = new Record();
+                record.setId(id);
+                info.getRecords().add(record);
+            }
+            HttpResponse response = new HttpResponse();
+            response.setResponseCode(200);
+            response.setBody(objectMapper.writeValueAsString(info));
+            return response;
+        });
+        StorageAPIConfig streamingConfig = StorageAPIConfig.builder()
+                .rootUrl(ROOT_URL)
+                .recordsBatchSize(2)
+                .recordsMaxInFlight(2)
+                .build();
+        return new StorageService(streamingConfig, httpClient, new DpsHeaders(), new HttpResponseBodyMapper(objectMapper));
+    }
+}
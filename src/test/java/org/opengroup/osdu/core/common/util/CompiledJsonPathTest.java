@@ -0,0 +1,154 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledJsonPathTest {
+    private static final String RECORD = "{\"TopMeasuredDepth\": {\"value\": 100, \"unitKey\": \"ft\"},"
+            + "\"Curves\": [{\"CurveID\": \"GR\", \"TopDepth\": {\"value\": 10}},"
+            + "{\"CurveID\": \"DT\", \"TopDepth\": {\"value\": 20}}, 7,"
+            + "{\"CurveID\": \"RHOB\"}]}";
+
+    @Test
+    public void should_returnSameInstance_when_compiledTwice() {
+        assertSame(CompiledJsonPath.compile("TopMeasuredDepth.value"), CompiledJsonPath.compile("TopMeasuredDepth.value"));
+        assertEquals("Curves[].TopDepth.value", CompiledJsonPath.compile("Curves[].TopDepth.value").toString());
+        assertTrue(CompiledJsonPath.compile("Curves[].TopDepth.value").hasWildcard());
+        assertFalse(CompiledJsonPath.compile("Curves[1].TopDepth.value").hasWildcard());
+    }
+
+    @Test
+    public void should_getFieldValue() {
+        JsonObject record = parse();
+
+        List<JsonElement> result = CompiledJsonPath.compile("TopMeasuredDepth.value").get(record);
+
+        assertEquals(1, result.size());
+        assertEquals(100, result.get(0).getAsInt());
+        assertNull(CompiledJsonPath.compile("TopMeasuredDepth.missing.value").get(record).get(0));
+        assertNull(CompiledJsonPath.compile("BottomMeasuredDepth").get(record).get(0));
+    }
+
+    @Test
+    public void should_getAllElementValues_when_pathHasWildcard() {
+        List<JsonElement> result = CompiledJsonPath.compile("Curves[].TopDepth.value").get(parse());
+
+        assertEquals(4, result.size());
+        assertEquals(10, result.get(0).getAsInt());
+        assertEquals(20, result.get(1).getAsInt());
+        assertEquals(7, result.get(2).getAsInt());
+        assertNull(result.get(3));
+    }
+
+    @Test
+    public void should_getElementValue_when_pathHasIndex() {
+        JsonObject record = parse();
+
+        assertEquals("DT", CompiledJsonPath.compile("Curves[1].CurveID").get(record).get(0).getAsString());
+        assertNull(CompiledJsonPath.compile("Curves[9].CurveID").get(record).get(0));
+        assertNull(CompiledJsonPath.compile("Curves[x].CurveID").get(record).get(0));
+    }
+
+    @Test
+    public void should_checkExistence() {
+        JsonObject record = parse();
+
+        assertTrue(CompiledJsonPath.compile("TopMeasuredDepth.unitKey").exists(record));
+        assertTrue(CompiledJsonPath.compile("Curves[].TopDepth.value").exists(record));
+        assertTrue(CompiledJsonPath.compile("Curves[0].CurveID").exists(record));
+        assertFalse(CompiledJsonPath.compile("Curves[3].TopDepth").exists(record));
+        assertFalse(CompiledJsonPath.compile("Curves[].BaseDepth.value").exists(record));
+        assertFalse(CompiledJsonPath.compile("TopMeasuredDepth.value.unitKey").exists(record));
+    }
+
+    @Test
+    public void should_setNumbersInDocumentOrder_and_skipElementsWhichAreNotObjects() {
+        JsonObject record = parse();
+        double[] values = {1.5, 2.5, 3.5, 4.5};
+
+        CompiledJsonPath.compile("Curves[].TopDepth.value").setNumbers(record, i -> values[i]);
+
+        List<JsonElement> result = CompiledJsonPath.compile("Curves[].TopDepth.value").get(record);
+        assertEquals(1.5, result.get(0).getAsDouble(), 0.0);
+        assertEquals(2.5, result.get(1).getAsDouble(), 0.0);
+        assertEquals(7, result.get(2).getAsInt());
+        assertNull(result.get(3));
+    }
+
+    @Test
+    public void should_setStrings_and_leaveNullValuesUnchanged_when_skippingNulls() {
+        JsonObject record = parse();
+        String[] values = {"GR-1", null, "ignored", "RHOB-1"};
+
+        CompiledJsonPath.compile("Curves[].CurveID").setStrings(record, i -> values[i], true);
+
+        List<JsonElement> result = CompiledJsonPath.compile("Curves[].CurveID").get(record);
+        assertEquals("GR-1", result.get(0).getAsString());
+        assertEquals("DT", result.get(1).getAsString());
+        assertEquals("RHOB-1", result.get(3).getAsString());
+    }
+
+    @Test
+    public void should_skipElementsWhichAreNotObjects_when_settingStrings() {
+        JsonObject record = parse();
+
+        CompiledJsonPath.compile("Curves[].CurveID").setStrings(record, i -> "X" + i, false);
+
+        List<JsonElement> result = CompiledJsonPath.compile("Curves[].CurveID").get(record);
+        assertEquals("X0", result.get(0).getAsString());
+        assertEquals(7, result.get(2).getAsInt());
+        assertEquals("X3", result.get(3).getAsString());
+    }
+
+    @Test
+    public void should_onlyReplaceExistingStrings() {
+        JsonObject record = parse();
+
+        CompiledJsonPath.compile("Curves[].TopDepth.unitKey").replaceStrings(record, i -> "m");
+        CompiledJsonPath.compile("TopMeasuredDepth.unitKey").replaceStrings(record, i -> "m");
+
+        assertFalse(CompiledJsonPath.compile("Curves[].TopDepth.unitKey").exists(record));
+        assertEquals("m", record.getAsJsonObject("TopMeasuredDepth").get("unitKey").getAsString());
+    }
+
+    @Test
+    public void should_setElementValue_when_pathHasIndex() {
+        JsonObject record = parse();
+
+        CompiledJsonPath.compile("Curves[0].TopDepth.value").setNumbers(record, i -> 42);
+        CompiledJsonPath.compile("Curves[2]").setNumbers(record, i -> 8);
+        CompiledJsonPath.compile("Curves[9].TopDepth.value").setNumbers(record, i -> 43);
+
+        assertEquals(42, CompiledJsonPath.compile("Curves[0].TopDepth.value").get(record).get(0).getAsInt());
+        assertEquals(8, CompiledJsonPath.compile("Curves[2]").get(record).get(0).getAsInt());
+        assertEquals(4, record.getAsJsonArray("Curves").size());
+    }
+
+    private static JsonObject parse() {
+        return JsonParser.parseString(RECORD).getAsJsonObject();
+    }
+}
@@ -0,0 +1,165 @@
+// Copyright 2017-2019, Schlumberger
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.opengroup.osdu.core.common.util;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time to read a property of a well log record through {@link CompiledJsonPath} versus splitting and parsing
+ * the property name on every call, as {@link JsonUtils} did before. {@code compiledOnce} leaves out the lookup of
+ * the compiled path by name. Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPathBenchmark {
+
+    private static final int CURVES = 50;
+
+    @Param({"TopMeasuredDepth.value", "Curves[].TopDepth.value", "Curves[25].BaseDepth.value"})
+    public String propertyName;
+
+    private JsonObject data;
+    private CompiledJsonPath path;
+
+    @Setup
+    public void setup() {
+        data = createWellLog(CURVES);
+        path = CompiledJsonPath.compile(propertyName);
+    }
+
+    @Benchmark
+    public List<JsonElement> splitOnEveryCall() {
+        return LegacyJsonPath.get(propertyName, data);
+    }
+
+    @Benchmark
+    public List<JsonElement> compiled() {
+        return CompiledJsonPath.compile(propertyName).get(data);
+    }
+
+    @Benchmark
+    public List<JsonElement> compiledOnce() {
+        return path.get(data);
+    }
+
+    @Benchmark
+    public boolean compiledExists() {
+        return CompiledJsonPath.compile(propertyName).exists(data);
+    }
+
+    private static JsonObject createWellLog(int curves) {
+        JsonObject data = new JsonObject();
+        data.addProperty("Name", "Well log 1");
+        data.addProperty("WellboreID", "opendes:master-data--Wellbore:1:");
+        data.add("TopMeasuredDepth", depth(1000.0));
+        data.add("BottomMeasuredDepth", depth(4500.0));
+        JsonArray array = new JsonArray();
+        for (int i = 0; i < curves; i++) {
+            JsonObject curve = new JsonObject();
+            curve.addProperty("CurveID", "CURVE-" + i);
+            curve.addProperty("Mnemonic", "GR" + i);
+            curve.add("TopDepth", depth(1000.0 + i));
+            curve.add("BaseDepth", depth(4500.0 - i));
+            curve.addProperty("CurveUnit", "opendes:reference-data--UnitOfMeasure:GAPI:");
+            array.add(curve);
+        }
+        data.add("Curves", array);
+        return data;
+    }
+
+    private static JsonObject depth(double value) {
+        JsonObject depth = new JsonObject();
+        depth.addProperty("value", value);
+        depth.addProperty("unitKey", "ft");
+        return depth;
+    }
+
+    /**
+     * The lookup of {@link JsonUtils#getJsonPropertyValueFromJsonObject} before paths were compiled.
+     */
+    private static final class LegacyJsonPath {
+
+        static List<JsonElement> get(String propertyName, JsonObject jsonObject) {
+            String[] names = JsonUtils.splitJsonPropertiesByDots(propertyName);
+            List<JsonElement> result = new ArrayList<>();
+            if (names[0].endsWith("]")) {
+                String[] innerNames = JsonUtils.getInnerNestedPropertyNames(names);
+                JsonArray array = jsonObject.getAsJsonArray(JsonUtils.getNestedJsonArrayName(names[0]));
+                if (JsonUtils.isNestedArrayElementHomogeneous(names[0])) {
+                    if (array == null) {
+                        return result;
+                    }
+                    for (int i = 0; i < array.size(); i++) {
+                        JsonElement element = array.get(i);
+                        result.add(element.isJsonObject() || element.isJsonArray()
+                                ? getNested(innerNames, element.getAsJsonObject()) : element);
+                    }
+                    return result;
+                }
+                int index = JsonUtils.getNestedArrayElementIndex(names[0]);
+                result.add(array == null || index < 0 || index >= array.size()
+                        ? null : getNested(innerNames, array.get(index).getAsJsonObject()));
+                return result;
+            }
+            result.add(getNested(names, jsonObject));
+            return result;
+        }
+
+        private static JsonElement getNested(String[] names, JsonObject jsonObject) {
+            JsonObject json = jsonObject;
+            for (int i = 0; i < names.length; i++) {
+                if (i == names.length - 1) {
+                    return json.get(names[i]);
+                }
+                JsonElement element = json.get(names[i]);
+                if (element == null || !element.isJsonObject()) {
+                    return null;
+                }
+                json = element.getAsJsonObject();
+            }
+            return json;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonPathBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}